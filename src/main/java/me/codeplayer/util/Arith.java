@@ -1,6 +1,10 @@
 package me.codeplayer.util;
 
 import java.math.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 
@@ -28,7 +32,20 @@ public class Arith {
 	/** 表示数值 100 000 000(一亿) 的 BigDecimal */
 	public static final BigDecimal HUNDRED_MILLION = new BigDecimal(10000_0000);
 	// property
+	/**
+	 * 当前数值
+	 * <p> <b>注意：</b>在累加器模式（参见 {@link #accumulator()}）下，当前数值可能只以紧凑形式（未缩放的 long 值 和 标度）存储，该字段可能为 null 或者已过期，
+	 * 请使用 {@link #toBigDecimal()} 获取当前数值
+	 */
 	protected BigDecimal value;
+	/** 是否为累加器模式 */
+	private boolean accumulator;
+	/** 累加器模式下，紧凑形式的数值（{@link #compactValue} × 10<sup>-{@link #compactScale}</sup>）是否有效 */
+	private boolean compact;
+	/** 累加器模式下，紧凑形式的未缩放的值 */
+	private long compactValue;
+	/** 累加器模式下，紧凑形式的标度，0 ~ {@link FixedDecimal#MAX_SCALE} */
+	private int compactScale;
 
 	/**
 	 * 构造一个为指定 double 值的商业计算数
@@ -79,13 +96,173 @@ public class Arith {
 		value = BigDecimal.ZERO;
 	}
 
+	/**
+	 * 构造一个初始值为 0 的累加器模式的商业计算数
+	 * <p> 在累加器模式下，只要数值在 long 的范围内（且小数位数不超过 {@link FixedDecimal#MAX_SCALE}），
+	 * 与 long、double 类型进行的 加、减、乘、除 以及 {@link #setScale(int, RoundingMode)} 等运算都会直接基于 未缩放的 long 值 和 标度 进行计算（类似于 {@link BigDecimal} 内部的紧凑表示），
+	 * 而不会在每一步运算时都创建新的 {@link BigDecimal}；只有在数值超出范围、与 {@link BigDecimal} 进行运算，或者需要获取 {@link BigDecimal} 时，才会自动转换。
+	 * <p> 所有运算的结果（包括标度）都与普通模式完全一致。配合 {@link #reset()} 方法，可以在循环中重复使用同一个实例：
+	 *
+	 * <pre><code>
+	 * Arith acc = Arith.accumulator();
+	 * for (Item item : items) {
+	 * 	acc.reset().add(item.getPrice()).multiply(item.getQuantity()).round(2);
+	 * 	item.setAmount(acc.toBigDecimal());
+	 * }
+	 * </code></pre>
+	 *
+	 * @since 4.3.3
+	 */
+	public static Arith accumulator() {
+		final Arith arith = new Arith();
+		arith.accumulator = true;
+		arith.compact = true;
+		return arith;
+	}
+
+	/**
+	 * 是否为累加器模式
+	 *
+	 * @see #accumulator()
+	 * @since 4.3.3
+	 */
+	public boolean isAccumulator() {
+		return accumulator;
+	}
+
+	/**
+	 * 将当前数值重置为 0，以便重复使用当前实例
+	 *
+	 * @since 4.3.3
+	 */
+	public Arith reset() {
+		value = BigDecimal.ZERO;
+		if (accumulator) {
+			compact = true;
+			compactValue = 0;
+			compactScale = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * 返回当前数值对应的 BigDecimal（累加器模式下，如果当前数值只以紧凑形式存储，则先进行转换）
+	 */
+	private BigDecimal inflate() {
+		BigDecimal val = value;
+		if (val == null) {
+			value = val = BigDecimal.valueOf(compactValue, compactScale);
+		}
+		return val;
+	}
+
+	/**
+	 * 累加器模式下，确保当前数值以紧凑形式存储
+	 *
+	 * @return 如果不是累加器模式，或者当前数值无法以紧凑形式表示，则返回 false
+	 */
+	private boolean deflate() {
+		if (compact) {
+			return true;
+		}
+		if (accumulator) {
+			final int scale = value.scale();
+			if (scale >= 0 && scale <= FixedDecimal.MAX_SCALE) {
+				final BigInteger unscaled = value.unscaledValue();
+				if (unscaled.bitLength() < 64) {
+					compactValue = unscaled.longValue();
+					compactScale = scale;
+					return compact = true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 以紧凑形式设置当前数值
+	 */
+	private Arith setCompact(long unscaled, int scale) {
+		compactValue = unscaled;
+		compactScale = scale;
+		compact = true;
+		value = null;
+		return this;
+	}
+
+	/**
+	 * 累加器模式下，尝试以紧凑形式计算 {@code 当前数值 + unscaled × 10^-scale}
+	 *
+	 * @return 如果无法以紧凑形式计算，则返回 false（此时当前数值保持不变）
+	 */
+	private boolean addCompact(long unscaled, int scale) {
+		if (deflate()) {
+			final int newScale = Math.max(compactScale, scale), diffA = newScale - compactScale, diffB = newScale - scale;
+			if (FixedDecimal.canScaleUp(compactValue, diffA) && FixedDecimal.canScaleUp(unscaled, diffB)) {
+				final long a = compactValue * FixedDecimal.POW10[diffA], b = unscaled * FixedDecimal.POW10[diffB], r = a + b;
+				if (((a ^ r) & (b ^ r)) >= 0) {
+					setCompact(r, newScale);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 累加器模式下，尝试以紧凑形式计算 {@code 当前数值 × unscaled × 10^-scale}
+	 *
+	 * @return 如果无法以紧凑形式计算，则返回 false（此时当前数值保持不变）
+	 */
+	private boolean multiplyCompact(long unscaled, int scale) {
+		if (deflate() && compactScale + scale <= FixedDecimal.MAX_SCALE) {
+			final long r = FixedDecimal.multiplyOrOverflow(compactValue, unscaled);
+			if (r != Long.MIN_VALUE) {
+				setCompact(r, compactScale + scale);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 累加器模式下，尝试以紧凑形式计算 {@code 当前数值 ÷ (unscaled × 10^-scale)}，并保留 newScale 位小数
+	 *
+	 * @return 如果无法以紧凑形式计算（包括除数为 0 的情况），则返回 false（此时当前数值保持不变）
+	 */
+	private boolean divideCompact(long unscaled, int scale, int newScale, RoundingMode roundingMode) {
+		if (unscaled != 0 && newScale >= 0 && newScale <= FixedDecimal.MAX_SCALE && deflate()) {
+			// 结果的未缩放值 = compactValue × 10^(newScale - compactScale + scale) ÷ unscaled
+			final int exp = newScale - compactScale + scale;
+			long dividend = compactValue, divisor = unscaled;
+			if (exp >= 0) {
+				if (exp > FixedDecimal.MAX_SCALE || !FixedDecimal.canScaleUp(dividend, exp)) {
+					return false;
+				}
+				dividend *= FixedDecimal.POW10[exp];
+			} else {
+				if (-exp > FixedDecimal.MAX_SCALE || !FixedDecimal.canScaleUp(divisor, -exp)) {
+					return false;
+				}
+				divisor *= FixedDecimal.POW10[-exp];
+			}
+			if (dividend == Long.MIN_VALUE && divisor == -1) {
+				return false;
+			}
+			setCompact(FixedDecimal.divideAndRound(dividend, divisor, roundingMode), newScale);
+			return true;
+		}
+		return false;
+	}
+
 	/**
 	 * 商业加法运算
 	 *
 	 * @param d 指定的加数
 	 */
 	public Arith add(BigDecimal d) {
-		value = value.add(d);
+		value = inflate().add(d);
+		compact = false;
 		return this;
 	}
 
@@ -104,6 +281,12 @@ public class Arith {
 	 * @param d 指定的加数
 	 */
 	public Arith add(double d) {
+		if (accumulator) {
+			final int scale = compactScaleOf(d);
+			if (scale >= 0 && addCompact(unscaledOf(d, scale), scale)) {
+				return this;
+			}
+		}
 		return add(toBigDecimal(d));
 	}
 
@@ -113,6 +296,9 @@ public class Arith {
 	 * @param d 指定的加数
 	 */
 	public Arith add(long d) {
+		if (accumulator && addCompact(d, 0)) {
+			return this;
+		}
 		return add(toBigDecimal(d));
 	}
 
@@ -122,7 +308,8 @@ public class Arith {
 	 * @param d 指定的减数
 	 */
 	public Arith minus(BigDecimal d) {
-		value = value.subtract(d);
+		value = inflate().subtract(d);
+		compact = false;
 		return this;
 	}
 
@@ -141,6 +328,15 @@ public class Arith {
 	 * @param d 指定的减数
 	 */
 	public Arith minus(double d) {
+		if (accumulator) {
+			final int scale = compactScaleOf(d);
+			if (scale >= 0) {
+				final long unscaled = unscaledOf(d, scale);
+				if (unscaled != Long.MIN_VALUE && addCompact(-unscaled, scale)) {
+					return this;
+				}
+			}
+		}
 		return minus(toBigDecimal(d));
 	}
 
@@ -150,6 +346,9 @@ public class Arith {
 	 * @param d 指定的减数
 	 */
 	public Arith minus(long d) {
+		if (accumulator && d != Long.MIN_VALUE && addCompact(-d, 0)) {
+			return this;
+		}
 		return minus(toBigDecimal(d));
 	}
 
@@ -160,7 +359,8 @@ public class Arith {
 	 * @throws ArithmeticException 如果无法除尽或除数为0则会抛出该异常，无法除尽时请使用{@link #divide(BigDecimal, int, RoundingMode)}替代
 	 */
 	public Arith multiply(BigDecimal d) throws ArithmeticException {
-		value = value.multiply(d);
+		value = inflate().multiply(d);
+		compact = false;
 		return this;
 	}
 
@@ -179,6 +379,12 @@ public class Arith {
 	 * @param d 指定的乘数
 	 */
 	public Arith multiply(double d) {
+		if (accumulator) {
+			final int scale = compactScaleOf(d);
+			if (scale >= 0 && multiplyCompact(unscaledOf(d, scale), scale)) {
+				return this;
+			}
+		}
 		return multiply(toBigDecimal(d));
 	}
 
@@ -188,6 +394,9 @@ public class Arith {
 	 * @param d 指定的乘数
 	 */
 	public Arith multiply(long d) {
+		if (accumulator && multiplyCompact(d, 0)) {
+			return this;
+		}
 		return multiply(toBigDecimal(d));
 	}
 
@@ -199,7 +408,8 @@ public class Arith {
 	 * @deprecated 不建议使用，请使用{@link #divide(BigDecimal, int, RoundingMode)}替代
 	 */
 	public Arith divide(BigDecimal d) throws ArithmeticException {
-		value = value.divide(d);
+		value = inflate().divide(d);
+		compact = false;
 		return this;
 	}
 
@@ -244,7 +454,8 @@ public class Arith {
 	 * @param roundingMode 设置应用的舍入模式(四舍五入、向上舍入、向下舍去等)
 	 */
 	public Arith divide(BigDecimal d, int scale, RoundingMode roundingMode) {
-		value = value.divide(d, scale, roundingMode);
+		value = inflate().divide(d, scale, roundingMode);
+		compact = false;
 		return this;
 	}
 
@@ -267,6 +478,12 @@ public class Arith {
 	 * @param roundingMode 设置应用的舍入模式(四舍五入、向上舍入、向下舍去等)
 	 */
 	public Arith divide(double d, int scale, RoundingMode roundingMode) {
+		if (accumulator) {
+			final int dScale = compactScaleOf(d);
+			if (dScale >= 0 && divideCompact(unscaledOf(d, dScale), dScale, scale, roundingMode)) {
+				return this;
+			}
+		}
 		return divide(toBigDecimal(d), scale, roundingMode);
 	}
 
@@ -278,6 +495,9 @@ public class Arith {
 	 * @param roundingMode 设置应用的舍入模式(四舍五入、向上舍入、向下舍去等)
 	 */
 	public Arith divide(long d, int scale, RoundingMode roundingMode) {
+		if (accumulator && divideCompact(d, 0, scale, roundingMode)) {
+			return this;
+		}
 		return divide(toBigDecimal(d), scale, roundingMode);
 	}
 
@@ -308,7 +528,7 @@ public class Arith {
 	 * @param scale 指定的精确位数
 	 */
 	public Arith divideRound(double d, int scale) {
-		return divide(toBigDecimal(d), scale, RoundingMode.HALF_UP);
+		return divide(d, scale, RoundingMode.HALF_UP);
 	}
 
 	/**
@@ -318,7 +538,7 @@ public class Arith {
 	 * @param scale 指定的精确位数
 	 */
 	public Arith divideRound(long d, int scale) {
-		return divide(toBigDecimal(d), scale, RoundingMode.HALF_UP);
+		return divide(d, scale, RoundingMode.HALF_UP);
 	}
 
 	/**
@@ -328,7 +548,17 @@ public class Arith {
 	 * @param roundingMode 设置应用的舍入模式(四舍五入、向上舍入、向下舍去等)
 	 */
 	public Arith setScale(int newScale, RoundingMode roundingMode) {
-		value = value.setScale(newScale, roundingMode);
+		if (accumulator && newScale >= 0 && newScale <= FixedDecimal.MAX_SCALE && deflate()) {
+			if (newScale < compactScale) {
+				return setCompact(FixedDecimal.divideAndRound(compactValue, FixedDecimal.POW10[compactScale - newScale], roundingMode), newScale);
+			}
+			final int diff = newScale - compactScale;
+			if (FixedDecimal.canScaleUp(compactValue, diff)) {
+				return setCompact(compactValue * FixedDecimal.POW10[diff], newScale);
+			}
+		}
+		value = inflate().setScale(newScale, roundingMode);
+		compact = false;
 		return this;
 	}
 
@@ -400,70 +630,81 @@ public class Arith {
 	 * 转换为 BigDecimal
 	 */
 	public BigDecimal toBigDecimal() {
-		return value;
+		return inflate();
 	}
 
 	/**
 	 * 转换为 BigDecimal
 	 */
 	public BigDecimal value() {
-		return value;
+		return inflate();
+	}
+
+	/**
+	 * 转换为指定标度的定点小数
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link FixedDecimal#MAX_SCALE}
+	 * @param roundingMode 小数位数超出指定标度时的舍入模式
+	 * @since 4.3.3
+	 */
+	public FixedDecimal toFixedDecimal(int scale, RoundingMode roundingMode) {
+		return FixedDecimal.valueOf(inflate(), scale, roundingMode);
 	}
 
 	/**
 	 * 转换为 BigInteger
 	 */
 	public BigInteger toBigInteger() {
-		return value.toBigInteger();
+		return inflate().toBigInteger();
 	}
 
 	/**
 	 * 转换为 double 值
 	 */
 	public double doubleValue() {
-		return value.doubleValue();
+		return inflate().doubleValue();
 	}
 
 	/**
 	 * 转换为四舍五入精确到指定小数位的 double 值
 	 */
 	public double doubleValue(int scale) {
-		return value.setScale(scale, RoundingMode.HALF_UP).doubleValue();
+		return inflate().setScale(scale, RoundingMode.HALF_UP).doubleValue();
 	}
 
 	/**
 	 * 转换为 int 值
 	 */
 	public int intValue() {
-		return value.intValue();
+		return inflate().intValue();
 	}
 
 	/**
 	 * 转换为 long 值
 	 */
 	public long longValue() {
-		return value.longValue();
+		return inflate().longValue();
 	}
 
 	/**
 	 * 转换为 float 值
 	 */
 	public float floatValue() {
-		return value.floatValue();
+		return inflate().floatValue();
 	}
 
 	/**
 	 * 转换为 byte 值
 	 */
 	public byte byteValue() {
-		return value.byteValue();
+		return inflate().byteValue();
 	}
 
 	/**
 	 * 转换为 short 值
 	 */
 	public short shortValue() {
-		return value.shortValue();
+		return inflate().shortValue();
 	}
 
 	/**
@@ -602,6 +843,318 @@ public class Arith {
 		return (long) Math.floor(d);
 	}
 
+	/**
+	 * 批量运算（{@code sum()}、{@code average()}、{@code weightedSum()}、{@code even()} 等）自动切换为并行处理的默认元素个数阈值，
+	 * 可以通过系统属性 {@code me.codeplayer.util.Arith.parallelThreshold} 进行配置
+	 *
+	 * @since 4.3.3
+	 */
+	public static final int PARALLEL_THRESHOLD = Integer.getInteger("me.codeplayer.util.Arith.parallelThreshold", 1 << 16);
+
+	/**
+	 * 基于补偿求和算法（Kahan-Neumaier）计算所有 double 值的和，结果的误差远小于直接循环累加的误差
+	 * <p> 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算
+	 *
+	 * @see #sumExact(double[])
+	 * @since 4.3.3
+	 */
+	public static double sum(double[] values) {
+		return sum(values, PARALLEL_THRESHOLD);
+	}
+
+	static double sum(double[] values, int threshold) {
+		final double[] r = ParallelRange.reduce(values.length, threshold, (from, to) -> {
+			double sum = 0, c = 0;
+			for (int i = from; i < to; i++) {
+				final double v = values[i], t = sum + v;
+				c += Math.abs(sum) >= Math.abs(v) ? (sum - t) + v : (v - t) + sum;
+				sum = t;
+			}
+			return new double[] { sum, c };
+		}, Arith::mergeCompensated);
+		return compensatedResult(r);
+	}
+
+	/**
+	 * 合并两个补偿求和的中间结果：<code>{ 和, 补偿值 }</code>
+	 */
+	static double[] mergeCompensated(double[] a, double[] b) {
+		final double x = a[0], y = b[0], t = x + y;
+		final double c = Math.abs(x) >= Math.abs(y) ? (x - t) + y : (y - t) + x;
+		return new double[] { t, a[1] + b[1] + c };
+	}
+
+	static double compensatedResult(double[] r) {
+		final double result = r[0] + r[1];
+		// 如果存在无穷大，补偿值将为 NaN
+		return Double.isNaN(result) && Double.isInfinite(r[0]) ? r[0] : result;
+	}
+
+	/**
+	 * 精确计算所有 double 值的和，结果（包括标度）与 <code>new Arith().add(values[0]).add(values[1])...add(values[n - 1]).toBigDecimal()</code> 完全一致
+	 * <p> 内部使用 {@link #accumulator() 累加器模式} 进行计算，常规的金额数值都不会创建中间的 {@link BigDecimal} 对象。
+	 * 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算
+	 *
+	 * @since 4.3.3
+	 */
+	public static BigDecimal sumExact(double[] values) {
+		return sumExact(values, PARALLEL_THRESHOLD);
+	}
+
+	static BigDecimal sumExact(double[] values, int threshold) {
+		return ParallelRange.reduce(values.length, threshold, (from, to) -> {
+			final Arith acc = accumulator();
+			for (int i = from; i < to; i++) {
+				acc.add(values[i]);
+			}
+			return acc.toBigDecimal();
+		}, BigDecimal::add);
+	}
+
+	/**
+	 * 基于补偿求和算法计算所有 double 值的平均值
+	 *
+	 * @return 如果数组为空，则返回 {@link Double#NaN}
+	 * @see #sum(double[])
+	 * @since 4.3.3
+	 */
+	public static double average(double[] values) {
+		return sum(values) / values.length;
+	}
+
+	/**
+	 * 基于补偿求和算法计算 <code>values[0] * weights[0] + values[1] * weights[1] + ... + values[n - 1] * weights[n - 1]</code>（每个乘积的舍入误差也会被补偿）
+	 *
+	 * @param weights 权重数组，长度必须与 {@code values} 相同
+	 * @since 4.3.3
+	 */
+	public static double weightedSum(double[] values, double[] weights) {
+		return weightedSum(values, weights, PARALLEL_THRESHOLD);
+	}
+
+	static double weightedSum(double[] values, double[] weights, int threshold) {
+		Assert.isTrue(values.length == weights.length, "The length of values and weights must be equal");
+		final double[] r = ParallelRange.reduce(values.length, threshold, (from, to) -> {
+			double sum = 0, c = 0;
+			for (int i = from; i < to; i++) {
+				final double a = values[i], b = weights[i], v = a * b, t = sum + v;
+				c += Math.abs(sum) >= Math.abs(v) ? (sum - t) + v : (v - t) + sum;
+				c += productError(a, b, v);
+				sum = t;
+			}
+			return new double[] { sum, c };
+		}, Arith::mergeCompensated);
+		return compensatedResult(r);
+	}
+
+	/**
+	 * 基于 Dekker 算法计算乘积 {@code p = a * b} 的舍入误差，即：<code>a × b - p</code> 的精确值（Java 9+ 中可使用 {@code Math.fma(a, b, -p)} 替代）
+	 */
+	static double productError(double a, double b, double p) {
+		final double split = 134217729.0; // 2^27 + 1
+		double t = split * a;
+		final double aHigh = t - (t - a), aLow = a - aHigh;
+		t = split * b;
+		final double bHigh = t - (t - b), bLow = b - bHigh;
+		final double error = ((aHigh * bHigh - p) + aHigh * bLow + aLow * bHigh) + aLow * bLow;
+		// 数值过大时，拆分过程可能溢出
+		return Double.isFinite(error) ? error : 0;
+	}
+
+	/**
+	 * 以 {@link RoundingMode#HALF_EVEN} 的方式将数组中的每个元素都精确到指定的小数位数（直接修改并返回原数组）
+	 * <p> 每个元素的结果都与 {@link #even(double, int)} 完全一致，但常规数值不会创建任何 {@link BigDecimal} 对象。
+	 * 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算
+	 *
+	 * @param scale 指定的小数精确位数
+	 * @since 4.3.3
+	 */
+	public static double[] even(double[] values, int scale) {
+		return even(values, scale, PARALLEL_THRESHOLD);
+	}
+
+	static double[] even(double[] values, int scale, int threshold) {
+		ParallelRange.reduce(values.length, threshold, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				final double v = values[i];
+				final int valueScale = scale >= 0 && scale <= FixedDecimal.MAX_SCALE ? compactScaleOf(v) : -1;
+				if (valueScale == 0) {
+					values[i] = (long) v; // 与 BigDecimal 一致，-0.0 将转换为 0.0
+				} else if (valueScale > 0) {
+					if (valueScale > scale) {
+						final long unscaled = FixedDecimal.divideAndRound(unscaledOf(v, valueScale), FixedDecimal.POW10[valueScale - scale], RoundingMode.HALF_EVEN);
+						// 被除数 和 除数 都可以精确地表示为 double，因此结果是正确舍入的
+						values[i] = unscaled / (double) FixedDecimal.POW10[scale];
+					}
+				} else {
+					values[i] = even(v, scale);
+				}
+			}
+			return null;
+		}, (a, b) -> null);
+		return values;
+	}
+
+	/**
+	 * 计算所有定点小数的和（结果是精确的，超出 long 的范围时会自动回退为使用 {@link BigDecimal} 进行计算）
+	 * <p> 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算
+	 *
+	 * @param unscaledValues 所有定点小数的未缩放值（参见 {@link FixedDecimal#unscaledValue()}）
+	 * @param scale 所有定点小数共同的标度
+	 * @since 4.3.3
+	 */
+	public static FixedDecimal sum(long[] unscaledValues, int scale) {
+		return sum(unscaledValues, scale, PARALLEL_THRESHOLD);
+	}
+
+	static FixedDecimal sum(long[] unscaledValues, int scale, int threshold) {
+		FixedDecimal.checkScale(scale);
+		return ParallelRange.reduce(unscaledValues.length, threshold, (from, to) -> {
+			long sum = 0;
+			BigDecimal overflow = null;
+			for (int i = from; i < to; i++) {
+				final long v = unscaledValues[i], r = sum + v;
+				if (((sum ^ r) & (v ^ r)) < 0) {
+					overflow = overflow == null ? BigDecimal.valueOf(sum, scale) : overflow.add(BigDecimal.valueOf(sum, scale));
+					sum = v;
+				} else {
+					sum = r;
+				}
+			}
+			return overflow == null ? new FixedDecimal(sum, scale, null) : FixedDecimal.of(overflow.add(BigDecimal.valueOf(sum, scale)));
+		}, FixedDecimal::add);
+	}
+
+	/**
+	 * 计算所有定点小数的平均值，结果保持为指定的标度
+	 *
+	 * @param unscaledValues 所有定点小数的未缩放值（参见 {@link FixedDecimal#unscaledValue()}）
+	 * @param scale 所有定点小数共同的标度
+	 * @param roundingMode 平均值的小数位数超出指定标度时的舍入模式
+	 * @throws ArithmeticException 如果数组为空
+	 * @since 4.3.3
+	 */
+	public static FixedDecimal average(long[] unscaledValues, int scale, RoundingMode roundingMode) {
+		return sum(unscaledValues, scale).divide(unscaledValues.length, roundingMode);
+	}
+
+	/**
+	 * 计算 <code>values[0] * weights[0] + values[1] * weights[1] + ... + values[n - 1] * weights[n - 1]</code>，例如：根据 单价 和 数量 计算总金额（结果是精确的）
+	 * <p> 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算
+	 *
+	 * @param unscaledValues 所有定点小数的未缩放值（参见 {@link FixedDecimal#unscaledValue()}）
+	 * @param scale 所有定点小数共同的标度
+	 * @param weights 整数权重数组，长度必须与 {@code unscaledValues} 相同
+	 * @since 4.3.3
+	 */
+	public static FixedDecimal weightedSum(long[] unscaledValues, int scale, long[] weights) {
+		return weightedSum(unscaledValues, scale, weights, PARALLEL_THRESHOLD);
+	}
+
+	static FixedDecimal weightedSum(long[] unscaledValues, int scale, long[] weights, int threshold) {
+		FixedDecimal.checkScale(scale);
+		Assert.isTrue(unscaledValues.length == weights.length, "The length of values and weights must be equal");
+		return ParallelRange.reduce(unscaledValues.length, threshold, (from, to) -> {
+			long sum = 0;
+			BigDecimal overflow = null;
+			for (int i = from; i < to; i++) {
+				final long v = FixedDecimal.multiplyOrOverflow(unscaledValues[i], weights[i]), r = sum + v;
+				if (v == Long.MIN_VALUE) {
+					final BigDecimal product = BigDecimal.valueOf(unscaledValues[i], scale).multiply(BigDecimal.valueOf(weights[i]));
+					overflow = overflow == null ? product : overflow.add(product);
+				} else if (((sum ^ r) & (v ^ r)) < 0) {
+					overflow = overflow == null ? BigDecimal.valueOf(sum, scale) : overflow.add(BigDecimal.valueOf(sum, scale));
+					sum = v;
+				} else {
+					sum = r;
+				}
+			}
+			return overflow == null ? new FixedDecimal(sum, scale, null) : FixedDecimal.of(overflow.add(BigDecimal.valueOf(sum, scale)));
+		}, FixedDecimal::add);
+	}
+
+	/**
+	 * 计算所有 BigDecimal 的和（null 元素视为 0）
+	 * <p> 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算
+	 *
+	 * @since 4.3.3
+	 */
+	public static BigDecimal sum(@Nullable BigDecimal[] values) {
+		return sum(Arrays.asList(values), Function.identity(), PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * 计算所有 BigDecimal 的平均值（null 元素视为 0）
+	 *
+	 * @param scale 平均值的小数位数
+	 * @param roundingMode 舍入模式
+	 * @throws ArithmeticException 如果数组为空
+	 * @since 4.3.3
+	 */
+	public static BigDecimal average(@Nullable BigDecimal[] values, int scale, RoundingMode roundingMode) {
+		return sum(values).divide(toBigDecimal(values.length), scale, roundingMode);
+	}
+
+	/**
+	 * 计算集合中所有元素指定属性值的和（属性值为 null 时视为 0）
+	 * <p> 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算，此时 {@code extractor} 将在多个线程中被同时调用，因此它必须是线程安全的
+	 *
+	 * @param extractor 属性值的提取器
+	 * @since 4.3.3
+	 */
+	public static <T> BigDecimal sum(Collection<T> c, Function<? super T, ? extends @Nullable BigDecimal> extractor) {
+		return sum(c, extractor, PARALLEL_THRESHOLD);
+	}
+
+	static <T> BigDecimal sum(Collection<T> c, Function<? super T, ? extends @Nullable BigDecimal> extractor, int threshold) {
+		final List<T> list = ParallelRange.asRandomAccessList(c);
+		return ParallelRange.reduce(list.size(), threshold, (from, to) -> {
+			BigDecimal sum = BigDecimal.ZERO;
+			for (int i = from; i < to; i++) {
+				final BigDecimal v = extractor.apply(list.get(i));
+				if (v != null) {
+					sum = sum.add(v);
+				}
+			}
+			return sum;
+		}, BigDecimal::add);
+	}
+
+	/**
+	 * 计算集合中所有元素指定属性值的平均值（属性值为 null 时视为 0）
+	 *
+	 * @param extractor 属性值的提取器
+	 * @param scale 平均值的小数位数
+	 * @param roundingMode 舍入模式
+	 * @throws ArithmeticException 如果集合为空
+	 * @see #sum(Collection, Function)
+	 * @since 4.3.3
+	 */
+	public static <T> BigDecimal average(Collection<T> c, Function<? super T, ? extends @Nullable BigDecimal> extractor, int scale, RoundingMode roundingMode) {
+		return sum(c, extractor).divide(toBigDecimal(c.size()), scale, roundingMode);
+	}
+
+	/**
+	 * 计算集合中所有元素的 属性值 × 权重 之和，例如：根据 单价 和 数量 计算总金额（属性值 或 权重 为 null 时，该元素将被忽略）
+	 * <p> 元素个数超过 {@link #PARALLEL_THRESHOLD} 时，将基于 {@link ForkJoinPool#commonPool()} 并行计算，此时 {@code extractor} 和 {@code weightExtractor} 必须是线程安全的
+	 *
+	 * @param extractor 属性值的提取器
+	 * @param weightExtractor 权重的提取器
+	 * @since 4.3.3
+	 */
+	public static <T> BigDecimal weightedSum(Collection<T> c, Function<? super T, ? extends @Nullable BigDecimal> extractor, Function<? super T, ? extends @Nullable BigDecimal> weightExtractor) {
+		return sum(c, t -> {
+			final BigDecimal v = extractor.apply(t);
+			if (v != null) {
+				final BigDecimal weight = weightExtractor.apply(t);
+				if (weight != null) {
+					return v.multiply(weight);
+				}
+			}
+			return null;
+		});
+	}
+
 	/**
 	 * 判断两个数值 a 和 b 的大小
 	 *
@@ -686,7 +1239,7 @@ public class Arith {
 	 */
 	@Override
 	public String toString() {
-		return value.toPlainString();
+		return inflate().toPlainString();
 	}
 
 	/**
@@ -695,14 +1248,14 @@ public class Arith {
 	 * @see BigDecimal#toString()
 	 */
 	public String toRawString() {
-		return value.toString();
+		return inflate().toString();
 	}
 
 	/**
 	 * 输出以四舍五入模式保留指定小数位精度的数值字符串
 	 */
 	public String toString(int scale) {
-		return value.setScale(scale, RoundingMode.HALF_UP).toPlainString();
+		return inflate().setScale(scale, RoundingMode.HALF_UP).toPlainString();
 		// return value.divide(BigDecimal.ONE, scale, RoundingMode.HALF_UP).toString();
 	}
 
@@ -746,6 +1299,37 @@ public class Arith {
 		return n == val ? toBigDecimal(n) : BigDecimal.valueOf(val);
 	}
 
+	/**
+	 * 如果指定的 double 值转换为 BigDecimal 后（参见 {@link #toBigDecimal(double)}），可以用 绝对值较小的 long 型未缩放值 以及 不超过 9 的标度 精确地表示，则返回该标度，否则返回 -1
+	 * <p> 对应的未缩放值可通过 {@link #unscaledOf(double, int)} 获取。该方法不会像 {@link BigDecimal#valueOf(double)} 那样进行 double 与 字符串 之间的转换
+	 */
+	static int compactScaleOf(double val) {
+		if ((long) val == val) {
+			return 0;
+		}
+		final double abs = Math.abs(val);
+		// Double.toString() 只在该范围内不使用科学计数法，超出该范围时 BigDecimal 的标度会有所不同
+		if (abs >= 1e-3 && abs < 1e7) {
+			final double ulp = Math.ulp(val);
+			// 保证 10^-scale 大于 2 倍的 ulp，此时最多只有一个 scale 位小数可以精确地还原为 val，即为 Double.toString() 输出的最短小数
+			for (int scale = 1; scale <= 9 && ulp * FixedDecimal.POW10[scale] < 0.5; scale++) {
+				if (Math.round(val * FixedDecimal.POW10[scale]) / (double) FixedDecimal.POW10[scale] == val) {
+					return scale;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 返回指定的 double 值在指定标度下的未缩放值
+	 *
+	 * @param scale 通过 {@link #compactScaleOf(double)} 获取的标度
+	 */
+	static long unscaledOf(double val, int scale) {
+		return scale == 0 ? (long) val : Math.round(val * FixedDecimal.POW10[scale]);
+	}
+
 	/**
 	 * 将指定的整数转换为对应的 BigDecimal（内部对于常用数值进行缓存处理）
 	 *
@@ -4,7 +4,6 @@ import java.lang.reflect.Array;
 import java.util.*;
 import java.util.function.*;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -308,7 +307,101 @@ public abstract class ArrayX {
 	 * @since 0.3.5
 	 */
 	public static boolean in(int value, int... array) {
-		return ArrayUtils.indexOf(array, value) != ArrayUtils.INDEX_NOT_FOUND;
+		return array != null && indexOf(array, 0, array.length, value) != -1;
+	}
+
+	/**
+	 * 在整数数组的指定范围内查找指定的值（数据量较大、并且启用了 Vector API 时，将使用向量化的实现）
+	 *
+	 * @param fromIndex 开始位置（包含）
+	 * @param toIndex 结束位置（不包含）
+	 * @return 第一次出现的索引，如果不存在，则返回 -1
+	 * @throws IndexOutOfBoundsException 如果索引超出范围
+	 * @since 4.3.3
+	 */
+	public static int indexOf(int[] array, int fromIndex, int toIndex, int value) {
+		checkFromToIndex(fromIndex, toIndex, array.length);
+		if (VectorKernels.ENABLED && toIndex - fromIndex >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.indexOf(array, fromIndex, toIndex, value);
+		}
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 在长整数数组的指定范围内查找指定的值（数据量较大、并且启用了 Vector API 时，将使用向量化的实现）
+	 *
+	 * @param fromIndex 开始位置（包含）
+	 * @param toIndex 结束位置（不包含）
+	 * @return 第一次出现的索引，如果不存在，则返回 -1
+	 * @throws IndexOutOfBoundsException 如果索引超出范围
+	 * @since 4.3.3
+	 */
+	public static int indexOf(long[] array, int fromIndex, int toIndex, long value) {
+		checkFromToIndex(fromIndex, toIndex, array.length);
+		if (VectorKernels.ENABLED && toIndex - fromIndex >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.indexOf(array, fromIndex, toIndex, value);
+		}
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 在字节数组的指定范围内查找指定的值（数据量较大、并且启用了 Vector API 时，将使用向量化的实现）
+	 *
+	 * @param fromIndex 开始位置（包含）
+	 * @param toIndex 结束位置（不包含）
+	 * @return 第一次出现的索引，如果不存在，则返回 -1
+	 * @throws IndexOutOfBoundsException 如果索引超出范围
+	 * @since 4.3.3
+	 */
+	public static int indexOf(byte[] array, int fromIndex, int toIndex, byte value) {
+		checkFromToIndex(fromIndex, toIndex, array.length);
+		if (VectorKernels.ENABLED && toIndex - fromIndex >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.indexOf(array, fromIndex, toIndex, value);
+		}
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 在字符数组的指定范围内查找指定的值（数据量较大、并且启用了 Vector API 时，将使用向量化的实现）
+	 *
+	 * @param fromIndex 开始位置（包含）
+	 * @param toIndex 结束位置（不包含）
+	 * @return 第一次出现的索引，如果不存在，则返回 -1
+	 * @throws IndexOutOfBoundsException 如果索引超出范围
+	 * @since 4.3.3
+	 */
+	public static int indexOf(char[] array, int fromIndex, int toIndex, char value) {
+		checkFromToIndex(fromIndex, toIndex, array.length);
+		if (VectorKernels.ENABLED && toIndex - fromIndex >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.indexOf(array, fromIndex, toIndex, value);
+		}
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static void checkFromToIndex(int fromIndex, int toIndex, int length) {
+		if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+			throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", length: " + length);
+		}
 	}
 
 	/**
@@ -0,0 +1,174 @@
+package me.codeplayer.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 基于 CAS 发布数据的懒加载缓存数据加载器，不使用 synchronized 监视器锁，因此不会导致虚拟线程被钉住（pinning）
+ * <p> 如果开启了 <b>single-flight</b> 模式，则同一时刻最多只有一个线程执行加载，其他并发调用的线程将等待共享的 {@link CompletableFuture}；
+ * 否则并发调用的线程可能会同时执行加载，但最终只有一个值会被发布。
+ *
+ * @see LazyCacheLoader
+ * @since 4.3.3
+ */
+public class AtomicLazyCacheLoader<E> implements CacheLoader<E> {
+
+	@SuppressWarnings("rawtypes")
+	static final AtomicReferenceFieldUpdater<AtomicLazyCacheLoader, Object> VALUE = AtomicReferenceFieldUpdater.newUpdater(AtomicLazyCacheLoader.class, Object.class, "value");
+
+	static final Object uninitialized = LazyCacheLoader.uninitialized;
+	//
+	protected transient volatile Object value = uninitialized;
+	protected final Supplier<E> loader;
+	protected final boolean singleFlight;
+	/** 统计数据记录器，为 null 表示未开启统计 */
+	@Nullable
+	protected transient CacheStatsRecorder statsRecorder;
+
+	/**
+	 * @param singleFlight 是否开启 single-flight 模式
+	 * @param loader 数据加载器
+	 */
+	public AtomicLazyCacheLoader(boolean singleFlight, Supplier<E> loader) {
+		this.loader = Assert.notNull(loader);
+		this.singleFlight = singleFlight;
+	}
+
+	/**
+	 * 构造一个开启了 single-flight 模式的加载器
+	 */
+	public AtomicLazyCacheLoader(Supplier<E> loader) {
+		this(true, loader);
+	}
+
+	/**
+	 * 开启缓存统计，并使用指定的记录器记录统计数据（多个加载器可以共享同一个记录器）
+	 *
+	 * @param recorder 为 null 时表示关闭统计
+	 */
+	public AtomicLazyCacheLoader<E> recordStats(@Nullable CacheStatsRecorder recorder) {
+		this.statsRecorder = recorder;
+		return this;
+	}
+
+	/**
+	 * 开启缓存统计
+	 */
+	public AtomicLazyCacheLoader<E> recordStats() {
+		return recordStats(new CacheStatsRecorder());
+	}
+
+	@Nullable
+	@Override
+	public CacheStats stats() {
+		final CacheStatsRecorder recorder = statsRecorder;
+		return recorder == null ? null : recorder.snapshot();
+	}
+
+	protected final boolean casValue(Object expect, Object update) {
+		return VALUE.compareAndSet(this, expect, update);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get() {
+		final Object val = value;
+		if (val != uninitialized && !(val instanceof Loading)) {
+			final CacheStatsRecorder recorder = statsRecorder;
+			if (recorder != null) {
+				recorder.recordHit();
+			}
+			return (E) val;
+		}
+		return load(val);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected E load(Object val) {
+		final CacheStatsRecorder recorder = statsRecorder;
+		if (recorder != null) {
+			recorder.recordMiss();
+		}
+		for (; ; ) {
+			if (val instanceof Loading) {
+				final Loading loading = (Loading) val;
+				if (loading.owner == Thread.currentThread()) { // 否则将等待自身的加载结果，导致死锁
+					throw new IllegalStateException("The loader must not call get() on the same cache loader recursively");
+				}
+				return (E) loading.await();
+			}
+			if (val != uninitialized) {
+				return (E) val;
+			}
+			if (!singleFlight) {
+				final E loaded = CacheStatsRecorder.load(recorder, loader);
+				if (casValue(uninitialized, loaded)) {
+					return loaded;
+				}
+			} else {
+				final Loading loading = new Loading();
+				if (casValue(uninitialized, loading)) {
+					final E loaded;
+					try {
+						loaded = CacheStatsRecorder.load(recorder, loader);
+					} catch (RuntimeException | Error e) {
+						casValue(loading, uninitialized);
+						loading.completeExceptionally(e);
+						throw e;
+					}
+					// 如果加载期间被 flush，则不再发布该值
+					casValue(loading, loaded);
+					loading.complete(loaded);
+					return loaded;
+				}
+			}
+			val = value;
+		}
+	}
+
+	@Override
+	public boolean flushRequired() {
+		final Object val = value;
+		return val == uninitialized || val instanceof Loading;
+	}
+
+	@Override
+	public E flush(boolean lazy) {
+		if (lazy) {
+			value = uninitialized;
+			return null;
+		}
+		final E val = CacheStatsRecorder.load(statsRecorder, loader);
+		value = val;
+		return val;
+	}
+
+	/**
+	 * 表示正在加载中的占位对象，其他线程可以等待其加载结果
+	 */
+	static final class Loading extends CompletableFuture<Object> {
+
+		/** 执行加载的线程 */
+		final Thread owner = Thread.currentThread();
+
+		Object await() {
+			try {
+				return join();
+			} catch (CompletionException e) {
+				final Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw e;
+			}
+		}
+
+	}
+
+}
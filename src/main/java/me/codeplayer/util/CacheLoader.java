@@ -2,6 +2,8 @@ package me.codeplayer.util;
 
 import java.util.function.*;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * 缓存数据加载器
  *
@@ -14,4 +16,15 @@ public interface CacheLoader<E> extends Supplier<E> {
 
 	E flush(boolean lazy);
 
-}
\ No newline at end of file
+	/**
+	 * 获取缓存统计数据的快照
+	 *
+	 * @return 如果未开启统计，则返回 null
+	 * @since 4.3.3
+	 */
+	@Nullable
+	default CacheStats stats() {
+		return null;
+	}
+
+}
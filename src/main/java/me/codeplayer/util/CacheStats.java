@@ -0,0 +1,103 @@
+package me.codeplayer.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 缓存统计数据的不可变快照
+ *
+ * @see CacheStatsRecorder#snapshot()
+ * @since 4.3.3
+ */
+public final class CacheStats {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long maxLoadTime;
+
+	public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime, long maxLoadTime) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.maxLoadTime = maxLoadTime;
+	}
+
+	/** 缓存命中的次数 */
+	public long hitCount() {
+		return hitCount;
+	}
+
+	/** 缓存未命中（需要刷新）的次数 */
+	public long missCount() {
+		return missCount;
+	}
+
+	/** 获取数据的总次数 */
+	public long requestCount() {
+		return hitCount + missCount;
+	}
+
+	/** 缓存命中率，没有任何请求时返回 1.0 */
+	public double hitRate() {
+		final long requestCount = requestCount();
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/** 成功加载的次数 */
+	public long loadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/** 加载失败（抛出异常）的次数 */
+	public long loadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/** 加载的总次数 */
+	public long loadCount() {
+		return loadSuccessCount + loadFailureCount;
+	}
+
+	/** 所有加载的总耗时（纳秒） */
+	public long totalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/** 单次加载的最大耗时（纳秒） */
+	public long maxLoadTime() {
+		return maxLoadTime;
+	}
+
+	/** 单次加载的平均耗时（纳秒），没有任何加载时返回 0.0 */
+	public double averageLoadPenalty() {
+		final long loadCount = loadCount();
+		return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * 转为 Map 形式，便于导出至各类监控系统
+	 */
+	public Map<String, Number> toMap() {
+		final Map<String, Number> map = new LinkedHashMap<>(16);
+		map.put("hitCount", hitCount);
+		map.put("missCount", missCount);
+		map.put("hitRate", hitRate());
+		map.put("loadSuccessCount", loadSuccessCount);
+		map.put("loadFailureCount", loadFailureCount);
+		map.put("totalLoadTime", totalLoadTime);
+		map.put("maxLoadTime", maxLoadTime);
+		map.put("averageLoadPenalty", averageLoadPenalty());
+		return map;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats" + toMap();
+	}
+
+}
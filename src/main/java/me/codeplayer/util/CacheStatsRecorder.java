@@ -0,0 +1,123 @@
+package me.codeplayer.util;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 缓存统计数据的记录器，内部基于分段的 {@link LongAdder} 计数，可以在高并发下低开销地记录数据
+ * <p> 同一个记录器可以被多个 {@link CacheLoader} 共享，以便汇总统计数据。调用 {@link #snapshot()} 可以获取统计数据的快照
+ *
+ * @see CacheStats
+ * @see CacheLoader#stats()
+ * @since 4.3.3
+ */
+public class CacheStatsRecorder {
+
+	protected final LongAdder hitCount = new LongAdder();
+	protected final LongAdder missCount = new LongAdder();
+	protected final LongAdder loadSuccessCount = new LongAdder();
+	protected final LongAdder loadFailureCount = new LongAdder();
+	protected final LongAdder totalLoadTime = new LongAdder();
+	protected final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * 记录一次缓存命中
+	 */
+	public void recordHit() {
+		hitCount.increment();
+	}
+
+	/**
+	 * 记录一次缓存未命中（即获取数据时 {@link CacheLoader#flushRequired()} 为 true）
+	 */
+	public void recordMiss() {
+		missCount.increment();
+	}
+
+	/**
+	 * 记录一次成功的加载
+	 *
+	 * @param loadNanos 加载耗时（纳秒）
+	 */
+	public void recordLoadSuccess(long loadNanos) {
+		loadSuccessCount.increment();
+		recordLoadTime(loadNanos);
+	}
+
+	/**
+	 * 记录一次失败的加载
+	 *
+	 * @param loadNanos 加载耗时（纳秒）
+	 */
+	public void recordLoadFailure(long loadNanos) {
+		loadFailureCount.increment();
+		recordLoadTime(loadNanos);
+	}
+
+	private void recordLoadTime(long loadNanos) {
+		totalLoadTime.add(loadNanos);
+		maxLoadTime.accumulate(loadNanos);
+	}
+
+	/**
+	 * 获取当前统计数据的快照
+	 */
+	public CacheStats snapshot() {
+		return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(), loadFailureCount.sum(), totalLoadTime.sum(), maxLoadTime.get());
+	}
+
+	/**
+	 * 重置所有统计数据
+	 */
+	public void reset() {
+		hitCount.reset();
+		missCount.reset();
+		loadSuccessCount.reset();
+		loadFailureCount.reset();
+		totalLoadTime.reset();
+		maxLoadTime.reset();
+	}
+
+	/**
+	 * 调用指定的加载器加载数据，如果 {@code recorder} 不为 null，则同时记录加载的耗时及结果
+	 */
+	public static <E> E load(@Nullable CacheStatsRecorder recorder, Supplier<E> loader) {
+		if (recorder == null) {
+			return loader.get();
+		}
+		final long start = System.nanoTime();
+		final E val;
+		try {
+			val = loader.get();
+		} catch (RuntimeException | Error e) {
+			recorder.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+		recorder.recordLoadSuccess(System.nanoTime() - start);
+		return val;
+	}
+
+	/**
+	 * 调用指定的加载器加载指定 Key 对应的数据，如果 {@code recorder} 不为 null，则同时记录加载的耗时及结果
+	 */
+	public static <K, V> V load(@Nullable CacheStatsRecorder recorder, Function<? super K, ? extends V> loader, K key) {
+		if (recorder == null) {
+			return loader.apply(key);
+		}
+		final long start = System.nanoTime();
+		final V val;
+		try {
+			val = loader.apply(key);
+		} catch (RuntimeException | Error e) {
+			recorder.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+		recorder.recordLoadSuccess(System.nanoTime() - start);
+		return val;
+	}
+
+}
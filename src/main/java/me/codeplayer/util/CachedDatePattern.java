@@ -0,0 +1,119 @@
+package me.codeplayer.util;
+
+import java.util.TimeZone;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 缓存最近一次格式化结果的日期格式化器（线程安全、无锁）
+ * <p> 适用于 访问日志、JSON 序列化 等连续格式化的时间绝大多数都处于同一秒（或同一天）内的场景：
+ * <ul>
+ *     <li>与上次格式化的时间处于同一秒（只包含日期字段时，为同一天）内时，直接返回上次格式化的字符串。</li>
+ *     <li>与上次格式化的时间处于同一天内时，复用已填充好 年、月、日 字段的字符模板，只需重新填充 时、分、秒 等时间字段。</li>
+ * </ul>
+ * <p> 缓存的键是 <b>本地时间</b>（即：UTC 毫秒数 + 对应时区的偏移量）所在的秒（或天），因此即使时区偏移量发生了变化（例如：夏令时切换），也能得到正确的结果。
+ * 缓存的条目是不可变的，并通过 volatile 字段发布，多个线程并发格式化时最多只会重复计算，而不会读取到不一致的数据。
+ *
+ * @see DatePattern
+ * @since 4.3.3
+ */
+final class CachedDatePattern {
+
+	final DatePattern pattern;
+	/** 缓存的时间粒度（毫秒数）：包含 毫秒 字段时为 1，包含 时、分、秒 字段时为 1 秒，只包含日期字段时为 1 天 */
+	final long unit;
+	@Nullable
+	volatile Cached cached;
+
+	/**
+	 * @param pattern 只有固定宽度的模式（例如："yyyy-MM-dd HH:mm:ss"）才会进行缓存，否则每次都直接调用 {@link DatePattern#format(long, TimeZone)}
+	 */
+	CachedDatePattern(DatePattern pattern) {
+		this.pattern = pattern;
+		int maxKind = DatePattern.LITERAL;
+		for (int t = 0; t < pattern.tokens.length; t += 3) {
+			maxKind = Math.max(maxKind, pattern.tokens[t]);
+		}
+		this.unit = maxKind == DatePattern.MILLIS ? 1 : maxKind >= DatePattern.HOUR ? 1000 : EasyDate.MILLIS_OF_DAY;
+	}
+
+	/**
+	 * 使用指定的时区将指定的毫秒数格式化为字符串
+	 */
+	String format(long epochMillis, TimeZone timeZone) {
+		final int offsetMillis = timeZone.getOffset(epochMillis);
+		final long local = epochMillis + offsetMillis;
+		final long key = Math.floorDiv(local, unit);
+		final Cached c = cached;
+		if (c != null && c.key == key) {
+			return c.text;
+		}
+		final DatePattern p = pattern;
+		if (p.charTemplate == null || local < DatePattern.GREGORIAN_CUTOVER) {
+			return p.format(epochMillis, offsetMillis, timeZone);
+		}
+		final long epochDay = Math.floorDiv(local, EasyDate.MILLIS_OF_DAY);
+		final long date;
+		final byte[] latin1Day;
+		final char[] utf16Day;
+		if (c != null && c.epochDay == epochDay) {
+			// 同一天内，复用已填充好日期字段的模板
+			date = c.date;
+			latin1Day = c.latin1Day;
+			utf16Day = c.utf16Day;
+		} else {
+			date = DatePattern.civilOf(epochDay);
+			final int year = (int) (date >> 9);
+			if (year > 9999) {
+				return p.format(epochMillis, offsetMillis, timeZone);
+			}
+			final CharReplacer day;
+			if (p.latin1Template != null) {
+				day = new Latin1CharReplacer(latin1Day = p.latin1Template.clone());
+				utf16Day = null;
+			} else {
+				day = new UTF16CharReplacer(utf16Day = p.charTemplate.clone());
+				latin1Day = null;
+			}
+			p.fill(day, DatePattern.YEAR, DatePattern.DAY, year, date, 0);
+		}
+		// 返回的字符串会共享字符数组，因此必须基于模板的副本进行填充
+		final CharReplacer chars = latin1Day != null ? new Latin1CharReplacer(latin1Day.clone()) : new UTF16CharReplacer(utf16Day.clone());
+		if (unit != EasyDate.MILLIS_OF_DAY) {
+			p.fill(chars, DatePattern.HOUR, DatePattern.MILLIS, (int) (date >> 9), date, (int) (local - epochDay * EasyDate.MILLIS_OF_DAY));
+		}
+		final String text = chars.toString();
+		cached = new Cached(key, epochDay, date, latin1Day, utf16Day, text);
+		return text;
+	}
+
+	/**
+	 * 缓存的条目（不可变）
+	 */
+	static final class Cached {
+
+		/** 本地时间 所在的 秒数（或天数） */
+		final long key;
+		/** 本地时间 所在的天数 */
+		final long epochDay;
+		/** 压缩表示的日期，参见 {@link DatePattern#civilOf(long)} */
+		final long date;
+		/** 已填充好日期字段的字符模板（不会被修改，也不会被返回的字符串所共享） */
+		@Nullable
+		final byte[] latin1Day;
+		@Nullable
+		final char[] utf16Day;
+		final String text;
+
+		Cached(long key, long epochDay, long date, @Nullable byte[] latin1Day, @Nullable char[] utf16Day, String text) {
+			this.key = key;
+			this.epochDay = epochDay;
+			this.date = date;
+			this.latin1Day = latin1Day;
+			this.utf16Day = utf16Day;
+			this.text = text;
+		}
+
+	}
+
+}
@@ -1,11 +1,12 @@
 package me.codeplayer.util;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * 将阿拉伯数字形式的整数转换为中文大写形式的字符串的工具类
+ * 将阿拉伯数字形式的整数转换为中文大写形式的字符串的工具类（也支持将中文数字解析为数值）
  *
  * @author Ready
  * @since 2013-4-20
@@ -16,6 +17,14 @@ public class ChineseNumber {
 	static final char[] BIG_UNITS = { '亿', '万' };
 	/** 中文货币单位：'圆', '角', '分' */
 	static final char[] CURRENCY_UNITS = { '圆', '角', '分' };
+	/** 负数的前缀字符 */
+	static final char NEGATIVE = '负';
+	/** 任意 long 整数转换为中文数字后的最大长度：符号 1 位，5 个计算单元 × (最多 7 个数字及单位 + 1 个大单位 + 1 个'零') */
+	static final int MAX_INT_LENGTH = 1 + 5 * 9;
+	/** 格式化结果的缓存大小（必须是 2 的幂） */
+	static final int CACHE_SIZE = 256;
+	/** 常用数值格式化结果的缓存（直接映射，发生冲突时直接覆盖） */
+	static final CachedText[] CACHE = new CachedText[CACHE_SIZE];
 	// properties
 	protected final String number;
 	/** 为null表示忽略小数；为""表示不忽略小数，但没有小数部分 */
@@ -52,8 +61,14 @@ public class ChineseNumber {
 	 * 追加整数部分的中文数值字符串
 	 */
 	protected StringBuilder appendIntValue(StringBuilder sb) {
-		if ("0".equals(number)) {
-			return sb.append(style.getNumbersText()[0]);
+		String number = this.number;
+		if (number.charAt(0) == '-') {
+			sb.append(NEGATIVE);
+			number = number.substring(1);
+		}
+		if (isLongValue(number)) {
+			final char[] buf = new char[MAX_INT_LENGTH];
+			return sb.append(buf, 0, getIntChars(Long.parseLong(number), style, buf, 0));
 		}
 		int length = number.length();
 		// 计算 cell 的个数
@@ -73,6 +88,7 @@ public class ChineseNumber {
 		} while ((length -= 4) > 0);
 		// 反向迭代cell，从高位到低位取出
 		int index = size;
+		boolean started = false; // 是否已输出了更高位的计算单元
 		boolean leftEndWithZero = false; // 指示当前计算单元左侧的单元是否以0结尾
 		while (index-- > 0) {
 			Cell cell = cells.get(index);
@@ -84,6 +100,9 @@ public class ChineseNumber {
 				if (index > 0) { // 如果不是最后一个单元，并且当前单位不全是0，则追加单位'亿'或'万'
 					sb.append(BIG_UNITS[index & 1]);
 				}
+				started = true;
+			} else if (started && index > 0 && (index & 1) == 0) { // 例如："壹万亿"
+				sb.append(BIG_UNITS[0]);
 			}
 			leftEndWithZero = cell.endWithZero; // 传递给循环外的变量保存，便于下一个计算单元进行判断
 		}
@@ -151,10 +170,16 @@ public class ChineseNumber {
 	 */
 	public static String formatNumber(double d, boolean ignoreDecimal, FormatStyle style) {
 		if (ignoreDecimal) {
-			return new ChineseNumber((long) d, style).toString();
-		} else {
-			return new ChineseNumber(d, style).toString();
+			return format((long) d, 0, style);
 		}
+		final int scale = Arith.compactScaleOf(d);
+		if (scale > 0) {
+			return format(Arith.unscaledOf(d, scale), scale, style);
+		} else if (scale == 0 && Math.abs(d) < 1e17) {
+			// 与 Double.toString() 保持一致，整数也保留 1 位小数 "0"
+			return format((long) d * 10, 1, style);
+		}
+		return new ChineseNumber(Arith.toBigDecimal(d), style).toString();
 	}
 
 	/**
@@ -167,10 +192,16 @@ public class ChineseNumber {
 	 */
 	public static String formatNumber(BigDecimal d, boolean ignoreDecimal, FormatStyle style) {
 		if (ignoreDecimal) {
-			return new ChineseNumber(d.longValue(), style).toString();
-		} else {
-			return new ChineseNumber(d, style).toString();
+			return format(d.longValue(), 0, style);
 		}
+		final int scale = d.scale();
+		if (scale >= 0 && scale <= FixedDecimal.MAX_SCALE) {
+			final BigInteger unscaled = d.unscaledValue();
+			if (unscaled.bitLength() < 64) {
+				return format(unscaled.longValue(), scale, style);
+			}
+		}
+		return new ChineseNumber(d, style).toString();
 	}
 
 	/**
@@ -181,7 +212,705 @@ public class ChineseNumber {
 	 * @since 1.0
 	 */
 	public static String formatNumber(long d, FormatStyle style) {
-		return new ChineseNumber(d, style).toString();
+		return format(d, 0, style);
+	}
+
+	/**
+	 * 将指定的整数转换为中文数字，并追加到指定的 StringBuilder 中
+	 * <p> 该方法直接基于数字运算逐位输出，不会像 {@link #formatNumber(long, FormatStyle)} 的早期实现那样创建中间的字符串及计算单元对象。
+	 * 如果是 {@link FormatStyle#MONEY}，则还会追加 "圆整"
+	 *
+	 * @param value 指定的整数，负数将以 "负" 开头
+	 * @param style 指定中文字符串的格式
+	 * @since 4.3.3
+	 */
+	public static StringBuilder appendTo(StringBuilder sb, long value, FormatStyle style) {
+		return appendTo(sb, value, 0, style);
+	}
+
+	/**
+	 * 将指定的数值转换为中文数字，并追加到指定的 StringBuilder 中
+	 *
+	 * @param d 指定的数值
+	 * @param ignoreDecimal 是否忽略小数部分
+	 * @param style 指定中文字符串的格式
+	 * @see #formatNumber(BigDecimal, boolean, FormatStyle)
+	 * @since 4.3.3
+	 */
+	public static StringBuilder appendTo(StringBuilder sb, BigDecimal d, boolean ignoreDecimal, FormatStyle style) {
+		if (ignoreDecimal) {
+			return appendTo(sb, d.longValue(), 0, style);
+		}
+		final int scale = d.scale();
+		if (scale >= 0 && scale <= FixedDecimal.MAX_SCALE) {
+			final BigInteger unscaled = d.unscaledValue();
+			if (unscaled.bitLength() < 64) {
+				return appendTo(sb, unscaled.longValue(), scale, style);
+			}
+		}
+		return sb.append(new ChineseNumber(d, style));
+	}
+
+	/**
+	 * 将指定的定点小数（<code>unscaled × 10<sup>-scale</sup></code>）转换为中文数字，并追加到指定的 StringBuilder 中
+	 *
+	 * @param unscaled 未缩放的值，例如：金额 12.34 元对应的 "分" 值为 1234
+	 * @param scale 标度（小数位数），0 ~ {@link FixedDecimal#MAX_SCALE}
+	 * @param style 指定中文字符串的格式
+	 * @since 4.3.3
+	 */
+	public static StringBuilder appendTo(StringBuilder sb, long unscaled, int scale, FormatStyle style) {
+		FixedDecimal.checkScale(scale);
+		final char[] buf = new char[maxLength(scale)];
+		return sb.append(buf, 0, getChars(unscaled, scale, style, buf, 0));
+	}
+
+	/**
+	 * 将指定的定点小数（<code>unscaled × 10<sup>-scale</sup></code>）转换为中文数字，并从指定的索引处开始依次写入字符替换器
+	 *
+	 * @param replacer 字符替换器，从 {@code start} 开始必须至少还有 {@link #maxLength(int) maxLength(scale)} 个字符的空间
+	 * @param start 起始索引
+	 * @param unscaled 未缩放的值，例如：金额 12.34 元对应的 "分" 值为 1234
+	 * @param scale 标度（小数位数），0 ~ {@link FixedDecimal#MAX_SCALE}
+	 * @param style 指定中文字符串的格式
+	 * @return 写入的最后一个字符的下一个索引
+	 * @since 4.3.3
+	 */
+	public static int formatTo(CharReplacer replacer, int start, long unscaled, int scale, FormatStyle style) {
+		FixedDecimal.checkScale(scale);
+		final char[] buf = new char[maxLength(scale)];
+		final int length = getChars(unscaled, scale, style, buf, 0);
+		for (int i = 0; i < length; i++) {
+			replacer.setCharAt(start + i, buf[i]);
+		}
+		return start + length;
+	}
+
+	/**
+	 * 返回任意定点小数转换为中文数字后的最大长度
+	 *
+	 * @param scale 标度（小数位数）
+	 * @since 4.3.3
+	 */
+	public static int maxLength(int scale) {
+		// 小数部分："点" + 每位小数 1 个字符；或者 "圆贰角叁分"
+		return MAX_INT_LENGTH + Math.max(1 + scale, 5);
+	}
+
+	/**
+	 * 将指定的定点小数转换为中文数字（优先从缓存中获取）
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link FixedDecimal#MAX_SCALE}，为 0 时表示没有小数部分
+	 */
+	static String format(long unscaled, int scale, FormatStyle style) {
+		final int index = cacheIndex(unscaled, scale, style);
+		final CachedText cached = CACHE[index];
+		if (cached != null && cached.unscaled == unscaled && cached.scale == scale && cached.style == style) {
+			return cached.text;
+		}
+		final char[] buf = new char[maxLength(scale)];
+		final String text = new String(buf, 0, getChars(unscaled, scale, style, buf, 0));
+		CACHE[index] = new CachedText(unscaled, scale, style, text);
+		return text;
+	}
+
+	static int cacheIndex(long unscaled, int scale, FormatStyle style) {
+		int h = Long.hashCode(unscaled) * 31 + scale * 7 + style.ordinal();
+		h ^= h >>> 16;
+		return h & (CACHE_SIZE - 1);
+	}
+
+	/**
+	 * 将指定的定点小数（<code>unscaled × 10<sup>-scale</sup></code>）转换为中文数字，并从 {@code pos} 处开始写入指定的字符数组
+	 * <p> 输出结果与 {@link #toString()} 一致：{@link FormatStyle#MONEY} 只输出到 "分"（直接舍去后续的小数位），其他格式则逐位输出所有的小数位（包括末尾的 0）
+	 *
+	 * @return 写入的最后一个字符的下一个索引
+	 */
+	static int getChars(long unscaled, int scale, FormatStyle style, char[] buf, int pos) {
+		final long intValue;
+		long fraction;
+		if (scale == 0) {
+			intValue = unscaled;
+			fraction = 0;
+		} else {
+			final long p = FixedDecimal.POW10[scale];
+			intValue = unscaled / p;
+			fraction = Math.abs(unscaled % p);
+			if (unscaled < 0 && intValue == 0) {
+				buf[pos++] = NEGATIVE;
+			}
+		}
+		pos = getIntChars(intValue, style, buf, pos);
+		final char[] numbers = style.numbersText;
+		if (style == FormatStyle.MONEY) {
+			buf[pos++] = CURRENCY_UNITS[0];
+			// 角、分
+			final int jiao = scale > 0 ? (int) (fraction / FixedDecimal.POW10[scale - 1]) : 0;
+			final int fen = scale > 1 ? (int) (fraction / FixedDecimal.POW10[scale - 2] % 10) : 0;
+			if (jiao != 0) {
+				buf[pos++] = numbers[jiao];
+				buf[pos++] = CURRENCY_UNITS[1];
+			}
+			if (fen != 0) {
+				if (jiao == 0) {
+					buf[pos++] = numbers[0];
+				}
+				buf[pos++] = numbers[fen];
+				buf[pos++] = CURRENCY_UNITS[2];
+			} else if (jiao == 0) {
+				buf[pos++] = '整';
+			}
+		} else if (scale > 0) {
+			buf[pos++] = '点';
+			for (int i = scale - 1; i >= 0; i--) {
+				final long p = FixedDecimal.POW10[i];
+				buf[pos++] = numbers[(int) (fraction / p)];
+				fraction %= p;
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * 将指定的整数转换为中文数字，并从 {@code pos} 处开始写入指定的字符数组（每 4 位数字为一个计算单元，从高位到低位依次输出）
+	 *
+	 * @return 写入的最后一个字符的下一个索引
+	 */
+	static int getIntChars(long value, FormatStyle style, char[] buf, int pos) {
+		final char[] numbers = style.numbersText;
+		if (value == 0) {
+			buf[pos++] = numbers[0];
+			return pos;
+		}
+		if (value < 0) {
+			buf[pos++] = NEGATIVE;
+		}
+		// 拆分为 最高的 3 位 和 剩余的 16 位，以便 Long.MIN_VALUE 也能转换为正数
+		final long high = Math.abs(value / 1_0000_0000_0000_0000L), low = Math.abs(value % 1_0000_0000_0000_0000L);
+		boolean started = false; // 是否已输出了更高位的计算单元
+		boolean leftEndWithZero = false; // 指示当前计算单元左侧的单元是否以0结尾
+		for (int index = 4; index >= 0; index--) {
+			final int cell = index == 4 ? (int) high : (int) (low / FixedDecimal.POW10[index << 2] % 10000);
+			if (cell != 0) {
+				if (started && (leftEndWithZero || cell < 1000)) {
+					buf[pos++] = numbers[0];
+				}
+				pos = getCellChars(cell, style, buf, pos);
+				if (index > 0) { // 如果不是最后一个单元，则追加单位'亿'或'万'
+					buf[pos++] = BIG_UNITS[index & 1];
+				}
+				started = true;
+			} else if (started && (index & 1) == 0 && index > 0) { // 例如："壹万亿"
+				buf[pos++] = BIG_UNITS[0];
+			}
+			leftEndWithZero = cell % 10 == 0;
+		}
+		return pos;
+	}
+
+	/**
+	 * 将 4 位以内的整数计算单元转换为中文数字，并从 {@code pos} 处开始写入指定的字符数组
+	 *
+	 * @see Cell#init()
+	 */
+	static int getCellChars(int cell, FormatStyle style, char[] buf, int pos) {
+		boolean preHasValidValue = false; // 前面是否有有效值(不为0)
+		boolean lastIsZero = false; // 上一个是否为0
+		for (int i = 3, p = 1000; i >= 0; i--, p /= 10) {
+			final int digit = cell / p % 10;
+			if (digit > 0) {
+				if (preHasValidValue && lastIsZero) { // 前面存在有效值并且上一个数字是0，则此处追加'零'
+					buf[pos++] = style.numbersText[0];
+				}
+				buf[pos++] = style.numbersText[digit];
+				if (i > 0) { // 如果不是个位数，添加单位
+					buf[pos++] = style.unitsText[3 - i];
+				}
+				preHasValidValue = true;
+				lastIsZero = false;
+			} else {
+				lastIsZero = true;
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * 判断指定的非负整数字符串是否可以直接转换为 long（最多 18 位数字）
+	 */
+	static boolean isLongValue(String number) {
+		final int length = number.length();
+		if (length == 0 || length > 18) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			final char ch = number.charAt(i);
+			if (ch < '0' || ch > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 缓存的格式化结果
+	 */
+	static final class CachedText {
+
+		final long unscaled;
+		final int scale;
+		final FormatStyle style;
+		final String text;
+
+		CachedText(long unscaled, int scale, FormatStyle style, String text) {
+			this.unscaled = unscaled;
+			this.scale = scale;
+			this.style = style;
+			this.text = text;
+		}
+
+	}
+
+	/**
+	 * 以严格模式将中文数字解析为 long 值（支持 {@link FormatStyle} 中的所有格式，以及 "元"、"圆"、"角"、"分"、"整" 等货币单位）
+	 *
+	 * @throws NumberFormatException 如果无法解析、超出了 long 的范围，或者包含非 0 的小数部分
+	 * @see #parseLong(CharSequence, boolean)
+	 * @since 4.3.3
+	 */
+	public static long parseLong(CharSequence text) throws NumberFormatException {
+		return parseUnscaled(text, 0, false);
+	}
+
+	/**
+	 * 将中文数字解析为 long 值（支持 {@link FormatStyle} 中的所有格式，以及 "元"、"圆"、"角"、"分"、"整" 等货币单位）
+	 *
+	 * @param lenient 是否为宽松模式（参见 {@link #parseUnscaled(CharSequence, int, boolean)}），宽松模式下将直接舍去小数部分
+	 * @throws NumberFormatException 如果无法解析、超出了 long 的范围，或者在严格模式下包含非 0 的小数部分
+	 * @since 4.3.3
+	 */
+	public static long parseLong(CharSequence text, boolean lenient) throws NumberFormatException {
+		return parseUnscaled(text, 0, lenient);
+	}
+
+	/**
+	 * 以严格模式将中文数字解析为 BigDecimal，例如："壹万贰仟叁佰元整" =&gt; 12300，"一百点二五" =&gt; 100.25，"零圆伍角" =&gt; 0.5
+	 *
+	 * @throws NumberFormatException 如果无法解析，或者超出了范围
+	 * @see #parseDecimal(CharSequence, boolean)
+	 * @since 4.3.3
+	 */
+	public static BigDecimal parseDecimal(CharSequence text) throws NumberFormatException {
+		return parseDecimal(text, false);
+	}
+
+	/**
+	 * 将中文数字解析为 BigDecimal，结果的标度与中文数字的小数位数一致（"角" 为 1 位小数，"分" 为 2 位小数），但最多为 {@link FixedDecimal#MAX_SCALE} 位
+	 *
+	 * @param lenient 是否为宽松模式（参见 {@link #parseUnscaled(CharSequence, int, boolean)}）
+	 * @throws NumberFormatException 如果无法解析，或者超出了范围
+	 * @since 4.3.3
+	 */
+	public static BigDecimal parseDecimal(CharSequence text, boolean lenient) throws NumberFormatException {
+		// 预先扫描小数位数
+		int scale = 0;
+		for (int i = 0, length = text.length(); i < length; i++) {
+			final char ch = text.charAt(i);
+			if (ch == CURRENCY_UNITS[2]) {
+				scale = 2;
+				break;
+			} else if (ch == CURRENCY_UNITS[1]) {
+				scale = 1;
+			} else if (ch == '点' || lenient && ch == '.') {
+				for (int j = i + 1; j < length; j++) {
+					if (digitOf(text.charAt(j), lenient) >= 0) {
+						scale++;
+					}
+				}
+				break;
+			}
+		}
+		// 超出 MAX_SCALE 的小数位：严格模式下必须为 0，宽松模式下直接舍去
+		scale = Math.min(scale, FixedDecimal.MAX_SCALE);
+		return BigDecimal.valueOf(parseUnscaled(text, scale, lenient), scale);
+	}
+
+	/**
+	 * 将中文数字解析为指定标度的定点小数的未缩放值（即：数值 × 10<sup>scale</sup>），例如：<code>parseUnscaled("壹佰元伍角", 2, false)</code> =&gt; 10050（单位为 "分"）
+	 * <p> 该方法只对输入字符序列进行一次遍历，并且不会创建任何对象（解析失败时抛出的异常除外），因此非常适合批量导入等场景。
+	 * <p> 严格模式下：
+	 * <ul>
+	 *     <li>只能包含 {@link FormatStyle} 中的数字和单位（可以 "负" 开头，并且不能混用大写和小写），以及 "点" 或者 "元"/"圆"、"角"、"分"、"整" 等货币单位</li>
+	 *     <li>"十"、"百"、"千" 等单位必须从高到低依次出现，省略的数位必须使用 "零" 补位（例如：1002 必须为 "一千零二"）；只有 "十" 开头时可以省略系数 "一"</li>
+	 *     <li>货币单位的格式必须与 {@link FormatStyle#MONEY} 的格式化结果一致：没有 "角"、"分" 时必须以 "整" 结尾</li>
+	 *     <li>小数位数超出 {@code scale} 时，超出部分必须为 0</li>
+	 * </ul>
+	 * <p> 宽松模式下，还支持：
+	 * <ul>
+	 *     <li>忽略空白字符、逗号 以及 "￥" 等符号，支持 "-" 负号、"." 小数点、阿拉伯数字、"〇"、"两" 以及 "萬"、"億"</li>
+	 *     <li>混用大写和小写，没有单位的连续数字按位组合（例如："二〇二四" =&gt; 2024），以及 "一千二"、"两万五" 等口语化的省略形式</li>
+	 *     <li>"元" 后面可以直接结束，"角" 后面也可以追加 "整"，"正" 等同于 "整"，可以省略 "元"（例如："伍角"）</li>
+	 *     <li>小数位数超出 {@code scale} 时，直接舍去超出部分</li>
+	 * </ul>
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link FixedDecimal#MAX_SCALE}
+	 * @param lenient 是否为宽松模式
+	 * @throws NumberFormatException 如果无法解析，或者超出了 long 的范围
+	 * @since 4.3.3
+	 */
+	public static long parseUnscaled(CharSequence text, int scale, boolean lenient) throws NumberFormatException {
+		FixedDecimal.checkScale(scale);
+		try {
+			return doParse(text, scale, lenient);
+		} catch (ArithmeticException e) {
+			throw new NumberFormatException("The Chinese number is out of range: " + text);
+		}
+	}
+
+	private static long doParse(CharSequence text, int scale, boolean lenient) {
+		final int length = text.length();
+		int i = skipIgnorable(text, 0, lenient);
+		boolean negative = false;
+		if (i < length && (text.charAt(i) == NEGATIVE || lenient && text.charAt(i) == '-')) {
+			negative = true;
+			i = skipIgnorable(text, i + 1, lenient);
+		}
+		long total = 0; // 最近一个 "亿" 及之前的值
+		long wan = 0; // 最近一个 "亿" 之后，"万" 及之前的值
+		long section = 0; // 最近一个 "万" 或 "亿" 之后的值（不含待定的数字）
+		long number = -1; // 待定的数字（后面可能还有单位），-1 表示没有
+		long lastUnit = 1; // 最近一个单位的数值，1 表示还没有任何单位
+		boolean zero = false; // 是否存在尚未补位的 "零"
+		boolean hasDigit = false;
+		int styles = 0; // 已出现的数字风格：1 = 小写，2 = 大写
+		int pendingIndex = -1; // 待定数字的索引
+		long fraction = 0; // 小数部分（已按照 scale 缩放）
+		for (; i < length; i++) {
+			final char ch = text.charAt(i);
+			if (lenient && isIgnorable(ch)) {
+				continue;
+			}
+			final int digit = digitOf(ch, lenient);
+			if (digit >= 0) {
+				styles |= digit >>> 4;
+				if (!lenient && styles == 3) {
+					throw parseError(text, i);
+				}
+				final int d = digit & 0xF;
+				if (number >= 0) { // 连续的数字
+					if (!lenient) {
+						throw parseError(text, i);
+					}
+					number = Math.addExact(Math.multiplyExact(number, 10L), d);
+				} else if (d == 0) {
+					if (zero && !lenient) {
+						throw parseError(text, i);
+					}
+					zero = true;
+				} else {
+					if (zero && !lenient && total == 0 && wan == 0 && section == 0) { // 例如："零五"
+						throw parseError(text, i);
+					}
+					number = d;
+					pendingIndex = i;
+				}
+				hasDigit = true;
+				continue;
+			}
+			final int unit = unitOf(ch, lenient);
+			if (unit >= 0) {
+				styles |= unit >>> 4;
+				if (!lenient && styles == 3) {
+					throw parseError(text, i);
+				}
+				final long u = UNIT_VALUES[unit & 0xF];
+				if (u < 1_0000) {
+					if (number < 0) {
+						// 例如："十二"，省略了系数 "一"
+						if (!zero && section == 0 && (lenient || u == 10 && lastUnit == 1 && wan == 0 && total == 0)) {
+							number = 1;
+						} else {
+							throw parseError(text, i);
+						}
+					}
+					// 单位必须递减，"零" 之后至少要跳过一个数位，例如："一千零五十"
+					if (!lenient && lastUnit < 1_0000 && lastUnit != 1 && u >= (zero ? lastUnit / 10 : lastUnit)) {
+						throw parseError(text, i);
+					}
+					section = Math.addExact(section, number * u);
+				} else {
+					section = Math.addExact(section, onesValue(text, i, number, lastUnit, zero, lenient));
+					if (u == 1_0000) {
+						if (section == 0 || !lenient && (wan != 0 || zero && number < 0)) {
+							throw parseError(text, i);
+						}
+						wan = Math.addExact(wan, Math.multiplyExact(section, u));
+					} else {
+						final long group = Math.addExact(wan, section);
+						if (group == 0 && total == 0 || !lenient && zero && number < 0) {
+							throw parseError(text, i);
+						}
+						total = Math.multiplyExact(Math.addExact(total, group), u);
+						wan = 0;
+					}
+					section = 0;
+				}
+				lastUnit = u;
+				number = -1;
+				zero = false;
+				continue;
+			}
+			// 整数部分结束
+			if (ch == '点' || lenient && ch == '.') {
+				if (!hasDigit) {
+					throw parseError(text, i);
+				}
+				int count = 0;
+				for (i = i + 1; i < length; i++) {
+					final char c = text.charAt(i);
+					if (lenient && isIgnorable(c)) {
+						continue;
+					}
+					final int d = digitOf(c, lenient);
+					if (d < 0 || !lenient && (styles |= d >>> 4) == 3) {
+						throw parseError(text, i);
+					}
+					if (count < scale) {
+						fraction += (d & 0xF) * FixedDecimal.POW10[scale - 1 - count];
+					} else if ((d & 0xF) != 0 && !lenient) {
+						throw parseError(text, i);
+					}
+					count++;
+				}
+				if (count == 0) {
+					throw parseError(text, length);
+				}
+			} else if (ch == '元' || ch == CURRENCY_UNITS[0]) {
+				fraction = parseMoneyFraction(text, i + 1, scale, lenient);
+				hasDigit = true; // 例如：宽松模式下的 "元整"
+			} else if (lenient && (ch == CURRENCY_UNITS[1] || ch == CURRENCY_UNITS[2]) && pendingIndex >= 0 && total == 0 && wan == 0 && section == 0) {
+				// 省略了 "元"，例如："伍角"
+				fraction = parseMoneyFraction(text, pendingIndex, scale, true);
+				number = -1;
+			} else if (lenient && (ch == '整' || ch == '正') && skipIgnorable(text, i + 1, true) == length) {
+				break;
+			} else {
+				throw parseError(text, i);
+			}
+			break;
+		}
+		if (!hasDigit) {
+			throw parseError(text, i);
+		}
+		final long ones = onesValue(text, i, number, lastUnit, zero, lenient);
+		// 各个部分都不会超出 long 的范围，但它们的和可能恰好为 2^63（即 Long.MIN_VALUE 的绝对值），因此按负数进行累加
+		final long negativeInt = Math.subtractExact(Math.subtractExact(Math.subtractExact(-total, wan), section), ones);
+		final long value = Math.subtractExact(Math.multiplyExact(negativeInt, FixedDecimal.POW10[scale]), fraction);
+		return negative ? value : Math.negateExact(value);
+	}
+
+	/**
+	 * 计算待定数字（即：计算单元末尾没有单位的数字）的值
+	 *
+	 * @param index 当前的索引，用于输出异常信息
+	 */
+	static long onesValue(CharSequence text, int index, long number, long lastUnit, boolean zero, boolean lenient) {
+		if (number < 0) {
+			if (zero && !lenient && lastUnit != 1) { // 例如："一千零"
+				throw parseError(text, index);
+			}
+			return 0;
+		}
+		if (lastUnit <= 10 || zero) {
+			return number;
+		}
+		// 例如："一千二"、"两万五"
+		if (!lenient) {
+			throw parseError(text, index);
+		}
+		return Math.multiplyExact(number, lastUnit / 10);
+	}
+
+	/**
+	 * 解析 "元" 之后的 "x角y分" 或者 "整" 部分，并返回按照 scale 缩放后的小数值
+	 */
+	static long parseMoneyFraction(CharSequence text, int i, int scale, boolean lenient) {
+		final int length = text.length();
+		int jiao = -1, fen = -1, digit = -1;
+		boolean zero = false, whole = false;
+		int styles = 0;
+		for (; i < length; i++) {
+			final char ch = text.charAt(i);
+			if (lenient && isIgnorable(ch)) {
+				continue;
+			}
+			if (whole) { // "整" 之后不能再有其他字符
+				throw parseError(text, i);
+			}
+			final int d = digitOf(ch, lenient);
+			if (d >= 0) {
+				styles |= d >>> 4;
+				if (digit >= 0 || !lenient && styles == 3) {
+					throw parseError(text, i);
+				}
+				if ((d & 0xF) == 0) {
+					if (zero && !lenient || fen >= 0) {
+						throw parseError(text, i);
+					}
+					zero = true;
+				} else {
+					digit = d & 0xF;
+				}
+			} else if (ch == CURRENCY_UNITS[1]) {
+				if (digit < 0 || jiao >= 0 || fen >= 0 || zero && !lenient) {
+					throw parseError(text, i);
+				}
+				jiao = digit;
+				digit = -1;
+			} else if (ch == CURRENCY_UNITS[2]) {
+				// 严格模式下：没有 "角" 时，"分" 之前必须有 "零"；有 "角" 时，两者之间不能有 "零"
+				if (digit < 0 || fen >= 0 || !lenient && (jiao < 0) != zero) {
+					throw parseError(text, i);
+				}
+				fen = digit;
+				digit = -1;
+			} else if (ch == '整' || lenient && ch == '正') {
+				if (digit >= 0 || fen >= 0 || !lenient && (jiao >= 0 || zero)) {
+					throw parseError(text, i);
+				}
+				whole = true;
+			} else {
+				throw parseError(text, i);
+			}
+		}
+		if (digit >= 0 || !lenient && !whole && jiao < 0 && fen < 0) {
+			throw parseError(text, length);
+		}
+		jiao = Math.max(jiao, 0);
+		fen = Math.max(fen, 0);
+		switch (scale) {
+			case 0:
+				if (!lenient && (jiao != 0 || fen != 0)) {
+					throw parseError(text, length);
+				}
+				return 0;
+			case 1:
+				if (!lenient && fen != 0) {
+					throw parseError(text, length);
+				}
+				return jiao;
+			default:
+				return (jiao * 10L + fen) * FixedDecimal.POW10[scale - 2];
+		}
+	}
+
+	/** "十"、"百"、"千"、"万"、"亿" 对应的数值 */
+	static final long[] UNIT_VALUES = { 10, 100, 1000, 1_0000, 1_0000_0000 };
+
+	/**
+	 * 返回中文数字对应的数值（低 4 位）及其所属的风格（高位：0x10 = 小写，0x20 = 大写，0 = 通用）
+	 *
+	 * @return 如果不是数字，则返回 -1
+	 */
+	static int digitOf(char ch, boolean lenient) {
+		switch (ch) {
+			case '零':
+				return 0;
+			case '一':
+				return 0x11;
+			case '二':
+				return 0x12;
+			case '三':
+				return 0x13;
+			case '四':
+				return 0x14;
+			case '五':
+				return 0x15;
+			case '六':
+				return 0x16;
+			case '七':
+				return 0x17;
+			case '八':
+				return 0x18;
+			case '九':
+				return 0x19;
+			case '壹':
+				return 0x21;
+			case '贰':
+				return 0x22;
+			case '叁':
+				return 0x23;
+			case '肆':
+				return 0x24;
+			case '伍':
+				return 0x25;
+			case '陆':
+				return 0x26;
+			case '柒':
+				return 0x27;
+			case '捌':
+				return 0x28;
+			case '玖':
+				return 0x29;
+			case '〇':
+				return lenient ? 0 : -1;
+			case '两':
+				return lenient ? 0x12 : -1;
+			default:
+				return lenient && ch >= '0' && ch <= '9' ? ch - '0' : -1;
+		}
+	}
+
+	/**
+	 * 返回中文单位在 {@link #UNIT_VALUES} 中的索引（低 4 位）及其所属的风格（高位：0x10 = 小写，0x20 = 大写，0 = 通用）
+	 *
+	 * @return 如果不是单位，则返回 -1
+	 */
+	static int unitOf(char ch, boolean lenient) {
+		switch (ch) {
+			case '十':
+				return 0x10;
+			case '百':
+				return 0x11;
+			case '千':
+				return 0x12;
+			case '拾':
+				return 0x20;
+			case '佰':
+				return 0x21;
+			case '仟':
+				return 0x22;
+			case '万':
+				return 3;
+			case '亿':
+				return 4;
+			case '萬':
+				return lenient ? 3 : -1;
+			case '億':
+				return lenient ? 4 : -1;
+			default:
+				return -1;
+		}
+	}
+
+	/**
+	 * 宽松模式下可以忽略的字符
+	 */
+	static boolean isIgnorable(char ch) {
+		return Character.isWhitespace(ch) || ch == ',' || ch == '，' || ch == '￥' || ch == '¥';
+	}
+
+	static int skipIgnorable(CharSequence text, int i, boolean lenient) {
+		if (lenient) {
+			while (i < text.length() && isIgnorable(text.charAt(i))) {
+				i++;
+			}
+		}
+		return i;
+	}
+
+	static NumberFormatException parseError(CharSequence text, int index) {
+		return new NumberFormatException("Unable to parse the Chinese number at index " + index + ": " + text);
 	}
 
 	/**
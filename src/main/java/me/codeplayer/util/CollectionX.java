@@ -4,6 +4,7 @@ import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.net.URLEncoder;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
 
 import org.jspecify.annotations.NonNull;
@@ -17,6 +18,14 @@ import org.jspecify.annotations.Nullable;
  */
 public abstract class CollectionX {
 
+	/**
+	 * 并行版本的 {@code parallelGroupBy()}、{@code parallelToMap()} 自动切换为并行处理的默认集合大小阈值，
+	 * 可以通过系统属性 {@code me.codeplayer.util.CollectionX.parallelThreshold} 进行配置
+	 *
+	 * @since 4.3.3
+	 */
+	public static final int PARALLEL_THRESHOLD = Integer.getInteger("me.codeplayer.util.CollectionX.parallelThreshold", 1 << 16);
+
 	protected static void checkPairs(final Object... pairs) {
 		if ((pairs.length & 1) != 0) {
 			throw new IllegalArgumentException("The length of the Array must be even:" + pairs.length);
@@ -932,6 +941,117 @@ public abstract class CollectionX {
 		return toList(c, converter, true);
 	}
 
+	/**
+	 * 将指定集合的元素转换为 int 值，并返回存储这些值的 {@link IntList}，这相当于
+	 * <pre><code>
+	 *  c.stream().map(mapper).collect(Collectors.toList());
+	 *  </code></pre>
+	 * 但不会产生任何装箱对象
+	 *
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <T> IntList toIntList(@Nullable Collection<T> c, ToIntFunction<? super T> mapper) {
+		final IntList list = new IntList(c == null ? 0 : c.size());
+		if (c != null) {
+			for (T t : c) {
+				list.add(mapper.applyAsInt(t));
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 将指定集合的元素转换为 long 值，并返回存储这些值的 {@link LongList}，这相当于
+	 * <pre><code>
+	 *  c.stream().map(mapper).collect(Collectors.toList());
+	 *  </code></pre>
+	 * 但不会产生任何装箱对象
+	 *
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <T> LongList toLongList(@Nullable Collection<T> c, ToLongFunction<? super T> mapper) {
+		final LongList list = new LongList(c == null ? 0 : c.size());
+		if (c != null) {
+			for (T t : c) {
+				list.add(mapper.applyAsLong(t));
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 将指定集合的元素转换为 int 值，并返回存储这些值的 {@link IntHashSet}，这相当于
+	 * <pre><code>
+	 *  c.stream().map(mapper).collect(Collectors.toSet());
+	 *  </code></pre>
+	 * 但不会产生任何装箱对象
+	 *
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <T> IntHashSet toIntSet(@Nullable Collection<T> c, ToIntFunction<? super T> mapper) {
+		final IntHashSet set = new IntHashSet(c == null ? 0 : c.size());
+		if (c != null) {
+			for (T t : c) {
+				set.add(mapper.applyAsInt(t));
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * 将指定集合的元素转换为 long 值，并返回存储这些值的 {@link LongHashSet}，这相当于
+	 * <pre><code>
+	 *  c.stream().map(mapper).collect(Collectors.toSet());
+	 *  </code></pre>
+	 * 但不会产生任何装箱对象
+	 *
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <T> LongHashSet toLongSet(@Nullable Collection<T> c, ToLongFunction<? super T> mapper) {
+		final LongHashSet set = new LongHashSet(c == null ? 0 : c.size());
+		if (c != null) {
+			for (T t : c) {
+				set.add(mapper.applyAsLong(t));
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * 将指定的数据集合转为以 long 为键的 {@link LongObjectHashMap}
+	 *
+	 * @param items 需要放入 Map 集合的数据集合
+	 * @param keyMapper Map 的 key 转换器
+	 * @param valueMapper Map 的 value 转换器（返回值不能为 null）
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <E, V> LongObjectHashMap<V> toLongObjectMap(@Nullable final Iterable<E> items, final ToLongFunction<? super E> keyMapper, final Function<? super E, V> valueMapper) {
+		final LongObjectHashMap<V> map = new LongObjectHashMap<>(items instanceof Collection ? ((Collection<E>) items).size() : 16);
+		if (items != null) {
+			for (E e : items) {
+				map.put(keyMapper.applyAsLong(e), valueMapper.apply(e));
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * 将指定的数据集合转为以 long 为键的 {@link LongObjectHashMap}
+	 *
+	 * @param items 需要放入 Map 集合的数据集合
+	 * @param keyMapper Map 的 key 转换器
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <V> LongObjectHashMap<V> toLongObjectMap(@Nullable final Iterable<V> items, final ToLongFunction<? super V> keyMapper) {
+		return toLongObjectMap(items, keyMapper, FunctionX.identity());
+	}
+
 	/**
 	 * 对指定集合进行分组，这相当于
 	 * <pre><code>
@@ -965,6 +1085,122 @@ public abstract class CollectionX {
 		return map;
 	}
 
+	/**
+	 * 对指定集合进行分组，如果集合的元素个数超过 {@code threshold}，则基于 {@link ForkJoinPool#commonPool()} 并行处理：
+	 * 每个子任务先将自己负责的连续片段分组到局部的 Map 中，最后再按片段的先后顺序依次合并。
+	 * <p> 因此，无论是否并行，最终结果中的 键的顺序（如果 {@code newMap} 创建的是 {@link LinkedHashMap}）以及 每个分组内元素的顺序 都与顺序遍历的结果保持一致。
+	 * <p> 注意：并行处理时 {@code keyMapper} 和 {@code valueMapper} 将在多个线程中被同时调用，因此它们必须是线程安全的
+	 *
+	 * @param newMap Map 构造器，int 参数为 Map 构造方法的 initialCapacity 参数
+	 * @param threshold 切换为并行处理的集合大小阈值
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <E, K, V, M extends Map<K, List<V>>> M parallelGroupBy(final IntFunction<M> newMap, @Nullable final Collection<E> c,
+	                                                                    final Function<? super E, ? extends K> keyMapper, final Function<? super E, ? extends V> valueMapper, final int threshold) {
+		final Function<K, List<V>> listBuilder = k -> new ArrayList<>();
+		// 分组的个数无法预知，因此每个局部 Map 都只使用默认的初始容量
+		return parallelCollect(n -> newMap.apply(16), c, (map, t) -> map.computeIfAbsent(keyMapper.apply(t), listBuilder).add(valueMapper.apply(t)), (left, right) -> {
+			for (Map.Entry<K, List<V>> entry : right.entrySet()) {
+				final List<V> values = left.putIfAbsent(entry.getKey(), entry.getValue());
+				if (values != null) {
+					values.addAll(entry.getValue());
+				}
+			}
+			return left;
+		}, threshold);
+	}
+
+	/**
+	 * 对指定集合进行分组，如果集合的元素个数超过 {@link #PARALLEL_THRESHOLD}，则自动切换为并行处理
+	 *
+	 * @see #parallelGroupBy(IntFunction, Collection, Function, Function, int)
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <E, K, V> Map<K, List<V>> parallelGroupBy(@Nullable final Collection<E> c, final Function<? super E, ? extends K> keyMapper, final Function<? super E, ? extends V> valueMapper) {
+		return parallelGroupBy(CollectionX::newHashMap, c, keyMapper, valueMapper, PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * 对指定集合进行分组，如果集合的元素个数超过 {@link #PARALLEL_THRESHOLD}，则自动切换为并行处理
+	 *
+	 * @see #parallelGroupBy(IntFunction, Collection, Function, Function, int)
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <K, V> Map<K, List<V>> parallelGroupBy(@Nullable final Collection<V> c, final Function<? super V, ? extends K> keyMapper) {
+		return parallelGroupBy(c, keyMapper, Function.identity());
+	}
+
+	/**
+	 * 将指定的数据集合转为 Map 集合，如果集合的元素个数超过 {@code threshold}，则基于 {@link ForkJoinPool#commonPool()} 并行处理：
+	 * 每个子任务先将自己负责的连续片段放入局部的 Map 中，最后再按片段的先后顺序依次合并。
+	 * <p> 因此，无论是否并行，最终结果都与 {@link #toMap(IntFunction, Iterable, Function, Function)} 完全一致（包括 {@link LinkedHashMap} 的键顺序，以及重复的键以最后一个值为准）。
+	 * <p> 注意：并行处理时 {@code keyMapper} 和 {@code valueMapper} 将在多个线程中被同时调用，因此它们必须是线程安全的
+	 *
+	 * @param newMap Map 构造器，int 参数为 Map 构造方法的 initialCapacity 参数
+	 * @param threshold 切换为并行处理的集合大小阈值
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <E, K, V, M extends Map<K, V>> M parallelToMap(final IntFunction<M> newMap, @Nullable final Collection<E> items,
+	                                                             final Function<? super E, K> keyMapper, final Function<? super E, V> valueMapper, final int threshold) {
+		return parallelCollect(n -> newMap.apply(n > 0 ? mapInitialCapacity(n) : 16), items, (map, e) -> map.put(keyMapper.apply(e), valueMapper.apply(e)), (left, right) -> {
+			left.putAll(right);
+			return left;
+		}, threshold);
+	}
+
+	/**
+	 * 将指定的数据集合转为 Map 集合，如果集合的元素个数超过 {@link #PARALLEL_THRESHOLD}，则自动切换为并行处理
+	 *
+	 * @see #parallelToMap(IntFunction, Collection, Function, Function, int)
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <E, K, V, M extends Map<K, V>> M parallelToMap(final IntFunction<M> newMap, @Nullable final Collection<E> items,
+	                                                             final Function<? super E, K> keyMapper, final Function<? super E, V> valueMapper) {
+		return parallelToMap(newMap, items, keyMapper, valueMapper, PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * 将指定的数据集合转为 HashMap 集合，如果集合的元素个数超过 {@link #PARALLEL_THRESHOLD}，则自动切换为并行处理
+	 *
+	 * @see #parallelToMap(IntFunction, Collection, Function, Function, int)
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static <E, K, V> HashMap<K, V> parallelToHashMap(@Nullable final Collection<E> items, final Function<? super E, K> keyMapper, final Function<? super E, V> valueMapper) {
+		return parallelToMap(CollectionX::newHashMap, items, keyMapper, valueMapper, PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * 将集合元素累积到 Map 中，元素个数超过 {@code threshold} 时拆分为多个连续片段并行累积，再按片段顺序合并
+	 *
+	 * @param newMap Map 构造器，int 参数为当前片段的元素个数
+	 */
+	static <E, M> M parallelCollect(final IntFunction<M> newMap, @Nullable final Collection<E> c, final BiConsumer<M, ? super E> accumulator, final BinaryOperator<M> merger, final int threshold) {
+		final int size = c == null ? 0 : c.size();
+		if (!ParallelRange.shouldSplit(size, threshold)) {
+			final M map = newMap.apply(size);
+			if (size > 0) {
+				for (E e : c) {
+					accumulator.accept(map, e);
+				}
+			}
+			return map;
+		}
+		final List<E> list = ParallelRange.asRandomAccessList(c);
+		return ParallelRange.reduce(size, threshold, (from, to) -> {
+			final M map = newMap.apply(to - from);
+			for (int i = from; i < to; i++) {
+				accumulator.accept(map, list.get(i));
+			}
+			return map;
+		}, merger);
+	}
+
 	/**
 	 * 返回从指定集合过滤并映射后的新集合，这相当于
 	 * <pre><code>
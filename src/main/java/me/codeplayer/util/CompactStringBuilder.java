@@ -0,0 +1,286 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 面向 紧凑字符串（Compact Strings）的可复用字符串构建器
+ * <p> 在 JDK 9+ 并且 <code> String.COMPACT_STRINGS = true </code> 时，内部直接使用 Latin1 编码的 {@code byte[]} 存储字符，
+ * 只有在追加了非 Latin1 字符时，才会膨胀（inflate）为 UTF-16 的 {@code char[]}。
+ * <p> 如果调用 {@link #toString()} 时内部缓冲区恰好被写满（例如：通过构造参数预先指定了精确的容量），则会通过 {@link JavaX#STRING_CREATOR_JDK11}（JDK 8 为 {@link JavaX#STRING_CREATOR_JDK8}）
+ * 直接将缓冲区交给 String 使用，从而<b>避免</b>一次完整的数组复制。此后如果继续修改当前构建器，将会先复制一份新的缓冲区（写时复制），因此不会影响已返回的字符串。
+ * <p> 本类是非线程安全的。
+ *
+ * @see StringBuilder
+ * @see Latin1CharReplacer
+ * @since 4.3.3
+ */
+public final class CompactStringBuilder implements CharSequence, Appendable {
+
+	static final byte[] EMPTY_BYTES = new byte[0];
+
+	/** Latin1 模式下的缓冲区，膨胀为 UTF-16 后为 null */
+	@Nullable
+	byte[] bytes;
+	/** UTF-16 模式下的缓冲区，Latin1 模式下为 null */
+	@Nullable
+	char[] chars;
+	int count;
+	/** 当前缓冲区是否已交给某个 String 使用，如果是，则后续修改前必须先复制 */
+	boolean shared;
+
+	/**
+	 * 构造一个指定初始容量的字符串构建器
+	 *
+	 * @param capacity 初始容量。如果最终的字符数恰好等于该容量，则 {@link #toString()} 不会产生数组复制
+	 */
+	public CompactStringBuilder(int capacity) {
+		if (JavaX.supportLatin1) {
+			bytes = capacity == 0 ? EMPTY_BYTES : new byte[capacity];
+		} else {
+			chars = new char[capacity];
+		}
+	}
+
+	public CompactStringBuilder() {
+		this(16);
+	}
+
+	/**
+	 * 当前构建器是否仍处于 Latin1 模式
+	 */
+	public boolean isLatin1() {
+		return chars == null;
+	}
+
+	/**
+	 * 返回当前缓冲区的容量
+	 */
+	public int capacity() {
+		return chars == null ? bytes.length : chars.length;
+	}
+
+	/**
+	 * 确保缓冲区至少可以容纳指定数量的字符
+	 */
+	public CompactStringBuilder ensureCapacity(int minCapacity) {
+		if (minCapacity > capacity()) {
+			grow(minCapacity);
+		}
+		return this;
+	}
+
+	/** 确保缓冲区可以写入 {@code minCapacity} 个字符，并且不是共享的 */
+	private void prepareWrite(int minCapacity) {
+		if (shared || minCapacity > capacity()) {
+			grow(minCapacity);
+		}
+	}
+
+	private void grow(int minCapacity) {
+		final int oldCapacity = capacity();
+		final int newCapacity = minCapacity <= oldCapacity ? oldCapacity : Math.max(minCapacity, (oldCapacity << 1) + 2);
+		if (chars == null) {
+			bytes = Arrays.copyOf(bytes, newCapacity);
+		} else {
+			chars = Arrays.copyOf(chars, newCapacity);
+		}
+		shared = false;
+	}
+
+	/** 从 Latin1 模式膨胀为 UTF-16 模式 */
+	private void inflate(int minCapacity) {
+		final byte[] src = bytes;
+		final char[] dest = new char[Math.max(minCapacity, src.length)];
+		for (int i = 0; i < count; i++) {
+			dest[i] = (char) (src[i] & 0xFF);
+		}
+		chars = dest;
+		bytes = null;
+		shared = false;
+	}
+
+	@Override
+	public CompactStringBuilder append(char c) {
+		final int newCount = count + 1;
+		if (chars == null) {
+			if (c >>> 8 == 0) {
+				prepareWrite(newCount);
+				bytes[count++] = (byte) c;
+				return this;
+			}
+			inflate(newCount);
+		}
+		prepareWrite(newCount);
+		chars[count++] = c;
+		return this;
+	}
+
+	/**
+	 * 追加指定的字符串，如果为 null，则追加 "null"
+	 */
+	public CompactStringBuilder append(@Nullable String str) {
+		if (str == null) {
+			str = "null";
+		}
+		final int length = str.length(), newCount = count + length;
+		if (chars == null) {
+			if (JavaX.STRING_CODER.applyAsInt(str) == JavaX.LATIN1) {
+				prepareWrite(newCount);
+				System.arraycopy(JavaX.STRING_VALUE.apply(str), 0, bytes, count, length);
+				count = newCount;
+				return this;
+			}
+			inflate(newCount);
+		}
+		prepareWrite(newCount);
+		str.getChars(0, length, chars, count);
+		count = newCount;
+		return this;
+	}
+
+	@Override
+	public CompactStringBuilder append(@Nullable CharSequence cs) {
+		if (cs == null || cs instanceof String) {
+			return append((String) cs);
+		}
+		return append(cs, 0, cs.length());
+	}
+
+	@Override
+	public CompactStringBuilder append(@Nullable CharSequence cs, int start, int end) {
+		if (cs == null) {
+			cs = "null";
+		}
+		ensureCapacity(count + end - start);
+		for (int i = start; i < end; i++) {
+			append(cs.charAt(i));
+		}
+		return this;
+	}
+
+	/**
+	 * 追加指定整数的十进制字符串形式
+	 */
+	public CompactStringBuilder append(long val) {
+		final int newCount = count + StringX.stringSize(val);
+		prepareWrite(newCount);
+		final boolean negative = val < 0;
+		if (!negative) {
+			val = -val; // 统一使用负数计算，以兼容 Long.MIN_VALUE
+		}
+		int pos = newCount;
+		if (chars == null) {
+			final byte[] buf = bytes;
+			do {
+				buf[--pos] = (byte) ('0' - (val % 10));
+				val /= 10;
+			} while (val != 0);
+			if (negative) {
+				buf[--pos] = '-';
+			}
+		} else {
+			final char[] buf = chars;
+			do {
+				buf[--pos] = (char) ('0' - (val % 10));
+				val /= 10;
+			} while (val != 0);
+			if (negative) {
+				buf[--pos] = '-';
+			}
+		}
+		count = newCount;
+		return this;
+	}
+
+	/**
+	 * 追加指定整数的十进制字符串形式
+	 */
+	public CompactStringBuilder append(int val) {
+		return append((long) val);
+	}
+
+	public CompactStringBuilder append(boolean val) {
+		return append(val ? "true" : "false");
+	}
+
+	/**
+	 * 追加指定对象的字符串形式（{@link Integer}、{@link Long} 类型的对象不会产生中间字符串）
+	 */
+	public CompactStringBuilder append(@Nullable Object obj) {
+		if (obj instanceof Integer) {
+			return append((long) (Integer) obj);
+		} else if (obj instanceof Long) {
+			return append((long) (Long) obj);
+		} else if (obj instanceof CharSequence) {
+			return append((CharSequence) obj);
+		}
+		return append(String.valueOf(obj));
+	}
+
+	@Override
+	public int length() {
+		return count;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= count) {
+			throw new StringIndexOutOfBoundsException(index);
+		}
+		return chars == null ? (char) (bytes[index] & 0xFF) : chars[index];
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return toString().substring(start, end);
+	}
+
+	/**
+	 * 设置字符序列的长度。如果新长度大于当前长度，则使用 {@code '\0'} 填充
+	 */
+	public CompactStringBuilder setLength(int newLength) {
+		if (newLength < 0) {
+			throw new StringIndexOutOfBoundsException(newLength);
+		}
+		if (newLength > count) {
+			prepareWrite(newLength);
+			if (chars == null) {
+				Arrays.fill(bytes, count, newLength, (byte) 0);
+			} else {
+				Arrays.fill(chars, count, newLength, '\0');
+			}
+		}
+		count = newLength;
+		return this;
+	}
+
+	/**
+	 * 清空已追加的内容，以便复用当前构建器
+	 */
+	public CompactStringBuilder clear() {
+		count = 0;
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		if (count == 0) {
+			return "";
+		}
+		if (chars == null) {
+			if (count == bytes.length) {
+				shared = true;
+				return JavaX.STRING_CREATOR_JDK11.apply(bytes, JavaX.LATIN1);
+			}
+			return JavaX.STRING_CREATOR_JDK11.apply(Arrays.copyOf(bytes, count), JavaX.LATIN1);
+		}
+		if (!JavaX.isJava9OrHigher && count == chars.length) {
+			shared = true;
+			return JavaX.STRING_CREATOR_JDK8.apply(chars, Boolean.TRUE);
+		}
+		return new String(chars, 0, count);
+	}
+
+}
@@ -0,0 +1,697 @@
+package me.codeplayer.util;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 预编译的日期格式（线程安全、不可变），可用于高性能地格式化和解析日期
+ * <p> 模式字符串的语法与 {@link java.text.SimpleDateFormat} 一致，但本类只直接支持以下字段：
+ * <code> y（年）、M（月，数字形式）、d（日）、H（时，0~23）、m（分）、s（秒）、S（毫秒）</code>，以及 单引号 包裹的文本。
+ * 如果模式中包含其他字段（例如：{@code E}、{@code MMM}、{@code a}、{@code z}），则会自动回退为使用 {@link FastDateFormat} 进行处理。
+ * <p> 格式化时，直接根据 毫秒数 和 时区偏移量 算术推导出各个字段的值，而不会创建 {@link Calendar} 对象。
+ * 如果所有字段都是固定宽度的（例如："yyyy-MM-dd HH:mm:ss"），则直接基于 {@link CharReplacer} 填充预先编译好的字符模板，几乎不会产生额外的内存分配。
+ * <p> 注意：为了与 {@link GregorianCalendar} 的结果保持一致，本地时间早于 1582-10-15（格里高利历切换日）的日期也会回退为使用 {@link FastDateFormat} 进行处理。
+ *
+ * @see EasyDate#parseDate(String, String)
+ * @since 4.3.3
+ */
+public final class DatePattern {
+
+	/** 最多缓存的模式个数，超出后将不再缓存，以免动态拼接的模式字符串导致内存泄漏 */
+	static final int MAX_CACHED_PATTERNS = 256;
+	static final ConcurrentHashMap<String, DatePattern> CACHE = new ConcurrentHashMap<>();
+
+	/** 格里高利历切换日（1582-10-15T00:00:00，本地时间） */
+	static final long GREGORIAN_CUTOVER = -12219292800000L;
+	/** 0000-03-01 到 1970-01-01 的天数 */
+	static final long DAYS_0000_TO_1970 = 719468;
+	/** 解析两位数的年份时所使用的起始年份（类加载时的当前年份的前 80 年），与 {@link java.text.SimpleDateFormat} 一样只在初始化时计算一次 */
+	static final int TWO_DIGIT_YEAR_BASE = Calendar.getInstance().get(Calendar.YEAR) - 80;
+	/** {@link #tryParse(CharSequence, TimeZone)} 解析失败时的返回值（该毫秒数远远超出了可解析的日期范围） */
+	static final long PARSE_FAILED = Long.MIN_VALUE;
+
+	static final byte LITERAL = 0, YEAR = 1, YEAR2 = 2, MONTH = 3, DAY = 4, HOUR = 5, MINUTE = 6, SECOND = 7, MILLIS = 8;
+
+	final String pattern;
+	/** 编译后的各个组成部分，每 3 个元素一组，依次为：kind、count（字段宽度）、start（在固定宽度模板中的起始索引） */
+	final int[] tokens;
+	/** 每个 {@link #LITERAL} 组成部分对应的文本，其他字段对应的元素为 null */
+	final String[] literals;
+	/** 固定宽度的 Latin1 字符模板，如果存在非固定宽度的字段，或者包含非 Latin1 字符，则为 null */
+	@Nullable
+	final byte[] latin1Template;
+	/** 固定宽度的字符模板，如果存在非固定宽度的字段，则为 null */
+	@Nullable
+	final char[] charTemplate;
+	/** 不支持直接处理时，为 true */
+	final boolean fallback;
+
+	DatePattern(String pattern) {
+		this.pattern = pattern;
+		final List<Object> parts = new ArrayList<>();
+		boolean fallback = false;
+		final int length = pattern.length();
+		final StringBuilder literal = new StringBuilder();
+		for (int i = 0; i < length; ) {
+			final char c = pattern.charAt(i);
+			if (c == '\'') {
+				final int end = pattern.indexOf('\'', i + 1);
+				if (end == i + 1) { // '' 表示单引号
+					literal.append('\'');
+				} else if (end == -1) {
+					throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+				} else {
+					// 'o''clock' 中连续的两个单引号表示单引号
+					int from = i + 1, to = end;
+					while (to + 1 < length && pattern.charAt(to + 1) == '\'') {
+						literal.append(pattern, from, to).append('\'');
+						from = to + 2;
+						to = pattern.indexOf('\'', from);
+						if (to == -1) {
+							throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+						}
+					}
+					literal.append(pattern, from, to);
+					i = to + 1;
+					continue;
+				}
+				i = end + 1;
+				continue;
+			}
+			if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z') {
+				int end = i + 1;
+				while (end < length && pattern.charAt(end) == c) {
+					end++;
+				}
+				final int count = end - i;
+				final byte kind = kindOf(c, count);
+				if (kind == LITERAL) {
+					fallback = true;
+				} else {
+					if (literal.length() > 0) {
+						parts.add(literal.toString());
+						literal.setLength(0);
+					}
+					parts.add(new int[] { kind, count });
+				}
+				i = end;
+				continue;
+			}
+			literal.append(c);
+			i++;
+		}
+		if (literal.length() > 0) {
+			parts.add(literal.toString());
+		}
+
+		final int size = parts.size();
+		this.tokens = new int[size * 3];
+		this.literals = new String[size];
+		final StringBuilder template = new StringBuilder(length);
+		boolean fixed = true;
+		for (int i = 0, t = 0; i < size; i++, t += 3) {
+			final Object part = parts.get(i);
+			if (part instanceof String) {
+				literals[i] = (String) part;
+				tokens[t] = LITERAL;
+				tokens[t + 2] = template.length();
+				template.append(literals[i]);
+			} else {
+				final int[] field = (int[]) part;
+				final int kind = field[0], count = field[1];
+				tokens[t] = kind;
+				tokens[t + 1] = count;
+				tokens[t + 2] = template.length();
+				// 年份 必须为 4 位，毫秒 至少为 3 位，其他字段至少为 2 位，才是固定宽度的
+				fixed &= kind == YEAR ? count == 4 : count >= (kind == MILLIS ? 3 : 2);
+				for (int j = 0; j < count; j++) {
+					template.append('0');
+				}
+			}
+		}
+		this.fallback = fallback;
+		if (fixed && !fallback) {
+			this.charTemplate = template.toString().toCharArray();
+			this.latin1Template = JavaX.supportLatin1 && isLatin1(template) ? template.toString().getBytes(StandardCharsets.ISO_8859_1) : null;
+		} else {
+			this.charTemplate = null;
+			this.latin1Template = null;
+		}
+	}
+
+	static boolean isLatin1(CharSequence str) {
+		for (int i = 0; i < str.length(); i++) {
+			if (str.charAt(i) >>> 8 != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static byte kindOf(char c, int count) {
+		switch (c) {
+			case 'y':
+				return count == 2 ? YEAR2 : YEAR;
+			case 'M':
+				return count <= 2 ? MONTH : LITERAL; // MMM 等文本形式的月份不支持
+			case 'd':
+				return DAY;
+			case 'H':
+				return HOUR;
+			case 'm':
+				return MINUTE;
+			case 's':
+				return SECOND;
+			case 'S':
+				return MILLIS;
+			default:
+				return LITERAL;
+		}
+	}
+
+	/**
+	 * 获取指定模式字符串对应的 {@code DatePattern} 实例（内部会缓存已编译的实例）
+	 *
+	 * @param pattern 模式字符串，例如："yyyy-MM-dd HH:mm:ss"
+	 * @throws IllegalArgumentException 如果模式字符串的格式有误
+	 */
+	public static DatePattern of(String pattern) {
+		DatePattern compiled = CACHE.get(pattern);
+		if (compiled == null) {
+			compiled = new DatePattern(pattern);
+			if (CACHE.size() < MAX_CACHED_PATTERNS) {
+				final DatePattern old = CACHE.putIfAbsent(pattern, compiled);
+				if (old != null) {
+					compiled = old;
+				}
+			}
+		}
+		return compiled;
+	}
+
+	/**
+	 * 返回模式字符串
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * 使用系统默认时区将指定的毫秒数格式化为字符串
+	 */
+	public String format(long epochMillis) {
+		return format(epochMillis, TimeZone.getDefault());
+	}
+
+	/**
+	 * 使用系统默认时区将指定的日期格式化为字符串
+	 */
+	public String format(Date date) {
+		return format(date.getTime(), TimeZone.getDefault());
+	}
+
+	/**
+	 * 使用指定的时区将指定的毫秒数格式化为字符串
+	 */
+	public String format(long epochMillis, TimeZone timeZone) {
+		return format(epochMillis, timeZone.getOffset(epochMillis), timeZone);
+	}
+
+	/**
+	 * 使用指定的时区偏移量将指定的毫秒数格式化为字符串
+	 *
+	 * @param offsetMillis 时区偏移的毫秒数
+	 * @param timeZone 回退为使用 {@link FastDateFormat} 时所使用的时区
+	 */
+	String format(long epochMillis, int offsetMillis, TimeZone timeZone) {
+		final long local = epochMillis + offsetMillis;
+		if (fallback || local < GREGORIAN_CUTOVER) {
+			return FastDateFormat.getInstance(pattern, timeZone).format(epochMillis);
+		}
+		final long epochDay = Math.floorDiv(local, EasyDate.MILLIS_OF_DAY);
+		final long date = civilOf(epochDay);
+		final int year = (int) (date >> 9);
+		if (charTemplate != null && year <= 9999) {
+			// 复制预先编译好的模板，只需填充各个字段的数字即可
+			final CharReplacer chars = latin1Template != null
+					? new Latin1CharReplacer(latin1Template.clone())
+					: new UTF16CharReplacer(charTemplate.clone());
+			fill(chars, YEAR, MILLIS, year, date, (int) (local - epochDay * EasyDate.MILLIS_OF_DAY));
+			return chars.toString();
+		}
+		return formatTo(epochMillis, offsetMillis, new StringBuilder(pattern.length() + 8)).toString();
+	}
+
+	/**
+	 * 使用指定的时区将指定的毫秒数格式化后追加到指定的 {@link StringBuilder} 中（复用 {@code StringBuilder} 时，不会产生其他的内存分配）
+	 *
+	 * @return 参数 {@code sb}
+	 */
+	public StringBuilder formatTo(long epochMillis, TimeZone timeZone, StringBuilder sb) {
+		final int offsetMillis = timeZone.getOffset(epochMillis);
+		if (fallback || epochMillis + offsetMillis < GREGORIAN_CUTOVER) {
+			return sb.append(FastDateFormat.getInstance(pattern, timeZone).format(epochMillis));
+		}
+		return formatTo(epochMillis, offsetMillis, sb);
+	}
+
+	/**
+	 * 在固定宽度的字符模板中填充 类型 在 [fromKind, toKind] 范围内的字段
+	 */
+	void fill(CharReplacer chars, int fromKind, int toKind, int year, long date, int millisOfDay) {
+		final int[] ts = tokens;
+		for (int t = 0; t < ts.length; t += 3) {
+			final int kind = ts[t];
+			if (kind >= fromKind && kind <= toKind) {
+				final int start = ts[t + 2];
+				chars.pickChars(fieldValue(kind, year, date, millisOfDay), start, start + ts[t + 1]);
+			}
+		}
+	}
+
+	StringBuilder formatTo(long epochMillis, int offsetMillis, StringBuilder sb) {
+		final long local = epochMillis + offsetMillis;
+		final long epochDay = Math.floorDiv(local, EasyDate.MILLIS_OF_DAY);
+		final long date = civilOf(epochDay);
+		final int year = (int) (date >> 9), millisOfDay = (int) (local - epochDay * EasyDate.MILLIS_OF_DAY);
+		final int[] ts = tokens;
+		for (int t = 0, i = 0; t < ts.length; t += 3, i++) {
+			if (ts[t] == LITERAL) {
+				sb.append(literals[i]);
+			} else {
+				final int value = fieldValue(ts[t], year, date, millisOfDay);
+				// 补足前导 0
+				for (int width = StringX.stringSize(value), count = ts[t + 1]; width < count; width++) {
+					sb.append('0');
+				}
+				sb.append(value);
+			}
+		}
+		return sb;
+	}
+
+	static int fieldValue(int kind, int year, long date, int millisOfDay) {
+		switch (kind) {
+			case YEAR:
+				return year;
+			case YEAR2:
+				return Math.floorMod(year, 100);
+			case MONTH:
+				return (int) (date >> 5) & 0xF;
+			case DAY:
+				return (int) date & 0x1F;
+			case HOUR:
+				return millisOfDay / 3600_000;
+			case MINUTE:
+				return millisOfDay / 60_000 % 60;
+			case SECOND:
+				return millisOfDay / 1000 % 60;
+			default: // MILLIS
+				return millisOfDay % 1000;
+		}
+	}
+
+	/**
+	 * 使用系统默认时区解析指定的日期字符串
+	 *
+	 * @return 对应的毫秒数
+	 * @throws IllegalArgumentException 如果日期字符串与当前模式不匹配，或者某个字段的值超出了有效范围
+	 */
+	public long parse(CharSequence text) {
+		return parse(text, TimeZone.getDefault());
+	}
+
+	/**
+	 * 使用系统默认时区解析指定的日期字符串
+	 *
+	 * @throws IllegalArgumentException 如果日期字符串与当前模式不匹配，或者某个字段的值超出了有效范围
+	 */
+	public Date parseDate(CharSequence text) {
+		return new Date(parse(text, TimeZone.getDefault()));
+	}
+
+	/**
+	 * 使用指定时区解析指定的日期字符串（整个字符串都必须与当前模式匹配）
+	 *
+	 * @return 对应的毫秒数
+	 * @throws IllegalArgumentException 如果日期字符串与当前模式不匹配，或者某个字段的值超出了有效范围
+	 */
+	public long parse(CharSequence text, TimeZone timeZone) {
+		final long time = tryParse(text, timeZone);
+		if (time == PARSE_FAILED) {
+			throw parseError(text);
+		}
+		return time;
+	}
+
+	/**
+	 * 使用指定时区解析指定的日期字符串，与 {@link #parse(CharSequence, TimeZone)} 的规则完全一致，但解析失败时不会抛出异常
+	 *
+	 * @return 对应的毫秒数；如果日期字符串与当前模式不匹配，或者某个字段的值超出了有效范围，则返回 {@link #PARSE_FAILED}
+	 */
+	long tryParse(CharSequence text, TimeZone timeZone) {
+		if (fallback) {
+			return tryParseByFallback(text, timeZone);
+		}
+		int year = 1970, month = 1, day = 1, hour = 0, minute = 0, second = 0, millis = 0;
+		final int length = text.length(), last = tokens.length - 3;
+		int pos = 0;
+		for (int t = 0, i = 0; t <= last; t += 3, i++) {
+			final int kind = tokens[t];
+			if (kind == LITERAL) {
+				final String literal = literals[i];
+				final int end = pos + literal.length();
+				if (end > length) {
+					return PARSE_FAILED;
+				}
+				for (int j = 0; j < literal.length(); j++) {
+					if (text.charAt(pos + j) != literal.charAt(j)) {
+						return PARSE_FAILED;
+					}
+				}
+				pos = end;
+				continue;
+			}
+			// 紧邻下一个数字字段时（例如："yyyyMMdd"），只能读取固定位数；否则尽可能多地读取数字
+			final int count = tokens[t + 1];
+			final boolean adjacent = t < last && tokens[t + 3] != LITERAL;
+			final int maxEnd = Math.min(length, pos + (adjacent ? count : 9));
+			int value = 0, end = pos;
+			char c;
+			while (end < maxEnd && (c = text.charAt(end)) >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				end++;
+			}
+			final int digits = end - pos;
+			if (digits == 0 || adjacent && digits != count) {
+				return PARSE_FAILED;
+			}
+			pos = end;
+			switch (kind) {
+				case YEAR:
+					year = value;
+					break;
+				case YEAR2:
+					year = digits == 2 ? resolveTwoDigitYear(value) : value;
+					break;
+				case MONTH:
+					month = value;
+					break;
+				case DAY:
+					day = value;
+					break;
+				case HOUR:
+					hour = value;
+					break;
+				case MINUTE:
+					minute = value;
+					break;
+				case SECOND:
+					second = value;
+					break;
+				default:
+					millis = value;
+			}
+		}
+		if (pos != length
+				|| month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+				|| hour > 23 || minute > 59 || second > 59 || millis > 999) {
+			return PARSE_FAILED;
+		}
+		final long localMillis = epochDayOf(year, month, day) * EasyDate.MILLIS_OF_DAY
+				+ hour * EasyDate.MILLIS_OF_HOUR + minute * EasyDate.MILLIS_OF_MINUTE + second * 1000L + millis;
+		return localMillis < GREGORIAN_CUTOVER ? tryParseByFallback(text, timeZone) : toEpochMillis(localMillis, timeZone);
+	}
+
+	long tryParseByFallback(CharSequence text, TimeZone timeZone) {
+		final Date date = FastDateFormat.getInstance(pattern, timeZone).parse(text.toString(), new ParsePosition(0));
+		return date == null ? PARSE_FAILED : date.getTime();
+	}
+
+	IllegalArgumentException parseError(CharSequence text) {
+		return new IllegalArgumentException("Unparseable date: \"" + text + "\" (pattern: " + pattern + ')');
+	}
+
+	/**
+	 * 参照 {@link java.text.SimpleDateFormat} 的规则，将两位数的年份解析为 当前年份的前 80 年 ~ 后 20 年 之间的年份
+	 */
+	static int resolveTwoDigitYear(int twoDigitYear) {
+		final int year = TWO_DIGIT_YEAR_BASE / 100 * 100 + twoDigitYear;
+		return year < TWO_DIGIT_YEAR_BASE ? year + 100 : year;
+	}
+
+	/**
+	 * 将本地时间的毫秒数（即：相对于 1970-01-01T00:00:00 本地时间的毫秒数）转换为对应时区的 UTC 毫秒数
+	 * <p> 如果某个本地日期内的时区偏移量是固定不变的（即当天没有夏令时切换），则会按时区分别缓存该日期对应的偏移量，连续解析同一天的时间时无需再次计算
+	 */
+	static long toEpochMillis(long localMillis, TimeZone timeZone) {
+		final long epochDay = Math.floorDiv(localMillis, EasyDate.MILLIS_OF_DAY);
+		final String zoneId = timeZone.getID();
+		final DayOffset cached = DAY_OFFSETS.get(zoneId);
+		if (cached != null && cached.epochDay == epochDay && cached.matches(timeZone)) {
+			return localMillis - cached.offset;
+		}
+		final long epochMillis = toEpochMillisByRules(localMillis, timeZone);
+		final long dayStart = epochDay * EasyDate.MILLIS_OF_DAY;
+		final int offset = (int) (localMillis - epochMillis);
+		if (dayStart - toEpochMillisByRules(dayStart, timeZone) == offset
+				&& dayStart + EasyDate.MILLIS_OF_DAY - 1 - toEpochMillisByRules(dayStart + EasyDate.MILLIS_OF_DAY - 1, timeZone) == offset) {
+			if (cached != null || DAY_OFFSETS.size() < MAX_CACHED_ZONES) {
+				DAY_OFFSETS.put(zoneId, new DayOffset(timeZone, epochDay, offset));
+			}
+		}
+		return epochMillis;
+	}
+
+	static long toEpochMillisByRules(long localMillis, TimeZone timeZone) {
+		final int offset = timeZone.getOffset(localMillis - timeZone.getRawOffset());
+		final long epochMillis = localMillis - offset;
+		final int actual = timeZone.getOffset(epochMillis);
+		return actual == offset ? epochMillis : localMillis - actual;
+	}
+
+	/** 最多缓存的时区个数，超出后将不再缓存新的时区，以免自定义的时区ID 导致内存泄漏 */
+	static final int MAX_CACHED_ZONES = 64;
+	/** 每个时区（以时区ID 作为键）最近一次转换时所缓存的 本地日期 及其对应的时区偏移量，不同时区交替解析时不会互相覆盖 */
+	static final ConcurrentHashMap<String, DayOffset> DAY_OFFSETS = new ConcurrentHashMap<>();
+
+	/**
+	 * 某个时区在某个本地日期内固定不变的时区偏移量（不可变）
+	 */
+	static final class DayOffset {
+
+		final TimeZone timeZone;
+		final long epochDay;
+		final int offset;
+
+		DayOffset(TimeZone timeZone, long epochDay, int offset) {
+			this.timeZone = timeZone;
+			this.epochDay = epochDay;
+			this.offset = offset;
+		}
+
+		/** {@link TimeZone#getDefault()} 每次都会返回一个新的副本，因此还需要比较时区ID 和 基准偏移量 */
+		boolean matches(TimeZone zone) {
+			return timeZone == zone || timeZone.getRawOffset() == zone.getRawOffset() && timeZone.getID().equals(zone.getID());
+		}
+
+	}
+
+	/**
+	 * 直接扫描并解析以下格式的日期字符串（不会创建任何 {@link java.text.DateFormat} 对象）：
+	 * <pre><code>
+	 * yyyyMM
+	 * yyyyMMdd
+	 * yyyy-MM-dd
+	 * yyyy-MM-dd HH:mm
+	 * yyyy-MM-dd HH:mm:ss
+	 * yyyy-MM-dd HH:mm:ss.SSS（小数部分可以为 1 ~ 9 位，超出毫秒精度的部分将被忽略）
+	 * </code></pre>
+	 * 日期与时间之间的分隔符也可以为 'T'（即 ISO-8601 格式），时间后面还可以带上 'Z'、"+08"、"+0800"、"+08:00" 形式的时区偏移量。
+	 *
+	 * @param timeZone 日期字符串中没有指定时区偏移量时所使用的时区
+	 * @return 对应的毫秒数
+	 * @throws IllegalArgumentException 如果日期字符串的格式不符合上述格式，或者某个字段的值超出了有效范围
+	 */
+	static long smartParse(CharSequence text, TimeZone timeZone) {
+		final int length = text.length();
+		final int year = digits(text, 0, 4);
+		int month, day = 1, hour = 0, minute = 0, second = 0, millis = 0;
+		int pos;
+		switch (length) {
+			case 6: // yyyyMM
+				month = digits(text, 4, 6);
+				pos = 6;
+				break;
+			case 8: // yyyyMMdd
+				month = digits(text, 4, 6);
+				day = digits(text, 6, 8);
+				pos = 8;
+				break;
+			default:
+				if (length < 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+					throw smartParseError(text);
+				}
+				month = digits(text, 5, 7);
+				day = digits(text, 8, 10);
+				pos = 10;
+				if (length > 10) {
+					final char sep = text.charAt(10);
+					if (length < 16 || sep != ' ' && sep != 'T' || text.charAt(13) != ':') {
+						throw smartParseError(text);
+					}
+					hour = digits(text, 11, 13);
+					minute = digits(text, 14, 16);
+					pos = 16;
+					if (pos < length && text.charAt(pos) == ':') {
+						second = digits(text, pos + 1, pos += 3);
+						if (pos < length && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+							final int start = ++pos;
+							while (pos < length && pos - start < 9 && isDigit(text.charAt(pos))) {
+								if (pos - start < 3) {
+									millis = millis * 10 + (text.charAt(pos) - '0');
+								}
+								pos++;
+							}
+							final int fractionDigits = pos - start;
+							if (fractionDigits == 0) {
+								throw smartParseError(text);
+							}
+							for (int i = fractionDigits; i < 3; i++) {
+								millis *= 10;
+							}
+						}
+					}
+				}
+		}
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) || hour > 23 || minute > 59 || second > 59) {
+			throw smartParseError(text);
+		}
+		// 时区偏移量
+		boolean hasOffset = false;
+		int offsetMillis = 0;
+		if (pos < length && pos >= 16) {
+			final char sign = text.charAt(pos);
+			if (sign == 'Z') {
+				pos++;
+			} else if (sign == '+' || sign == '-') {
+				final int offsetHour = digits(text, pos + 1, pos += 3);
+				int offsetMinute = 0;
+				if (pos < length) {
+					if (text.charAt(pos) == ':') {
+						pos++;
+					}
+					offsetMinute = digits(text, pos, pos += 2);
+				}
+				if (offsetHour > 18 || offsetMinute > 59) {
+					throw smartParseError(text);
+				}
+				offsetMillis = (int) (offsetHour * EasyDate.MILLIS_OF_HOUR + offsetMinute * EasyDate.MILLIS_OF_MINUTE);
+				if (sign == '-') {
+					offsetMillis = -offsetMillis;
+				}
+			} else {
+				throw smartParseError(text);
+			}
+			hasOffset = true;
+		}
+		if (pos != length) {
+			throw smartParseError(text);
+		}
+		final long localMillis = epochDayOf(year, month, day) * EasyDate.MILLIS_OF_DAY
+				+ hour * EasyDate.MILLIS_OF_HOUR + minute * EasyDate.MILLIS_OF_MINUTE + second * 1000L + millis;
+		if (localMillis < GREGORIAN_CUTOVER) { // 与 GregorianCalendar 保持一致，使用儒略历进行计算
+			final GregorianCalendar calendar = new GregorianCalendar(hasOffset ? new SimpleTimeZone(offsetMillis, "GMT") : timeZone);
+			calendar.clear();
+			calendar.set(year, month - 1, day, hour, minute, second);
+			calendar.set(Calendar.MILLISECOND, millis);
+			return calendar.getTimeInMillis();
+		}
+		return hasOffset ? localMillis - offsetMillis : toEpochMillis(localMillis, timeZone);
+	}
+
+	static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * 读取 [start, end) 之间的十进制数字
+	 *
+	 * @throws IllegalArgumentException 如果超出字符串的长度，或者包含非数字的字符
+	 */
+	static int digits(CharSequence text, int start, int end) {
+		if (end > text.length()) {
+			throw smartParseError(text);
+		}
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			final char c = text.charAt(i);
+			if (!isDigit(c)) {
+				throw smartParseError(text);
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	static IllegalArgumentException smartParseError(CharSequence text) {
+		return new IllegalArgumentException("Unable to parse the date string because of unexpected format:" + text);
+	}
+
+	/**
+	 * 根据 1970-01-01 以来的天数计算对应的 年、月、日（算法参考：<a href="https://howardhinnant.github.io/date_algorithms.html">chrono-Compatible Low-Level Date Algorithms</a>）
+	 *
+	 * @return 压缩表示的日期：<code> (year << 9) | (month << 5) | day </code>
+	 */
+	static long civilOf(long epochDay) {
+		final long z = epochDay + DAYS_0000_TO_1970;
+		final long era = Math.floorDiv(z, 146097L);
+		final long doe = z - era * 146097; // [0, 146096]
+		final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365; // [0, 399]
+		final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100); // [0, 365]
+		final long mp = (5 * doy + 2) / 153; // [0, 11]
+		final long day = doy - (153 * mp + 2) / 5 + 1; // [1, 31]
+		final long month = mp < 10 ? mp + 3 : mp - 9; // [1, 12]
+		final long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+		return (year << 9) | (month << 5) | day;
+	}
+
+	/**
+	 * 计算指定日期距离 1970-01-01 的天数
+	 *
+	 * @param month 1 ~ 12
+	 */
+	static long epochDayOf(long year, int month, int day) {
+		year -= month <= 2 ? 1 : 0;
+		final long era = Math.floorDiv(year, 400L);
+		final long yoe = year - era * 400; // [0, 399]
+		final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1; // [0, 365]
+		final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy; // [0, 146096]
+		return era * 146097 + doe - DAYS_0000_TO_1970;
+	}
+
+	static int lengthOfMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				return EasyDate.isLeapYears(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+
+}
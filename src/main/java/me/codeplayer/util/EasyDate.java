@@ -5,7 +5,6 @@ import java.math.RoundingMode;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.*;
-import java.time.*;
 import java.util.*;
 
 import org.apache.commons.lang3.time.FastDateFormat;
@@ -43,6 +42,10 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	public static final long MILLIS_OF_HOUR = MILLIS_OF_MINUTE * 60;
 	/** 一天的毫秒数 */
 	public static final long MILLIS_OF_DAY = MILLIS_OF_HOUR * 24;
+	/** 按秒缓存格式化结果的 "yyyy-MM-dd HH:mm:ss" 格式化器 */
+	static final CachedDatePattern DATETIME_CACHE = new CachedDatePattern(DatePattern.of(DATETIME));
+	/** 按天缓存格式化结果的 "yyyy年MM月dd日" 格式化器 */
+	static final CachedDatePattern DATE_STRING_CACHE = new CachedDatePattern(DatePattern.of("yyyy年MM月dd日"));
 
 	private Calendar calendar;
 
@@ -497,45 +500,28 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	}
 
 	/**
-	 * 根据日期字符串的长度智能转换为对应的日期实例对象<br>
-	 * 长度和格式对应如下(找不到对应格式将报错)：<br>
-	 * 6=201206(年月)<br>
-	 * 8=20120126(年月日)<br>
-	 * 10=2012-01-02(年-月-日)<br>
-	 * 19=2012-01-02 13:22:56(年-月-日 时:分:秒)
+	 * 智能识别日期字符串的格式，并转换为对应的日期实例对象（找不到对应格式将报错）<br>
+	 * 支持的格式如下：<br>
+	 * 201206(年月)<br>
+	 * 20120126(年月日)<br>
+	 * 2012-01-02(年-月-日)<br>
+	 * 2012-01-02 13:22(年-月-日 时:分)<br>
+	 * 2012-01-02 13:22:56(年-月-日 时:分:秒)<br>
+	 * 2012-01-02 13:22:56.789(年-月-日 时:分:秒.毫秒)<br>
+	 * 2012-01-02T13:22:56.789+08:00(ISO-8601 格式，时区偏移量也可以为 "Z"、"+08"、"+0800" 等形式)
+	 * <p> 内部直接扫描字符串中的数字并计算出对应的毫秒数，不会创建任何 {@link DateFormat} 对象
+	 *
+	 * @throws IllegalArgumentException 如果日期字符串的格式不符合上述格式，或者某个字段的值超出了有效范围
 	 */
 	public static Date smartParseDate(String date) {
 		if (date == null) {
 			throw new NullPointerException();
 		}
-		int length = date.length(); // 字符串长度
-		String format;
-		switch (length) {
-			case 10:// 2012-01-02
-				format = DATE;
-				break;
-			case 19:// 2012-01-02 13:22:56
-				format = DATETIME;
-				break;
-			case 8:// 20120126
-				format = SHORT_DATE;
-				break;
-			case 6:// 201206
-				format = YM_DATE;
-				break;
-			default:
-				throw new IllegalArgumentException("Unable to parse the date string because of unexpected format:" + date);
-		}
-		return parseDate(format, date);
+		return new Date(DatePattern.smartParse(date, TimeZone.getDefault()));
 	}
 
 	/**
-	 * 根据日期字符串的长度智能转换为对应的日期实例对象<br>
-	 * 长度和格式对应如下(找不到对应格式将报错)：<br>
-	 * 6=201206(年月)<br>
-	 * 8=20120126(年月日)<br>
-	 * 10=2012-01-02(年-月-日)<br>
-	 * 19=2012-01-02 13:22:56(年-月-日 时:分:秒)
+	 * 智能识别日期字符串的格式，并转换为对应的日期实例对象（支持的格式参见 {@link #smartParseDate(String)} ）
 	 */
 	public static EasyDate smartParse(String date) {
 		return new EasyDate(smartParseDate(date));
@@ -580,18 +566,24 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	/**
 	 * 将指定格式的字符串转为对应的日期实例对象
 	 *
-	 * @param format 指定的格式字符串，例如“yyyy-MM-dd”，内部将使用 {@link FastDateFormat} 进行转换
+	 * <p> 内部优先使用预编译并缓存的 {@link DatePattern} 进行严格转换；如果失败，则回退为使用 {@link FastDateFormat} 进行宽松转换，
+	 * 因此仍然兼容 只匹配前缀（例如 "yyyy-MM-dd" 可以解析 "2024-01-05 12:30:00"）、字段值溢出时自动进位（例如 "2024-02-30" =&gt; 2024-03-01）等情况。
+	 * <p> 如果需要严格校验，请直接使用 {@link DatePattern#parseDate(CharSequence)}
+	 *
+	 * @param format 指定的格式字符串，例如“yyyy-MM-dd”
 	 * @param dateStr 日期字符串
+	 * @throws IllegalArgumentException 如果日期字符串与指定的格式不匹配
 	 */
 	public static Date parseDate(String format, String dateStr) {
-		FastDateFormat formatter = FastDateFormat.getInstance(format);
-		final Date date;
+		final long time = DatePattern.of(format).tryParse(dateStr, TimeZone.getDefault());
+		if (time != DatePattern.PARSE_FAILED) {
+			return new Date(time);
+		}
 		try {
-			date = formatter.parse(dateStr);
+			return FastDateFormat.getInstance(format).parse(dateStr);
 		} catch (ParseException e) {
 			throw new IllegalArgumentException(e);
 		}
-		return date;
 	}
 
 	/**
@@ -632,6 +624,15 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 		return new Time(calendar.getTimeInMillis());
 	}
 
+	/**
+	 * 转为不可变的紧凑日期类型 {@link EpochDate}（时区保持不变）
+	 *
+	 * @since 4.3.3
+	 */
+	public EpochDate toEpochDate() {
+		return new EpochDate(calendar.getTimeInMillis(), calendar.getTimeZone());
+	}
+
 	/**
 	 * 与指定日期进行比较，如果大于指定的日期返回正数；等于返回0；小于返回负数
 	 *
@@ -1229,8 +1230,7 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	 * 返回"yyyy-MM-dd"格式的字符串
 	 */
 	public static String toString(Date d) {
-		ZonedDateTime zdt = toDatetime(d);
-		return toString(zdt.getYear(), zdt.getMonthValue(), zdt.getDayOfMonth());
+		return DatePattern.of(DATE).format(d);
 	}
 
 	static String toString(int year, int month, int day) {
@@ -1243,7 +1243,7 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	 * 返回"yyyy年MM月dd日"格式的字符串
 	 */
 	public String toDateString() {
-		return toDateString(getYear(), getMonth(), getDay());
+		return DATE_STRING_CACHE.format(calendar.getTimeInMillis(), calendar.getTimeZone());
 	}
 
 	/**
@@ -1258,9 +1258,8 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	/**
 	 * 返回"yyyy年MM月dd日"格式的字符串
 	 */
-	@SuppressWarnings("deprecation")
 	public static String toDateString(Date d) {
-		return toDateString(d.getYear() + 1900, d.getMonth() + 1, d.getDate());
+		return DATE_STRING_CACHE.format(d.getTime(), TimeZone.getDefault());
 	}
 
 	/**
@@ -1282,15 +1281,14 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	 * 返回"yyyy-MM-dd HH:mm:ss"格式的字符串
 	 */
 	public String toDateTimeString() {
-		return toDateTimeString(getYear(), getMonth(), getDay(), getHour(), getMinute(), getSecond());
+		return DATETIME_CACHE.format(calendar.getTimeInMillis(), calendar.getTimeZone());
 	}
 
 	/**
 	 * 返回"yyyy-MM-dd HH:mm:ss"格式的字符串
 	 */
-	@SuppressWarnings("deprecation")
 	public static String toDateTimeString(Date d) {
-		return toDateTimeString(d.getYear() + 1900, d.getMonth() + 1, d.getDate(), d.getHours(), d.getMinutes(), d.getSeconds());
+		return DATETIME_CACHE.format(d.getTime(), TimeZone.getDefault());
 	}
 
 	/**
@@ -1318,12 +1316,7 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	 * 返回 "yyyyMMdd" 格式的字符串
 	 */
 	public static String toShortString(Date d) {
-		ZonedDateTime zdt = toDatetime(d);
-		return toShortString(zdt.getYear(), zdt.getMonthValue(), zdt.getDayOfMonth());
-	}
-
-	private static ZonedDateTime toDatetime(Date d) {
-		return ZonedDateTime.ofInstant(Instant.ofEpochMilli(d.getTime()), ZoneId.systemDefault());
+		return DatePattern.of(SHORT_DATE).format(d);
 	}
 
 	/**
@@ -1348,8 +1341,7 @@ public class EasyDate implements Comparable<Object>, Cloneable, Serializable {
 	 * 返回"yyyy-MM-dd HH:mm:ss.SSS"格式的字符串
 	 */
 	public static String toLongString(Date d) {
-		ZonedDateTime zdt = toDatetime(d);
-		return toLongString(zdt.getYear(), zdt.getMonthValue(), zdt.getDayOfMonth(), zdt.getHour(), zdt.getMinute(), zdt.getSecond(), zdt.getNano() / 1000000);
+		return DatePattern.of("yyyy-MM-dd HH:mm:ss.SSS").format(d);
 	}
 
 	/**
@@ -1,7 +1,16 @@
 package me.codeplayer.util;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * 封装常用数据加密算法的加密器<br>
@@ -16,7 +25,15 @@ import java.security.NoSuchAlgorithmException;
 public abstract class Encrypter {
 
 	/**
-	 * 获取对应的摘要算法
+	 * 按照算法名称分别缓存的 MessageDigest 对象池，以免每次都调用 {@link MessageDigest#getInstance(String)}（需要同步地查找安全提供者）
+	 * <p> 与 {@link StringBuilderRecycler} 一样采用分段（striped）的对象池：每个线程根据线程 ID 映射到一个槽位，并通过原子操作独占地借出、归还对象
+	 */
+	static final ConcurrentHashMap<String, AtomicReferenceArray<MessageDigest>> DIGEST_POOLS = new ConcurrentHashMap<>();
+	/** 读取输入流或文件时使用的缓冲区大小 */
+	static final int BUFFER_SIZE = 64 << 10;
+
+	/**
+	 * 获取对应的摘要算法（每次都返回新的实例）
 	 */
 	public static MessageDigest getMessageDigest(String algorithm) {
 		try {
@@ -26,6 +43,36 @@ public abstract class Encrypter {
 		}
 	}
 
+	/**
+	 * 从对象池中借出一个对应算法的 MessageDigest（如果对象池中没有，则创建新的实例）。使用完毕后，应调用 {@link #releaseMessageDigest(MessageDigest)} 进行归还
+	 * <p> 借出和归还都只在本类内部进行，以确保对象池中只有通过 {@link #getMessageDigest(String)} 创建的实例，而不会混入外部传入的（例如：由其他安全提供者创建的、仍在使用中的）实例
+	 *
+	 * @param algorithm 算法名称，如“MD5”、“SHA”、“SHA-256”、“SHA-384”、“SHA-512”。
+	 * @throws IllegalArgumentException 如果不支持该算法
+	 * @since 4.3.3
+	 */
+	static MessageDigest acquireMessageDigest(String algorithm) {
+		final AtomicReferenceArray<MessageDigest> pool = DIGEST_POOLS.get(algorithm);
+		if (pool != null) {
+			final MessageDigest md = pool.getAndSet(StringBuilderRecycler.slot(), null);
+			if (md != null) {
+				return md;
+			}
+		}
+		return getMessageDigest(algorithm);
+	}
+
+	/**
+	 * 重置并归还借出的 MessageDigest。归还后，调用方不能再继续使用该对象
+	 *
+	 * @since 4.3.3
+	 */
+	static void releaseMessageDigest(MessageDigest md) {
+		md.reset();
+		DIGEST_POOLS.computeIfAbsent(md.getAlgorithm(), k -> new AtomicReferenceArray<>(StringBuilderRecycler.STRIPES))
+				.lazySet(StringBuilderRecycler.slot(), md);
+	}
+
 	/**
 	 * 将指定的字符串通过MD5加密算法进行加密，并返回加密后32位的MD5值<br>
 	 * 如果字符串为 null，将引发空指针异常
@@ -52,6 +99,27 @@ public abstract class Encrypter {
 		return encode(buf, "MD5");
 	}
 
+	/**
+	 * 对输入流中的剩余数据进行 MD5 摘要运算（分块读取，不会关闭输入流），并返回摘要的字节数组
+	 *
+	 * @throws IOException 如果读取时发生 I/O 异常
+	 * @since 4.3.3
+	 */
+	public static byte[] md5(final InputStream in) throws IOException {
+		return encode(in, "MD5");
+	}
+
+	/**
+	 * 对文件内容进行 MD5 摘要运算（分块读取，不会将全部数据加载到内存中），并返回摘要的字节数组
+	 *
+	 * @throws IOException 如果文件不存在或者读取时发生 I/O 异常
+	 * @see #encode(File, String)
+	 * @since 4.3.3
+	 */
+	public static byte[] md5(final File file) throws IOException {
+		return encode(file, "MD5");
+	}
+
 	/**
 	 * 将指定的字符串通过SHA-1加密算法进行加密，并返回加密后的40位SHA-1值<br>
 	 * 为了保持一致，内部统一使用UTF-8编码获取字符串的字节数组<br>
@@ -77,7 +145,82 @@ public abstract class Encrypter {
 	 * @param algorithm 算法名称
 	 */
 	public static byte[] encode(final byte[] buf, String algorithm) {
-		return getMessageDigest(algorithm).digest(buf);
+		final MessageDigest md = acquireMessageDigest(algorithm);
+		try {
+			return md.digest(buf);
+		} finally {
+			releaseMessageDigest(md);
+		}
+	}
+
+	/**
+	 * 以指定的算法对输入流中的剩余数据进行摘要运算（分块读取，不会将全部数据加载到内存中），并返回摘要的字节数组<br>
+	 * <b>注意：</b>本方法不会关闭输入流
+	 *
+	 * @param in 输入流
+	 * @param algorithm 算法名称，如“MD5”、“SHA”、“SHA-256”、“SHA-384”、“SHA-512”。
+	 * @throws IOException 如果读取时发生 I/O 异常
+	 * @since 4.3.3
+	 */
+	public static byte[] encode(final InputStream in, String algorithm) throws IOException {
+		final MessageDigest md = acquireMessageDigest(algorithm);
+		try {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			int n;
+			while ((n = in.read(buffer)) != -1) {
+				md.update(buffer, 0, n);
+			}
+			return md.digest();
+		} finally {
+			releaseMessageDigest(md);
+		}
+	}
+
+	/**
+	 * 以指定的算法对文件内容进行摘要运算，并返回摘要的字节数组<br>
+	 * 内部通过 {@link FileChannel} 顺序地分块读取到同一个直接内存缓冲区中，不会将全部数据加载到内存中，也不会产生无法及时释放的内存映射，适用于 GB 级别的大文件
+	 *
+	 * @param file 文件
+	 * @param algorithm 算法名称，如“MD5”、“SHA”、“SHA-256”、“SHA-384”、“SHA-512”。
+	 * @throws IOException 如果文件不存在或者读取时发生 I/O 异常
+	 * @since 4.3.3
+	 */
+	public static byte[] encode(final File file, String algorithm) throws IOException {
+		return encode(file, algorithm, BUFFER_SIZE);
+	}
+
+	static byte[] encode(final File file, String algorithm, int bufferSize) throws IOException {
+		final MessageDigest md = acquireMessageDigest(algorithm);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			// 直接内存缓冲区可以避免 FileChannel 在内部再复制一次数据
+			final ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(bufferSize, Math.max(channel.size(), 1)));
+			while (channel.read(buffer) != -1) {
+				((Buffer) buffer).flip(); // 兼容 JDK 8 的方法签名
+				md.update(buffer);
+				((Buffer) buffer).clear();
+			}
+			return md.digest();
+		} finally {
+			releaseMessageDigest(md);
+		}
+	}
+
+	/**
+	 * 以指定的算法对 ByteBuffer 中的剩余数据（从 <code>position</code> 到 <code>limit</code>）进行摘要运算，并返回摘要的字节数组<br>
+	 * 运算完成后，ByteBuffer 的 <code>position</code> 将等于 <code>limit</code>
+	 *
+	 * @param buffer 可以是堆内存或直接内存（例如：{@link java.nio.MappedByteBuffer}）
+	 * @param algorithm 算法名称，如“MD5”、“SHA”、“SHA-256”、“SHA-384”、“SHA-512”。
+	 * @since 4.3.3
+	 */
+	public static byte[] encode(final ByteBuffer buffer, String algorithm) {
+		final MessageDigest md = acquireMessageDigest(algorithm);
+		try {
+			md.update(buffer);
+			return md.digest();
+		} finally {
+			releaseMessageDigest(md);
+		}
 	}
 
 	/**
@@ -88,7 +231,7 @@ public abstract class Encrypter {
 	 * @param algorithm 算法名称，如“MD5”、“SHA”、“SHA-256”、“SHA-384”、“SHA-512”。
 	 */
 	public static String encode(String input, String algorithm, boolean upperCase) {
-		return bytes2Hex(getMessageDigest(algorithm).digest(JavaX.getUtf8Bytes(input)), upperCase);
+		return bytes2Hex(encode(JavaX.getUtf8Bytes(input), algorithm), upperCase);
 	}
 
 	/**
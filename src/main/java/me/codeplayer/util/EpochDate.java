@@ -0,0 +1,581 @@
+package me.codeplayer.util;
+
+import java.io.Serializable;
+import java.math.RoundingMode;
+import java.time.*;
+import java.util.*;
+
+import org.jspecify.annotations.Nullable;
+
+import static java.util.Calendar.*;
+
+/**
+ * 不可变的紧凑日期时间类型，只存储 UTC 毫秒数 和 时区
+ * <p> 与 {@link EasyDate} 相比，本类不会为每个实例创建 {@link Calendar} 对象（每个实例约占用 24 个字节，而 {@code EasyDate} 通常需要数百个字节），
+ * 适合在内存中大量保存日期对象的场景。所有的字段读取、{@link #beginOf(int)}、{@link #endOf(int)}、{@link #calcDifference(Object, int, RoundingMode)} 等操作都是直接基于毫秒数算术计算的。
+ * <p> 所有修改日期的方法（例如：{@link #addDay(int)}）都会返回一个新的实例，而不会修改当前实例。
+ * <p> 注意：
+ * <ul>
+ *     <li>与 {@link java.time} 一致，本类对 1582-10-15（格里高利历切换日）之前的日期也使用格里高利历进行计算（{@link GregorianCalendar} 则会切换为儒略历）。</li>
+ *     <li>与 {@link EasyDate} 一致，每周的第一天为 星期一。</li>
+ *     <li>构造时传入的 {@link TimeZone} 对象在之后不应再被修改。</li>
+ * </ul>
+ *
+ * @see EasyDate
+ * @since 4.3.3
+ */
+public final class EpochDate implements Comparable<EpochDate>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** UTC 毫秒数 */
+	final long time;
+	final TimeZone timeZone;
+
+	EpochDate(long time, TimeZone timeZone) {
+		this.time = time;
+		this.timeZone = timeZone;
+	}
+
+	/**
+	 * 基于指定的毫秒数 和 系统默认时区 构造一个实例
+	 */
+	public static EpochDate of(long time) {
+		return new EpochDate(time, TimeZone.getDefault());
+	}
+
+	/**
+	 * 基于指定的毫秒数 和 时区 构造一个实例
+	 */
+	public static EpochDate of(long time, TimeZone timeZone) {
+		Assert.notNull(timeZone);
+		return new EpochDate(time, timeZone);
+	}
+
+	/**
+	 * 基于指定的日期 和 系统默认时区 构造一个实例
+	 */
+	public static EpochDate of(Date date) {
+		return new EpochDate(date.getTime(), TimeZone.getDefault());
+	}
+
+	/**
+	 * 基于指定的 {@link EasyDate} 的毫秒数 和 时区 构造一个实例
+	 */
+	public static EpochDate of(EasyDate date) {
+		return new EpochDate(date.getTime(), date.getTimeZone());
+	}
+
+	/**
+	 * 基于指定的 {@link Instant} 和 时区 构造一个实例
+	 */
+	public static EpochDate of(Instant instant, ZoneId zone) {
+		return new EpochDate(instant.toEpochMilli(), TimeZone.getTimeZone(zone));
+	}
+
+	/**
+	 * 基于指定的 {@link ZonedDateTime} 构造一个实例
+	 */
+	public static EpochDate of(ZonedDateTime dateTime) {
+		return of(dateTime.toInstant(), dateTime.getZone());
+	}
+
+	/**
+	 * 基于指定时区的本地日期时间构造一个实例
+	 *
+	 * @param month 月份，1 ~ 12
+	 * @throws IllegalArgumentException 如果某个字段的值超出了有效范围
+	 */
+	public static EpochDate of(int year, int month, int day, int hour, int minute, int second, int millis, TimeZone timeZone) {
+		if (month < 1 || month > 12 || day < 1 || day > DatePattern.lengthOfMonth(year, month)
+				|| hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0 || millis > 999) {
+			throw new IllegalArgumentException("Invalid date time: " + year + '-' + month + '-' + day + ' ' + hour + ':' + minute + ':' + second + '.' + millis);
+		}
+		return new EpochDate(DatePattern.toEpochMillis(localMillisOf(year, month, day) + hour * EasyDate.MILLIS_OF_HOUR
+				+ minute * EasyDate.MILLIS_OF_MINUTE + second * 1000L + millis, timeZone), timeZone);
+	}
+
+	/**
+	 * 基于系统默认时区的本地日期构造一个实例（时间为 00:00:00.000）
+	 *
+	 * @param month 月份，1 ~ 12
+	 * @throws IllegalArgumentException 如果某个字段的值超出了有效范围
+	 */
+	public static EpochDate of(int year, int month, int day) {
+		return of(year, month, day, 0, 0, 0, 0, TimeZone.getDefault());
+	}
+
+	/**
+	 * 返回表示当前时间的实例
+	 */
+	public static EpochDate now() {
+		return of(System.currentTimeMillis());
+	}
+
+	static long localMillisOf(int year, int month, int day) {
+		return DatePattern.epochDayOf(year, month, day) * EasyDate.MILLIS_OF_DAY;
+	}
+
+	/**
+	 * 返回 UTC 毫秒数
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	public TimeZone getTimeZone() {
+		return timeZone;
+	}
+
+	public ZoneId getZoneId() {
+		return timeZone.toZoneId();
+	}
+
+	/**
+	 * 返回本地时间相对于GMT时间的偏移分钟数
+	 *
+	 * @see EasyDate#getTimeZoneOffset()
+	 */
+	public int getTimeZoneOffset() {
+		return timeZone.getOffset(time) / 60000;
+	}
+
+	/**
+	 * 返回本地时间的毫秒数（即：相对于 1970-01-01T00:00:00 本地时间的毫秒数）
+	 */
+	long localMillis() {
+		return time + timeZone.getOffset(time);
+	}
+
+	long epochDay() {
+		return Math.floorDiv(localMillis(), EasyDate.MILLIS_OF_DAY);
+	}
+
+	int millisOfDay() {
+		return (int) Math.floorMod(localMillis(), EasyDate.MILLIS_OF_DAY);
+	}
+
+	/**
+	 * 返回压缩表示的日期，参见 {@link DatePattern#civilOf(long)}
+	 */
+	long civil() {
+		return DatePattern.civilOf(epochDay());
+	}
+
+	public int getYear() {
+		return (int) (civil() >> 9);
+	}
+
+	/**
+	 * 获取日期的月份，返回值为 1 ~ 12
+	 */
+	public int getMonth() {
+		return (int) (civil() >> 5) & 0xF;
+	}
+
+	/**
+	 * 获取日期的日，返回值为 1 ~ 31
+	 */
+	public int getDay() {
+		return (int) civil() & 0x1F;
+	}
+
+	/**
+	 * 获取日期是当年中的第几天，返回值为 1 ~ 366
+	 */
+	public int getDayOfYear() {
+		return (int) (epochDay() - DatePattern.epochDayOf(getYear(), 1, 1)) + 1;
+	}
+
+	/**
+	 * 获取日期的星期，返回值为 1(星期一) ~ 7(星期天)
+	 */
+	public int getWeekDay() {
+		// 1970-01-01 是星期四
+		return (int) Math.floorMod(epochDay() + 3, 7L) + 1;
+	}
+
+	/**
+	 * 获取日期的时，返回值为 0 ~ 23
+	 */
+	public int getHour() {
+		return millisOfDay() / 3600_000;
+	}
+
+	public int getMinute() {
+		return millisOfDay() / 60_000 % 60;
+	}
+
+	public int getSecond() {
+		return millisOfDay() / 1000 % 60;
+	}
+
+	public int getMillisecond() {
+		return millisOfDay() % 1000;
+	}
+
+	/**
+	 * 获取当前月的最后一天
+	 */
+	public int getLastDayOfMonth() {
+		final long civil = civil();
+		return DatePattern.lengthOfMonth((int) (civil >> 9), (int) (civil >> 5) & 0xF);
+	}
+
+	public boolean isLeapYear() {
+		return EasyDate.isLeapYears(getYear());
+	}
+
+	/**
+	 * 基于当前时区的本地时间（毫秒数）返回一个新的实例
+	 */
+	EpochDate withLocalMillis(long localMillis) {
+		return new EpochDate(DatePattern.toEpochMillis(localMillis, timeZone), timeZone);
+	}
+
+	/**
+	 * 返回在当前日期基础上增加指定时间字段值后的新实例（当前实例不会被修改）
+	 *
+	 * @param field 支持的字段有：{@link Calendar#YEAR}、{@link Calendar#MONTH}、{@link Calendar#DATE}、{@link Calendar#HOUR_OF_DAY}、{@link Calendar#MINUTE}、{@link Calendar#SECOND}、{@link Calendar#MILLISECOND}
+	 * @param amount 需要增加的值，可以为负数
+	 */
+	public EpochDate add(int field, int amount) {
+		if (amount == 0) {
+			return this;
+		}
+		switch (field) {
+			case YEAR:
+				return addMonth0(amount * 12L);
+			case MONTH:
+				return addMonth0(amount);
+			case DATE:
+			case DAY_OF_YEAR:
+			case DAY_OF_WEEK:
+				// 保持本地时间不变（与 Calendar 一致，跨越夏令时切换时，也不会改变 时分秒）
+				return withLocalMillis(localMillis() + amount * EasyDate.MILLIS_OF_DAY);
+			default:
+				return new EpochDate(time + amount * EasyDate.getMillisOfUnit(field), timeZone);
+		}
+	}
+
+	/**
+	 * 增加指定的月数，如果目标月份没有对应的日（例如：1 月 31 日 + 1 个月），则调整为目标月份的最后一天
+	 */
+	EpochDate addMonth0(long months) {
+		final long local = localMillis();
+		final long epochDay = Math.floorDiv(local, EasyDate.MILLIS_OF_DAY);
+		final long civil = DatePattern.civilOf(epochDay);
+		final long totalMonths = (civil >> 9) * 12 + ((civil >> 5) & 0xF) - 1 + months;
+		final int year = (int) Math.floorDiv(totalMonths, 12L), month = (int) Math.floorMod(totalMonths, 12L) + 1;
+		final int day = Math.min((int) civil & 0x1F, DatePattern.lengthOfMonth(year, month));
+		return withLocalMillis(localMillisOf(year, month, day) + (local - epochDay * EasyDate.MILLIS_OF_DAY));
+	}
+
+	public EpochDate addYear(int year) {
+		return add(YEAR, year);
+	}
+
+	public EpochDate addMonth(int month) {
+		return add(MONTH, month);
+	}
+
+	public EpochDate addDay(int day) {
+		return add(DATE, day);
+	}
+
+	public EpochDate addHour(int hour) {
+		return add(HOUR_OF_DAY, hour);
+	}
+
+	public EpochDate addMinute(int minute) {
+		return add(MINUTE, minute);
+	}
+
+	public EpochDate addSecond(int second) {
+		return add(SECOND, second);
+	}
+
+	/**
+	 * 返回在当前日期基础上增加指定毫秒数后的新实例
+	 */
+	public EpochDate addTime(long millis) {
+		return millis == 0 ? this : new EpochDate(time + millis, timeZone);
+	}
+
+	/**
+	 * 返回时区变更为指定时区后的新实例（UTC 毫秒数不变）
+	 */
+	public EpochDate withTimeZone(TimeZone timeZone) {
+		Assert.notNull(timeZone);
+		return new EpochDate(time, timeZone);
+	}
+
+	/**
+	 * 返回指定时间字段范围内所能表示的最小值
+	 *
+	 * @param field 该方法支持的字段请参见参阅
+	 * @see Calendar#YEAR
+	 * @see Calendar#MONTH
+	 * @see Calendar#DAY_OF_WEEK
+	 * @see Calendar#DATE
+	 * @see Calendar#HOUR_OF_DAY
+	 * @see Calendar#MINUTE
+	 * @see Calendar#SECOND
+	 * @see EasyDate#beginOf(int)
+	 */
+	public EpochDate beginOf(int field) {
+		final long local = localMillis();
+		final long epochDay = Math.floorDiv(local, EasyDate.MILLIS_OF_DAY);
+		switch (field) {
+			case YEAR:
+				return withLocalMillis(localMillisOf((int) (DatePattern.civilOf(epochDay) >> 9), 1, 1));
+			case MONTH:
+				return withLocalMillis((epochDay - (DatePattern.civilOf(epochDay) & 0x1F) + 1) * EasyDate.MILLIS_OF_DAY);
+			case DAY_OF_WEEK: // 星期一
+				return withLocalMillis((epochDay - Math.floorMod(epochDay + 3, 7L)) * EasyDate.MILLIS_OF_DAY);
+			case DATE:
+				return withLocalMillis(epochDay * EasyDate.MILLIS_OF_DAY);
+			case HOUR:
+			case HOUR_OF_DAY:
+			case MINUTE:
+			case SECOND:
+				final long unit = EasyDate.getMillisOfUnit(field);
+				return withLocalMillis(Math.floorDiv(local, unit) * unit);
+			default:
+				throw new IllegalArgumentException(String.valueOf(field));
+		}
+	}
+
+	/**
+	 * 返回指定时间字段范围内所能表示的最大值
+	 *
+	 * @param field 该方法支持的字段请参见参阅
+	 * @see Calendar#YEAR
+	 * @see Calendar#MONTH
+	 * @see Calendar#DAY_OF_WEEK
+	 * @see Calendar#DATE
+	 * @see Calendar#HOUR_OF_DAY
+	 * @see Calendar#MINUTE
+	 * @see Calendar#SECOND
+	 * @see EasyDate#endOf(int)
+	 */
+	public EpochDate endOf(int field) {
+		final long local = localMillis();
+		final long epochDay = Math.floorDiv(local, EasyDate.MILLIS_OF_DAY);
+		switch (field) {
+			case YEAR:
+				return withLocalMillis(localMillisOf((int) (DatePattern.civilOf(epochDay) >> 9) + 1, 1, 1) - 1);
+			case MONTH: {
+				final long civil = DatePattern.civilOf(epochDay);
+				final int lastDay = DatePattern.lengthOfMonth((int) (civil >> 9), (int) (civil >> 5) & 0xF);
+				return withLocalMillis((epochDay - (civil & 0x1F) + lastDay + 1) * EasyDate.MILLIS_OF_DAY - 1);
+			}
+			case DAY_OF_WEEK: // 星期天
+				return withLocalMillis((epochDay - Math.floorMod(epochDay + 3, 7L) + 7) * EasyDate.MILLIS_OF_DAY - 1);
+			case DATE:
+				return withLocalMillis((epochDay + 1) * EasyDate.MILLIS_OF_DAY - 1);
+			case HOUR:
+			case HOUR_OF_DAY:
+			case MINUTE:
+			case SECOND:
+				final long unit = EasyDate.getMillisOfUnit(field);
+				return withLocalMillis((Math.floorDiv(local, unit) + 1) * unit - 1);
+			default:
+				throw new IllegalArgumentException(String.valueOf(field));
+		}
+	}
+
+	/**
+	 * 计算并返回当前日期与指定日期之间基于指定单位和舍入模式的差值
+	 * <p>如果当前日期大于等于指定日期，则返回正数，否则返回负数
+	 * <p><b>注意：</b>如果两个时间对象的时区不一致，则以 {@code this } 的时区 为准
+	 *
+	 * @param date 与当前日期进行比较的日期，支持 {@link EpochDate} 以及 {@link EasyDate#getTimeOfDate(Object)} 所支持的类型
+	 * @param field 指定的日期字段，返回值将以此为单位返回两个日期的差距值
+	 * @param roundingMode 舍入模式
+	 * @see EasyDate#calcDifference(Object, int, RoundingMode)
+	 */
+	public long calcDifference(Object date, int field, RoundingMode roundingMode) {
+		final long theMs = date instanceof EpochDate ? ((EpochDate) date).time : EasyDate.getTimeOfDate(date);
+		long diff = time - theMs; // 毫秒值差距
+		if (diff == 0) {
+			return 0;
+		}
+		switch (field) {
+			case YEAR:
+			case MONTH:
+				final boolean thisIsMax = diff > 0;
+				final EpochDate other = new EpochDate(theMs, timeZone);
+				final EpochDate max = thisIsMax ? this : other;
+				EpochDate min = thisIsMax ? other : this;
+				final long maxCivil = max.civil(), minCivil = min.civil();
+				final int diffOfYear = (int) ((maxCivil >> 9) - (minCivil >> 9));
+				min = min.addYear(diffOfYear); // 将 min 调增，对齐到同一年
+				if (field == MONTH) {
+					final int diffOfMonth = (int) ((maxCivil >> 5) & 0xF) - (int) ((minCivil >> 5) & 0xF);
+					min = min.addMonth(diffOfMonth); // 将 min 调整，对齐到同一月
+					diff = diffOfYear * 12L + diffOfMonth; // 月份差距
+				} else {
+					diff = diffOfYear; // 年份差距
+				}
+				final long partDiff = max.time - min.time;
+				if (partDiff == 0) { // 如果对齐后刚好相等，就返回计算好的差距数值
+					return thisIsMax ? diff : -diff;
+				} else if (partDiff < 0) { // 如果对齐到相同年月时，min 反而较大
+					diff--; // 整数部分要 -1
+				}
+				switch (roundingMode) {
+					case CEILING: // 向【正无穷】的方向舍入
+						return thisIsMax ? diff + 1 : -diff;
+					case UP: // 向【远离 0】 的方向舍入
+						return thisIsMax ? diff + 1 : -diff - 1;
+					case DOWN: // 向【靠近 0】 的方向舍去
+						return thisIsMax ? diff : -diff;
+					case FLOOR: // 向【负无穷】的方向舍去
+						return thisIsMax ? diff : -diff - 1;
+					case HALF_UP:
+					case HALF_DOWN:
+					case HALF_EVEN: {
+						final long innerPartDiff, outerPartDiff;
+						if (partDiff < 0) {
+							outerPartDiff = -partDiff;
+							innerPartDiff = max.time - min.add(field, -1).time;
+						} else {
+							innerPartDiff = partDiff;
+							outerPartDiff = min.add(field, 1).time - max.time;
+						}
+						final int incr;
+						if (roundingMode == RoundingMode.HALF_UP) {
+							incr = innerPartDiff >= outerPartDiff ? 1 : 0;
+						} else if (roundingMode == RoundingMode.HALF_DOWN) {
+							incr = innerPartDiff > outerPartDiff ? 1 : 0;
+						} else /* if (roundingMode == RoundingMode.HALF_EVEN) */ {
+							incr = innerPartDiff == outerPartDiff
+									? ((diff & 1) == 1 ? 1 : 0)
+									: innerPartDiff > outerPartDiff ? 1 : 0;
+						}
+						return thisIsMax ? diff + incr : -diff - incr;
+					}
+					default: // UNNECESSARY
+						throw new IllegalArgumentException("Cannot round to " + diff + " because rounding mode " + roundingMode + " is not supported");
+				}
+			default:
+				return FixedDecimal.divideAndRound(diff, EasyDate.getMillisOfUnit(field), roundingMode);
+		}
+	}
+
+	/**
+	 * 计算并返回当前日期与指定日期之间基于指定单位和向上取整模式（{@link RoundingMode#UP}）的差值
+	 *
+	 * @see #calcDifference(Object, int, RoundingMode)
+	 */
+	public long calcDifference(Object date, int field) {
+		return calcDifference(date, field, RoundingMode.UP);
+	}
+
+	/**
+	 * 计算并返回当前日期与指定日期之间基于向上取整模式（{@link RoundingMode#UP}）的天数差值
+	 *
+	 * @see #calcDifference(Object, int, RoundingMode)
+	 */
+	public int calcDifference(Object date) {
+		return (int) calcDifference(date, DATE, RoundingMode.UP);
+	}
+
+	public boolean after(EpochDate date) {
+		return time > date.time;
+	}
+
+	public boolean before(EpochDate date) {
+		return time < date.time;
+	}
+
+	public Date toDate() {
+		return new Date(time);
+	}
+
+	/**
+	 * 转换为 {@link EasyDate} 对象（时区保持不变）
+	 */
+	public EasyDate toEasyDate() {
+		return new EasyDate(time, timeZone);
+	}
+
+	public Instant toInstant() {
+		return Instant.ofEpochMilli(time);
+	}
+
+	public ZonedDateTime toZonedDateTime() {
+		return ZonedDateTime.ofInstant(toInstant(), getZoneId());
+	}
+
+	public LocalDateTime toLocalDateTime() {
+		return LocalDateTime.ofInstant(toInstant(), getZoneId());
+	}
+
+	public LocalDate toLocalDate() {
+		return LocalDate.ofEpochDay(epochDay());
+	}
+
+	/**
+	 * 返回 "yyyy-MM-dd HH:mm:ss" 格式的字符串
+	 */
+	public String toDateTimeString() {
+		final int offsetMillis = timeZone.getOffset(time);
+		if (time + offsetMillis < DatePattern.GREGORIAN_CUTOVER) {
+			return formatProleptic(EasyDate.DATETIME_CACHE.pattern, offsetMillis);
+		}
+		return EasyDate.DATETIME_CACHE.format(time, timeZone);
+	}
+
+	/**
+	 * 返回 "yyyy-MM-dd HH:mm:ss.SSS" 格式的字符串
+	 */
+	public String toLongString() {
+		final DatePattern pattern = DatePattern.of("yyyy-MM-dd HH:mm:ss.SSS");
+		final int offsetMillis = timeZone.getOffset(time);
+		if (time + offsetMillis < DatePattern.GREGORIAN_CUTOVER) {
+			return formatProleptic(pattern, offsetMillis);
+		}
+		return pattern.format(time, offsetMillis, timeZone);
+	}
+
+	/**
+	 * 始终按照与 {@link #getYear()} 等方法一致的 前推格里高利历（proleptic Gregorian calendar）进行格式化。
+	 * <p> {@link DatePattern} 对于 1582-10-15 之前的日期会回退为使用 {@link org.apache.commons.lang3.time.FastDateFormat}（儒略历），因此不能直接使用
+	 */
+	String formatProleptic(DatePattern pattern, int offsetMillis) {
+		return pattern.formatTo(time, offsetMillis, new StringBuilder(pattern.getPattern().length() + 8)).toString();
+	}
+
+	@Override
+	public int compareTo(EpochDate o) {
+		return Long.compare(time, o.time);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof EpochDate)) {
+			return false;
+		}
+		final EpochDate that = (EpochDate) o;
+		return time == that.time && timeZone.getID().equals(that.timeZone.getID());
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(time);
+	}
+
+	/**
+	 * 返回 "yyyy-MM-dd HH:mm:ss.SSS" 格式的字符串
+	 */
+	@Override
+	public String toString() {
+		return toLongString();
+	}
+
+}
@@ -3,10 +3,20 @@ package me.codeplayer.util;
 import java.io.*;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.*;
 import java.nio.file.*;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.commons.lang3.SystemUtils;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.jspecify.annotations.Nullable;
 
@@ -651,6 +661,146 @@ public abstract class FileX {
 		moveFileToDirectory(path, directory, false);
 	}
 
+	/** 并行复制文件时，默认的分块大小 */
+	static final long PARALLEL_COPY_CHUNK_SIZE = 64L << 20;
+
+	/**
+	 * 将指定的文件分块并行复制到目标文件：源文件将被拆分为多个连续的区间，每个区间由 {@code executor} 中的一个任务通过
+	 * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} 写入目标文件的对应位置，全部完成后再将数据强制刷新（fsync）到磁盘。
+	 * <p> 如果源文件不足两个分块，则直接在当前线程中复制。如果复制失败（包括 {@code executor} 拒绝执行分块任务），将在已提交的分块任务全部结束后，删除已写入部分数据的目标文件。
+	 * <p> 注意：当前线程会阻塞等待所有分块复制完毕，因此<b>不要</b>在 {@code executor} 自身的线程中调用本方法，以免线程池耗尽时产生死锁
+	 *
+	 * @param src 源文件对象
+	 * @param dest 目标文件对象
+	 * @param override 如果目标文件已存在，是否允许覆盖
+	 * @param executor 执行分块复制任务的线程池
+	 * @param chunkSize 每个分块的字节数
+	 * @since 4.3.3
+	 */
+	public static void copyFileInParallel(File src, File dest, boolean override, Executor executor, long chunkSize) throws IOException {
+		Assert.isTrue(chunkSize > 0, "chunkSize must be > 0");
+		checkReadable(src);
+		checkAndPrepareForWrite(dest, override);
+		final long total = src.length();
+		final Path srcPath = src.toPath();
+		boolean success = false;
+		try (FileChannel out = FileChannel.open(dest.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			if (total < chunkSize << 1) {
+				transferChunk(srcPath, out, 0, total);
+			} else {
+				// transferFrom() 不会写入超出文件当前大小的位置，因此需要先将目标文件扩展到最终的大小
+				out.write(ByteBuffer.wrap(new byte[1]), total - 1);
+				final int chunks = (int) ((total + chunkSize - 1) / chunkSize);
+				final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+				int submitted = 0;
+				try {
+					for (; submitted < chunks; submitted++) {
+						final long position = submitted * chunkSize, count = Math.min(chunkSize, total - position);
+						futures[submitted] = CompletableFuture.runAsync(() -> {
+							try {
+								transferChunk(srcPath, out, position, count);
+							} catch (IOException e) {
+								throw new UncheckedIOException(e);
+							}
+						}, executor);
+					}
+				} catch (RejectedExecutionException e) {
+					// 必须等待已提交的分块任务全部结束，才能关闭通道并删除目标文件
+					CompletableFuture.allOf(Arrays.copyOf(futures, submitted)).handle((v, ex) -> v).join();
+					throw e;
+				}
+				try {
+					CompletableFuture.allOf(futures).join();
+				} catch (CompletionException e) {
+					final Throwable cause = e.getCause();
+					if (cause instanceof UncheckedIOException) {
+						throw ((UncheckedIOException) cause).getCause();
+					}
+					throw e;
+				}
+			}
+			out.force(true);
+			success = true;
+		} finally {
+			if (!success) {
+				dest.delete();
+			}
+		}
+	}
+
+	/**
+	 * 使用默认的分块大小（64 MB），将指定的文件分块并行复制到目标文件
+	 *
+	 * @see #copyFileInParallel(File, File, boolean, Executor, long)
+	 * @since 4.3.3
+	 */
+	public static void copyFileInParallel(File src, File dest, boolean override, Executor executor) throws IOException {
+		copyFileInParallel(src, dest, override, executor, PARALLEL_COPY_CHUNK_SIZE);
+	}
+
+	/**
+	 * 将源文件 {@code [position, position + count)} 区间内的数据写入到目标通道的相同位置（使用独立的源文件通道，因此可以被多个线程同时调用）
+	 */
+	static void transferChunk(Path src, FileChannel out, long position, long count) throws IOException {
+		try (FileChannel in = FileChannel.open(src, StandardOpenOption.READ)) {
+			in.position(position);
+			final long end = position + count;
+			while (position < end) {
+				final long transferred = out.transferFrom(in, position, end - position);
+				if (transferred <= 0) { // 复制期间源文件被截断
+					throw new EOFException("Unexpected end of file: " + src);
+				}
+				position += transferred;
+			}
+		}
+	}
+
+	/**
+	 * 在指定的线程池中异步地将指定的文件复制到目标文件，以免阻塞当前线程
+	 *
+	 * @param src 源文件对象
+	 * @param dest 目标文件对象
+	 * @param override 如果目标文件已存在，是否允许覆盖
+	 * @param executor 执行复制任务的线程池
+	 * @return 复制完成后将以目标文件对象正常完成；复制失败时将以对应的异常（例如 {@link IOException}）异常完成
+	 * @since 4.3.3
+	 */
+	public static CompletableFuture<File> copyFileAsync(File src, File dest, boolean override, Executor executor) {
+		return runAsync(() -> {
+			copyFile(src, dest, override);
+			return dest;
+		}, executor);
+	}
+
+	/**
+	 * 在指定的线程池中异步地将指定的文件移动到目标文件夹，以免阻塞当前线程
+	 *
+	 * @param file 指定的文件
+	 * @param destDirectory 目标文件夹
+	 * @param override 如果已存在同名的文件，是否允许覆盖
+	 * @param executor 执行移动任务的线程池
+	 * @return 移动完成后将以目标文件对象正常完成；移动失败时将以对应的异常（例如 {@link IOException}）异常完成
+	 * @since 4.3.3
+	 */
+	public static CompletableFuture<File> moveFileToDirectoryAsync(File file, File destDirectory, boolean override, Executor executor) {
+		return runAsync(() -> {
+			moveFileToDirectory(file, destDirectory, override);
+			return new File(destDirectory, file.getName());
+		}, executor);
+	}
+
+	static <T> CompletableFuture<T> runAsync(Callable<T> task, Executor executor) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		executor.execute(() -> {
+			try {
+				future.complete(task.call());
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+
 	/**
 	 * 将指定的输入流写入到指定的输出流中<br>
 	 * 注意：该方法内部只负责写入，不负责关闭相关流资源
@@ -887,26 +1037,182 @@ public abstract class FileX {
 	 */
 	public static String readContent(File file) throws IOException {
 		checkReadable(file);
-		BufferedReader reader = null;
-		long length = (file.length() >>> 3) + 1;
-		final StringBuilder sb = new StringBuilder((int) length);
-		try {
-			reader = new BufferedReader(new FileReader(file));
-			String line = reader.readLine();
-			if (line != null) {
-				sb.append(line);
+		final StringBuilder sb = new StringBuilder((int) (file.length() >>> 3) + 1);
+		try (LineIterator it = lineIterator(file, Charset.defaultCharset())) {
+			if (it.hasNext()) {
+				sb.append(it.next());
 			}
-			while ((line = reader.readLine()) != null) {
-				sb.append('\n').append(line);
+			while (it.hasNext()) {
+				sb.append('\n').append(it.next());
 			}
-		} catch (IOException e) {
+		} catch (IOException | UncheckedIOException e) {
 			throw new IllegalStateException(e);
-		} finally {
-			closeSilently(reader);
 		}
 		return sb.toString();
 	}
 
+	/**
+	 * 使用指定的字符集读取文件的全部内容（与 {@link #readContent(File)} 不同，换行符将原样保留）
+	 * <p> 内部直接从 {@link FileChannel} 将文件读取为一个大小精确的字节数组，
+	 * 并且在文件内容兼容 Latin1 时（例如：ASCII 编码的 UTF-8 文件），字符串将直接复用该字节数组，从而避免 {@code BufferedReader} 逐行读取再拼接的额外内存开销
+	 *
+	 * @param charset 文件内容的字符集
+	 * @throws IOException 如果文件不可读，或者文件大小超过 {@code Integer.MAX_VALUE - 8}
+	 * @see JavaX#newString(byte[], Charset)
+	 * @since 4.3.3
+	 */
+	public static String readContent(File file, Charset charset) throws IOException {
+		checkReadable(file);
+		return JavaX.newString(readBytes(file), charset);
+	}
+
+	/**
+	 * 读取指定文件的全部字节
+	 *
+	 * @throws IOException 如果文件不可读，或者文件大小超过 {@code Integer.MAX_VALUE - 8}
+	 * @since 4.3.3
+	 */
+	public static byte[] readBytes(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size > Integer.MAX_VALUE - 8) {
+				throw new IOException("File is too large to read into memory: " + file.getAbsolutePath());
+			}
+			final byte[] bytes = new byte[(int) size];
+			final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+				// 继续读取，直到填满缓冲区或者到达文件末尾
+			}
+			if (buffer.hasRemaining()) { // 读取期间文件被截断
+				return Arrays.copyOf(bytes, buffer.position());
+			}
+			return bytes;
+		}
+	}
+
+	/**
+	 * 返回一个逐行读取指定文件的迭代器
+	 * <p> 为了避免为每一行都创建新的字符串，迭代器内部始终复用同一个字符缓冲区和同一个 {@link StringBuilder}，
+	 * 因此 {@link LineIterator#next()} 返回的 {@link CharSequence} 只在下一次调用 {@code hasNext()} / {@code next()} 之前有效，如需保留，请自行调用 {@code toString()}
+	 * <p> 使用完毕后，请务必调用 {@link LineIterator#close()} 关闭迭代器（推荐使用 try-with-resources 语句）
+	 *
+	 * @param charset 文件内容的字符集
+	 * @since 4.3.3
+	 */
+	public static LineIterator lineIterator(File file, Charset charset) throws IOException {
+		checkReadable(file);
+		return new LineIterator(new InputStreamReader(Files.newInputStream(file.toPath()), charset));
+	}
+
+	/**
+	 * 返回逐行读取指定文件的流，适用于无法一次性读入内存的大文件
+	 * <p> 流中的每个元素都是同一个被复用的 {@link CharSequence}，只在当前元素的处理过程中有效，如需保留，请自行调用 {@code toString()}。
+	 * 因此，请<b>不要</b>对该流使用 {@code sorted()}、{@code distinct()}、{@code parallel()} 等需要同时持有多个元素的操作
+	 * <p> 使用完毕后，请务必关闭该流（推荐使用 try-with-resources 语句）
+	 *
+	 * @param charset 文件内容的字符集
+	 * @see #lineIterator(File, Charset)
+	 * @since 4.3.3
+	 */
+	public static Stream<CharSequence> lines(File file, Charset charset) throws IOException {
+		final LineIterator it = lineIterator(file, charset);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(() -> closeSilently(it));
+	}
+
+	/**
+	 * 复用单个缓冲区逐行读取字符流的迭代器，行分隔符可以是 "\n"、"\r" 或 "\r\n"（与 {@link BufferedReader#readLine()} 一致）
+	 *
+	 * @see #lineIterator(File, Charset)
+	 * @since 4.3.3
+	 */
+	public static final class LineIterator implements Iterator<CharSequence>, Closeable {
+
+		final Reader reader;
+		final char[] buf = new char[8192];
+		final StringBuilder line = new StringBuilder(128);
+		int pos, limit;
+		/** 上一行以 '\r' 结尾，需要跳过紧随其后的 '\n' */
+		boolean skipLF;
+		/** 是否已经预读了下一行 */
+		boolean fetched;
+		boolean hasLine;
+
+		public LineIterator(Reader reader) {
+			this.reader = reader;
+		}
+
+		/**
+		 * 读取下一行到 {@link #line} 中
+		 *
+		 * @return 如果已经到达末尾，则返回 false
+		 */
+		boolean readLine() throws IOException {
+			line.setLength(0);
+			boolean found = false;
+			for (; ; ) {
+				if (pos >= limit) {
+					final int n = reader.read(buf, 0, buf.length);
+					pos = 0;
+					if (n <= 0) {
+						limit = 0;
+						return found;
+					}
+					limit = n;
+				}
+				if (skipLF) {
+					skipLF = false;
+					if (buf[pos] == '\n') {
+						pos++;
+						continue;
+					}
+				}
+				found = true;
+				final int start = pos;
+				while (pos < limit) {
+					final char c = buf[pos++];
+					if (c == '\n' || c == '\r') {
+						line.append(buf, start, pos - 1 - start);
+						skipLF = c == '\r';
+						return true;
+					}
+				}
+				line.append(buf, start, pos - start);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (!fetched) {
+				try {
+					hasLine = readLine();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				fetched = true;
+			}
+			return hasLine;
+		}
+
+		/**
+		 * 返回下一行的内容（不包含行分隔符）。返回的对象会被复用，只在下一次调用 {@code hasNext()} / {@code next()} 之前有效
+		 */
+		@Override
+		public CharSequence next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			fetched = false;
+			return line;
+		}
+
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
+
+	}
+
 	/**
 	 * 读取指定的文件内容
 	 *
@@ -952,6 +1258,150 @@ public abstract class FileX {
 		}
 	}
 
+	/** 原子写入时使用的直接缓冲区大小 */
+	static final int ATOMIC_WRITE_BUFFER_SIZE = 64 << 10;
+
+	/**
+	 * 以原子方式将指定的文本内容写入（覆盖）到文件中：先通过直接缓冲区（{@link ByteBuffer#allocateDirect(int)}）写入到同一目录下的临时文件，
+	 * 并将其强制刷新（fsync）到磁盘，再通过 {@link StandardCopyOption#ATOMIC_MOVE} 重命名为目标文件，最后强制刷新目标文件所在的目录。
+	 * <p> 因此，即使写入过程中进程崩溃，目标文件也只可能是 写入前 或 写入后 的完整内容，而不会出现只写入了一部分的情况。
+	 * <p> 文本内容将被分段增量编码，不会先将其完整地转换为一个 {@code byte[]}
+	 *
+	 * @param data 文本内容
+	 * @param charset 文本内容的字符集
+	 * @throws AtomicMoveNotSupportedException 如果文件系统不支持原子重命名（此时不会回退为非原子的重命名，目标文件保持不变）
+	 * @since 4.3.3
+	 */
+	public static void writeContentAtomically(File file, final CharSequence data, final Charset charset) throws IOException {
+		writeAtomically(file, (channel, buffer) -> {
+			final CharsetEncoder encoder = charset.newEncoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			final CharBuffer in = CharBuffer.wrap(data);
+			CoderResult result;
+			do {
+				result = encoder.encode(in, buffer, true);
+				if (result.isOverflow()) {
+					drain(channel, buffer);
+				} else if (result.isError()) {
+					result.throwException();
+				}
+			} while (!result.isUnderflow());
+			while (encoder.flush(buffer).isOverflow()) {
+				drain(channel, buffer);
+			}
+			drain(channel, buffer);
+		});
+	}
+
+	/**
+	 * 以原子方式将指定的数据写入（覆盖）到文件中
+	 *
+	 * @see #writeContentAtomically(File, CharSequence, Charset)
+	 * @since 4.3.3
+	 */
+	public static void writeContentAtomically(File file, final byte[] data) throws IOException {
+		writeAtomically(file, (channel, buffer) -> {
+			// 直接缓冲区可以避免 FileChannel 内部再经由临时的直接缓冲区中转复制
+			for (int offset = 0; offset < data.length; ) {
+				final int length = Math.min(buffer.remaining(), data.length - offset);
+				buffer.put(data, offset, length);
+				offset += length;
+				drain(channel, buffer);
+			}
+		});
+	}
+
+	/**
+	 * 以原子方式将指定输入流中的数据写入（覆盖）到文件中（该方法不负责关闭输入流）
+	 *
+	 * @see #writeContentAtomically(File, CharSequence, Charset)
+	 * @since 4.3.3
+	 */
+	public static void writeContentAtomically(File file, final InputStream is) throws IOException {
+		writeAtomically(file, (channel, buffer) -> {
+			final byte[] bytes = new byte[8192];
+			int length;
+			while ((length = is.read(bytes)) != -1) {
+				if (length > buffer.remaining()) {
+					drain(channel, buffer);
+				}
+				buffer.put(bytes, 0, length);
+			}
+			drain(channel, buffer);
+		});
+	}
+
+	/**
+	 * 将数据写入到目标文件所在目录下的临时文件中，强制刷新到磁盘后，再原子性地重命名为目标文件，最后再强制刷新目标文件所在的目录
+	 * <p> 临时文件将以默认权限（受 umask 影响）创建；如果目标文件已存在，则沿用目标文件的 POSIX 权限（文件的所有者将变为当前用户）
+	 *
+	 * @throws AtomicMoveNotSupportedException 如果文件系统不支持原子重命名
+	 */
+	static void writeAtomically(File file, ChannelWriter writer) throws IOException {
+		ensureParentDirExists(file);
+		final Path target = file.toPath().toAbsolutePath();
+		final Path temp = createSiblingTempFile(target);
+		boolean success = false;
+		try {
+			final PosixFileAttributeView view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+			if (view != null && Files.exists(target)) {
+				Files.setPosixFilePermissions(temp, view.readAttributes().permissions());
+			}
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				writer.write(channel, ByteBuffer.allocateDirect(ATOMIC_WRITE_BUFFER_SIZE));
+				channel.force(true);
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			success = true;
+		} finally {
+			if (!success) {
+				Files.deleteIfExists(temp);
+			}
+		}
+		// 刷新目录项，确保重命名操作本身也已持久化（Windows 不支持以通道方式打开目录）
+		if (!SystemUtils.IS_OS_WINDOWS) {
+			try (FileChannel dir = FileChannel.open(target.getParent(), StandardOpenOption.READ)) {
+				dir.force(true);
+			}
+		}
+	}
+
+	/**
+	 * 在目标文件所在的目录下创建一个名称唯一的空的临时文件（与 {@link Files#createTempFile} 不同，该文件将以默认权限创建）
+	 */
+	static Path createSiblingTempFile(Path target) throws IOException {
+		final String prefix = "." + target.getFileName() + '.';
+		for (; ; ) {
+			final Path temp = target.resolveSibling(prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+			try {
+				return Files.createFile(temp);
+			} catch (FileAlreadyExistsException ignored) {
+				// 名称冲突，重新生成
+			}
+		}
+	}
+
+	/**
+	 * 将缓冲区中已写入的数据全部写出到文件通道，并清空缓冲区
+	 */
+	static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+		((Buffer) buffer).flip(); // 兼容 JDK 8 的方法签名
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		((Buffer) buffer).clear();
+	}
+
+	/**
+	 * 借助指定的缓冲区向文件通道写入数据的回调接口
+	 */
+	interface ChannelWriter {
+
+		void write(FileChannel channel, ByteBuffer buffer) throws IOException;
+
+	}
+
 	/**
 	 * 读取指定名称的 ".properties" 文件
 	 *
@@ -0,0 +1,490 @@
+package me.codeplayer.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 基于 long 的定点小数（不可变、线程安全）
+ * <p> 内部使用 <code>未缩放的值（unscaled） × 10<sup>-scale</sup></code> 来表示一个数值，例如：scale = 2 时，12.34 表示为 unscaled = 1234。
+ * 常规情况下，加、减、乘、除 等运算都直接使用 long 进行计算（会检查是否溢出），而不会像 {@link BigDecimal} 那样产生额外的中间对象；
+ * 只有在计算结果超出 long 的表示范围时，才会自动回退为使用 {@link BigDecimal} 进行计算（结果在 long 的范围内时，又会自动恢复为 long 表示）。
+ * <p> 与 {@link BigDecimal} 不同的是，乘法 和 除法 的结果始终保持为 <b>当前实例</b> 的标度（小数位数），并按照指定的舍入模式进行舍入，
+ * 因此非常适合 金额（scale = 2）、单价（scale = 4） 等固定精度的计算场景。
+ *
+ * <pre><code>
+ * FixedDecimal price = FixedDecimal.valueOf("12.34", 2, RoundingMode.HALF_UP);
+ * FixedDecimal amount = price.multiply(3).subtract(discount); // 37.02 - discount
+ * Arith arith = amount.toArith(); // 与 Arith 互相转换
+ * </code></pre>
+ *
+ * @see Arith#toFixedDecimal(int, RoundingMode)
+ * @since 4.3.3
+ */
+public final class FixedDecimal extends Number implements Comparable<FixedDecimal> {
+
+	private static final long serialVersionUID = 1L;
+
+	/** 支持的最大标度 */
+	public static final int MAX_SCALE = 18;
+	/** 10 的 0 ~ 18 次方 */
+	static final long[] POW10 = {
+			1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+			10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+			1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L,
+	};
+	/** 2<sup>53</sup>，绝对值不超过该值的 long 可以精确地转换为 double */
+	static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+	/** 未缩放的值，即：数值 × 10<sup>scale</sup>（如果已回退为 {@link BigDecimal}，则该值无意义） */
+	final long unscaled;
+	/** 标度，即：小数位数 */
+	final int scale;
+	/** 超出 long 的表示范围时所使用的 {@link BigDecimal}（其标度与 {@link #scale} 一致），否则为 null */
+	@Nullable
+	final BigDecimal inflated;
+
+	FixedDecimal(long unscaled, int scale, @Nullable BigDecimal inflated) {
+		this.unscaled = unscaled;
+		this.scale = scale;
+		this.inflated = inflated;
+	}
+
+	static void checkScale(int scale) {
+		if (scale < 0 || scale > MAX_SCALE) {
+			throw new IllegalArgumentException("The scale must be between 0 and " + MAX_SCALE + ": " + scale);
+		}
+	}
+
+	/**
+	 * 根据 未缩放的值 和 标度 构造一个定点小数，例如：<code>ofUnscaled(1234, 2)</code> 表示 12.34
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link #MAX_SCALE}
+	 */
+	public static FixedDecimal ofUnscaled(long unscaledValue, int scale) {
+		checkScale(scale);
+		return new FixedDecimal(unscaledValue, scale, null);
+	}
+
+	/**
+	 * 将指定的整数转换为指定标度的定点小数，例如：<code>valueOf(12, 2)</code> 表示 12.00
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link #MAX_SCALE}
+	 */
+	public static FixedDecimal valueOf(long value, int scale) {
+		checkScale(scale);
+		if (canScaleUp(value, scale)) {
+			return new FixedDecimal(value * POW10[scale], scale, null);
+		}
+		return new FixedDecimal(0, scale, BigDecimal.valueOf(value).setScale(scale, RoundingMode.UNNECESSARY));
+	}
+
+	/**
+	 * 将指定的 double 值转换为指定标度的定点小数（与 {@link Arith#toBigDecimal(double)} 的转换规则一致）
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link #MAX_SCALE}
+	 * @param roundingMode 小数位数超出指定标度时的舍入模式
+	 */
+	public static FixedDecimal valueOf(double value, int scale, RoundingMode roundingMode) {
+		final long n = (long) value;
+		if (n == value) {
+			return valueOf(n, scale);
+		}
+		checkScale(scale);
+		final int valueScale = Arith.compactScaleOf(value);
+		if (valueScale >= 0) {
+			final long unscaled = Arith.unscaledOf(value, valueScale);
+			if (valueScale > scale) {
+				return new FixedDecimal(divideAndRound(unscaled, POW10[valueScale - scale], roundingMode), scale, null);
+			} else if (canScaleUp(unscaled, scale - valueScale)) {
+				return new FixedDecimal(unscaled * POW10[scale - valueScale], scale, null);
+			}
+		}
+		return of(Arith.toBigDecimal(value).setScale(scale, roundingMode));
+	}
+
+	/**
+	 * 将指定的 {@link BigDecimal} 转换为指定标度的定点小数
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link #MAX_SCALE}
+	 * @param roundingMode 小数位数超出指定标度时的舍入模式
+	 */
+	public static FixedDecimal valueOf(BigDecimal value, int scale, RoundingMode roundingMode) {
+		checkScale(scale);
+		return of(value.setScale(scale, roundingMode));
+	}
+
+	/**
+	 * 将指定的数值字符串转换为指定标度的定点小数
+	 *
+	 * @param scale 标度（小数位数），0 ~ {@link #MAX_SCALE}
+	 * @param roundingMode 小数位数超出指定标度时的舍入模式
+	 * @throws NumberFormatException 如果字符串不是有效的数值
+	 */
+	public static FixedDecimal valueOf(String value, int scale, RoundingMode roundingMode) {
+		return valueOf(new BigDecimal(value), scale, roundingMode);
+	}
+
+	/**
+	 * 将标度已调整好的 {@link BigDecimal} 转换为定点小数（如果其值在 long 的范围内，则恢复为 long 表示）
+	 */
+	static FixedDecimal of(BigDecimal value) {
+		if (value.unscaledValue().bitLength() < 64) {
+			return new FixedDecimal(value.unscaledValue().longValue(), value.scale(), null);
+		}
+		return new FixedDecimal(0, value.scale(), value);
+	}
+
+	/**
+	 * 判断 {@code value × 10^n} 是否不会溢出
+	 */
+	static boolean canScaleUp(long value, int n) {
+		if (n == 0) {
+			return true;
+		}
+		final long limit = Long.MAX_VALUE / POW10[n];
+		return value <= limit && value >= -limit;
+	}
+
+	/**
+	 * 计算 {@code a × b}，如果溢出，则返回 {@link Long#MIN_VALUE} 作为溢出标记
+	 * <p> 由于 {@link Long#MIN_VALUE} 本身也可能是有效的结果，因此调用方在得到该值时，应当回退为使用 {@link BigDecimal} 进行计算
+	 */
+	static long multiplyOrOverflow(long a, long b) {
+		final long r = a * b;
+		final long ax = Math.abs(a), ay = Math.abs(b);
+		if ((ax | ay) >>> 31 != 0) {
+			// 参见 Math.multiplyExact(long, long)
+			if (b != 0 && (r / b != a || a == Long.MIN_VALUE && b == -1)) {
+				return Long.MIN_VALUE;
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * 按照指定的舍入模式计算 {@code dividend / divisor} 的整数结果（与 {@link BigDecimal#divide(BigDecimal, int, RoundingMode)} 的结果一致）
+	 *
+	 * @param divisor 不能为 0；并且 {@code dividend} 为 {@link Long#MIN_VALUE} 时，不能为 -1
+	 * @throws ArithmeticException 如果舍入模式为 {@link RoundingMode#UNNECESSARY}，但是无法整除
+	 */
+	static long divideAndRound(long dividend, long divisor, RoundingMode roundingMode) {
+		final long quotient = dividend / divisor, remainder = dividend - quotient * divisor;
+		if (remainder == 0) {
+			return quotient;
+		}
+		final int signum = (dividend ^ divisor) < 0 ? -1 : 1;
+		final boolean increment;
+		switch (roundingMode) {
+			case UP:
+				increment = true;
+				break;
+			case DOWN:
+				increment = false;
+				break;
+			case CEILING:
+				increment = signum > 0;
+				break;
+			case FLOOR:
+				increment = signum < 0;
+				break;
+			case UNNECESSARY:
+				throw new ArithmeticException("Rounding necessary");
+			default: {
+				// |divisor| - |remainder| 的结果一定可以用 long 表示（即使 divisor 为 Long.MIN_VALUE）
+				final long absRemainder = Math.abs(remainder);
+				final int cmp = Long.compare(absRemainder, Math.abs(divisor) - absRemainder);
+				increment = cmp > 0 || cmp == 0 && (roundingMode == RoundingMode.HALF_UP || roundingMode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+			}
+		}
+		return increment ? quotient + signum : quotient;
+	}
+
+	/**
+	 * 返回未缩放的值
+	 *
+	 * @throws ArithmeticException 如果当前数值超出了 long 的表示范围
+	 */
+	public long unscaledValue() {
+		if (inflated != null) {
+			throw new ArithmeticException("Overflow: " + inflated);
+		}
+		return unscaled;
+	}
+
+	/**
+	 * 返回标度（小数位数）
+	 */
+	public int scale() {
+		return scale;
+	}
+
+	/**
+	 * 当前数值是否使用 long 表示（即：没有回退为 {@link BigDecimal}）
+	 */
+	public boolean isCompact() {
+		return inflated == null;
+	}
+
+	public int signum() {
+		return inflated == null ? Long.signum(unscaled) : inflated.signum();
+	}
+
+	/**
+	 * 加法运算，结果的标度为两者中较大的标度
+	 */
+	public FixedDecimal add(FixedDecimal other) {
+		if (inflated == null && other.inflated == null) {
+			final int newScale = Math.max(scale, other.scale);
+			final int diffA = newScale - scale, diffB = newScale - other.scale;
+			if (canScaleUp(unscaled, diffA) && canScaleUp(other.unscaled, diffB)) {
+				final long a = unscaled * POW10[diffA], b = other.unscaled * POW10[diffB], r = a + b;
+				if (((a ^ r) & (b ^ r)) >= 0) {
+					return new FixedDecimal(r, newScale, null);
+				}
+			}
+		}
+		return of(toBigDecimal().add(other.toBigDecimal()));
+	}
+
+	/**
+	 * 加上指定的整数
+	 */
+	public FixedDecimal add(long value) {
+		return add(valueOf(value, scale));
+	}
+
+	/**
+	 * 减法运算，结果的标度为两者中较大的标度
+	 */
+	public FixedDecimal subtract(FixedDecimal other) {
+		if (inflated == null && other.inflated == null) {
+			final int newScale = Math.max(scale, other.scale);
+			final int diffA = newScale - scale, diffB = newScale - other.scale;
+			if (canScaleUp(unscaled, diffA) && canScaleUp(other.unscaled, diffB)) {
+				final long a = unscaled * POW10[diffA], b = other.unscaled * POW10[diffB], r = a - b;
+				if (((a ^ b) & (a ^ r)) >= 0) {
+					return new FixedDecimal(r, newScale, null);
+				}
+			}
+		}
+		return of(toBigDecimal().subtract(other.toBigDecimal()));
+	}
+
+	/**
+	 * 减去指定的整数
+	 */
+	public FixedDecimal subtract(long value) {
+		return subtract(valueOf(value, scale));
+	}
+
+	/**
+	 * 乘以指定的整数（结果是精确的，标度保持不变）
+	 */
+	public FixedDecimal multiply(long value) {
+		if (inflated == null) {
+			final long r = multiplyOrOverflow(unscaled, value);
+			if (r != Long.MIN_VALUE) {
+				return new FixedDecimal(r, scale, null);
+			}
+		}
+		return of(toBigDecimal().multiply(BigDecimal.valueOf(value)));
+	}
+
+	/**
+	 * 乘法运算，结果保持为当前实例的标度
+	 *
+	 * @param roundingMode 乘积的小数位数超出当前标度时的舍入模式
+	 */
+	public FixedDecimal multiply(FixedDecimal other, RoundingMode roundingMode) {
+		if (inflated == null && other.inflated == null) {
+			final long product = multiplyOrOverflow(unscaled, other.unscaled);
+			if (product != Long.MIN_VALUE) {
+				return new FixedDecimal(other.scale == 0 ? product : divideAndRound(product, POW10[other.scale], roundingMode), scale, null);
+			}
+		}
+		return of(toBigDecimal().multiply(other.toBigDecimal()).setScale(scale, roundingMode));
+	}
+
+	/**
+	 * 以 四舍五入（{@link RoundingMode#HALF_UP}）的舍入模式进行乘法运算，结果保持为当前实例的标度
+	 */
+	public FixedDecimal multiply(FixedDecimal other) {
+		return multiply(other, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * 除法运算，结果保持为当前实例的标度
+	 *
+	 * @param roundingMode 商的小数位数超出当前标度时的舍入模式
+	 * @throws ArithmeticException 如果除数为 0
+	 */
+	public FixedDecimal divide(FixedDecimal other, RoundingMode roundingMode) {
+		if (other.signum() == 0) {
+			throw new ArithmeticException("Division by zero");
+		}
+		if (inflated == null && other.inflated == null && canScaleUp(unscaled, other.scale)
+				&& !(other.unscaled == -1 && unscaled == Long.MIN_VALUE)) {
+			return new FixedDecimal(divideAndRound(unscaled * POW10[other.scale], other.unscaled, roundingMode), scale, null);
+		}
+		return of(toBigDecimal().divide(other.toBigDecimal(), scale, roundingMode));
+	}
+
+	/**
+	 * 除以指定的整数，结果保持为当前实例的标度
+	 *
+	 * @param roundingMode 商的小数位数超出当前标度时的舍入模式
+	 * @throws ArithmeticException 如果除数为 0
+	 */
+	public FixedDecimal divide(long value, RoundingMode roundingMode) {
+		if (value == 0) {
+			throw new ArithmeticException("Division by zero");
+		}
+		if (inflated == null && !(value == -1 && unscaled == Long.MIN_VALUE)) {
+			return new FixedDecimal(divideAndRound(unscaled, value, roundingMode), scale, null);
+		}
+		return of(toBigDecimal().divide(BigDecimal.valueOf(value), scale, roundingMode));
+	}
+
+	public FixedDecimal negate() {
+		if (inflated == null && unscaled != Long.MIN_VALUE) {
+			return new FixedDecimal(-unscaled, scale, null);
+		}
+		return of(toBigDecimal().negate());
+	}
+
+	public FixedDecimal abs() {
+		return signum() < 0 ? negate() : this;
+	}
+
+	/**
+	 * 调整为指定的标度
+	 *
+	 * @param newScale 新的标度，0 ~ {@link #MAX_SCALE}
+	 * @param roundingMode 缩小标度时的舍入模式
+	 */
+	public FixedDecimal setScale(int newScale, RoundingMode roundingMode) {
+		checkScale(newScale);
+		if (newScale == scale) {
+			return this;
+		}
+		if (inflated == null) {
+			if (newScale > scale) {
+				final int diff = newScale - scale;
+				if (canScaleUp(unscaled, diff)) {
+					return new FixedDecimal(unscaled * POW10[diff], newScale, null);
+				}
+			} else {
+				return new FixedDecimal(divideAndRound(unscaled, POW10[scale - newScale], roundingMode), newScale, null);
+			}
+		}
+		return of(toBigDecimal().setScale(newScale, roundingMode));
+	}
+
+	public BigDecimal toBigDecimal() {
+		return inflated != null ? inflated : BigDecimal.valueOf(unscaled, scale);
+	}
+
+	/**
+	 * 转换为 {@link Arith} 对象，以便进行更多的运算
+	 */
+	public Arith toArith() {
+		return new Arith(toBigDecimal());
+	}
+
+	/**
+	 * 返回整数部分（直接舍去小数部分）
+	 */
+	@Override
+	public long longValue() {
+		return inflated == null ? unscaled / POW10[scale] : inflated.longValue();
+	}
+
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+
+	@Override
+	public double doubleValue() {
+		if (inflated == null && unscaled >= -MAX_EXACT_DOUBLE && unscaled <= MAX_EXACT_DOUBLE) {
+			// 被除数 和 除数 都可以精确地表示为 double，因此结果是正确舍入的
+			return scale == 0 ? unscaled : unscaled / (double) POW10[scale];
+		}
+		return toBigDecimal().doubleValue();
+	}
+
+	@Override
+	public float floatValue() {
+		return (float) doubleValue();
+	}
+
+	@Override
+	public int compareTo(FixedDecimal o) {
+		if (inflated == null && o.inflated == null) {
+			if (scale == o.scale) {
+				return Long.compare(unscaled, o.unscaled);
+			}
+			final int newScale = Math.max(scale, o.scale);
+			final int diffA = newScale - scale, diffB = newScale - o.scale;
+			if (canScaleUp(unscaled, diffA) && canScaleUp(o.unscaled, diffB)) {
+				return Long.compare(unscaled * POW10[diffA], o.unscaled * POW10[diffB]);
+			}
+		}
+		return toBigDecimal().compareTo(o.toBigDecimal());
+	}
+
+	/**
+	 * 与 {@link BigDecimal#equals(Object)} 一致，只有 数值 和 标度 都相等时，才返回 true
+	 */
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof FixedDecimal)) {
+			return false;
+		}
+		final FixedDecimal that = (FixedDecimal) o;
+		if (scale != that.scale) {
+			return false;
+		}
+		if (inflated == null || that.inflated == null) {
+			return inflated == that.inflated && unscaled == that.unscaled;
+		}
+		return inflated.equals(that.inflated);
+	}
+
+	@Override
+	public int hashCode() {
+		return inflated == null ? 31 * Long.hashCode(unscaled) + scale : inflated.hashCode();
+	}
+
+	/**
+	 * 输出数值字符串（不使用科学计数法，并保留标度对应的小数位数），例如："12.30"
+	 *
+	 * @see BigDecimal#toPlainString()
+	 */
+	@Override
+	public String toString() {
+		if (inflated != null || unscaled == Long.MIN_VALUE) {
+			return toBigDecimal().toPlainString();
+		}
+		if (scale == 0) {
+			return Long.toString(unscaled);
+		}
+		final long abs = Math.abs(unscaled), p = POW10[scale];
+		final StringBuilder sb = new StringBuilder(21 + 2);
+		if (unscaled < 0) {
+			sb.append('-');
+		}
+		sb.append(abs / p).append('.');
+		final long fraction = abs % p;
+		for (int width = StringX.stringSize(fraction); width < scale; width++) {
+			sb.append('0');
+		}
+		return sb.append(fraction).toString();
+	}
+
+}
@@ -0,0 +1,325 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 直接存储 int 原始类型的哈希集合（开放寻址 + 线性探测）
+ * <p> 与 {@code HashSet<Integer>} 相比，每个元素只占用一个 int 数组槽位，没有 Entry 节点和装箱对象的额外开销。
+ * <p> 数值 0 被用作空槽位的标记，因此单独使用一个标识字段来记录集合中是否包含 0。
+ * <p> 本类是非线程安全的。
+ *
+ * @see LongHashSet
+ * @see IntList
+ * @since 4.3.3
+ */
+public class IntHashSet {
+
+	int[] keys;
+	int mask;
+	/** 非零元素的个数 */
+	int assigned;
+	boolean containsZero;
+	int resizeThreshold;
+
+	/**
+	 * 构造一个可以存储指定元素个数而无需扩容的集合
+	 *
+	 * @param expectedSize 预期的元素个数
+	 */
+	public IntHashSet(int expectedSize) {
+		allocate(LongHashSet.tableSize(expectedSize, LongHashSet.DEFAULT_LOAD_FACTOR));
+	}
+
+	public IntHashSet() {
+		this(16);
+	}
+
+	/**
+	 * 根据指定的数组元素构造一个集合
+	 */
+	public static IntHashSet of(int... values) {
+		final IntHashSet set = new IntHashSet(values.length);
+		for (int value : values) {
+			set.add(value);
+		}
+		return set;
+	}
+
+	/**
+	 * 对 int 值进行位混淆，使连续的 ID 也能均匀地分布在哈希表中
+	 */
+	static int mix(int key) {
+		final int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	void allocate(int capacity) {
+		keys = new int[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int) (capacity * LongHashSet.DEFAULT_LOAD_FACTOR);
+	}
+
+	public int size() {
+		return containsZero ? assigned + 1 : assigned;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public boolean contains(int key) {
+		if (key == 0) {
+			return containsZero;
+		}
+		final int[] ks = keys;
+		final int m = mask;
+		int existing;
+		for (int slot = mix(key) & m; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 添加指定的元素
+	 *
+	 * @return 如果集合之前不包含该元素，则返回 true
+	 */
+	public boolean add(int key) {
+		if (key == 0) {
+			if (containsZero) {
+				return false;
+			}
+			return containsZero = true;
+		}
+		final int[] ks = keys;
+		final int m = mask;
+		int existing;
+		int slot = mix(key) & m;
+		for (; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				return false;
+			}
+		}
+		ks[slot] = key;
+		if (++assigned > resizeThreshold) {
+			if (ks.length >= LongHashSet.MAX_CAPACITY) { // 无法再扩容，撤销本次添加
+				ks[slot] = 0;
+				assigned--;
+				throw LongHashSet.tableFull(size());
+			}
+			rehash(ks.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * 添加指定数组中的所有元素
+	 *
+	 * @return 新添加的元素个数
+	 */
+	public int addAll(int... values) {
+		ensureCapacity(size() + values.length);
+		int added = 0;
+		for (int value : values) {
+			if (add(value)) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * 移除指定的元素
+	 *
+	 * @return 如果集合之前包含该元素，则返回 true
+	 */
+	public boolean remove(int key) {
+		if (key == 0) {
+			final boolean existed = containsZero;
+			containsZero = false;
+			return existed;
+		}
+		final int[] ks = keys;
+		final int m = mask;
+		int existing;
+		for (int slot = mix(key) & m; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				shiftConflictingKeys(slot);
+				assigned--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 删除指定槽位的元素后，将后续探测链上的元素向前移动，以免产生"断链"（无需使用墓碑标记）
+	 */
+	void shiftConflictingKeys(int gapSlot) {
+		final int[] ks = keys;
+		final int m = mask;
+		int distance = 0;
+		while (true) {
+			final int slot = (gapSlot + (++distance)) & m;
+			final int existing = ks[slot];
+			if (existing == 0) {
+				break;
+			}
+			final int idealSlot = mix(existing) & m;
+			if (((slot - idealSlot) & m) >= distance) {
+				ks[gapSlot] = existing;
+				gapSlot = slot;
+				distance = 0;
+			}
+		}
+		ks[gapSlot] = 0;
+	}
+
+	/**
+	 * 确保集合至少可以容纳指定数量的元素，而无需再次扩容
+	 */
+	public IntHashSet ensureCapacity(int expectedSize) {
+		if (expectedSize > resizeThreshold) {
+			rehash(LongHashSet.tableSize(expectedSize, LongHashSet.DEFAULT_LOAD_FACTOR));
+		}
+		return this;
+	}
+
+	void rehash(int newCapacity) {
+		final int[] oldKeys = keys;
+		allocate(newCapacity);
+		final int[] ks = keys;
+		final int m = mask;
+		for (int key : oldKeys) {
+			if (key != 0) {
+				int slot = mix(key) & m;
+				while (ks[slot] != 0) {
+					slot = (slot + 1) & m;
+				}
+				ks[slot] = key;
+			}
+		}
+	}
+
+	public IntHashSet clear() {
+		Arrays.fill(keys, 0);
+		assigned = 0;
+		containsZero = false;
+		return this;
+	}
+
+	public void forEach(IntConsumer action) {
+		if (containsZero) {
+			action.accept(0);
+		}
+		for (int key : keys) {
+			if (key != 0) {
+				action.accept(key);
+			}
+		}
+	}
+
+	/**
+	 * 返回遍历所有元素的迭代器（迭代期间不能修改集合）
+	 */
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			int slot = containsZero ? -1 : nextSlot(0);
+
+			int nextSlot(int from) {
+				final int[] ks = keys;
+				while (from < ks.length && ks[from] == 0) {
+					from++;
+				}
+				return from;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return slot < keys.length;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final int key = slot == -1 ? 0 : keys[slot];
+				slot = nextSlot(slot + 1);
+				return key;
+			}
+		};
+	}
+
+	/**
+	 * 返回包含所有元素的新数组（元素顺序是不确定的）
+	 */
+	public int[] toArray() {
+		final int size = size();
+		if (size == 0) {
+			return ArrayUtils.EMPTY_INT_ARRAY;
+		}
+		final int[] array = new int[size];
+		int i = 0;
+		if (containsZero) {
+			array[i++] = 0;
+		}
+		for (int key : keys) {
+			if (key != 0) {
+				array[i++] = key;
+			}
+		}
+		return array;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof IntHashSet)) {
+			return false;
+		}
+		final IntHashSet that = (IntHashSet) o;
+		if (size() != that.size() || containsZero != that.containsZero) {
+			return false;
+		}
+		for (int key : keys) {
+			if (key != 0 && !that.contains(key)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 0;
+		for (int key : keys) {
+			h += key;
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(size() * 4 + 2).append('[');
+		forEach(key -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key);
+		});
+		return sb.append(']').toString();
+	}
+
+}
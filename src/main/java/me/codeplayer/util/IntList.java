@@ -0,0 +1,218 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 直接存储 int 原始类型的可变长度列表
+ * <p> 与 {@code ArrayList<Integer>} 相比，每个元素只占用 4 个字节，并且读写时不会产生装箱对象。
+ * <p> 本类是非线程安全的。
+ *
+ * @see LongList
+ * @see IntHashSet
+ * @since 4.3.3
+ */
+public class IntList {
+
+	int[] elements;
+	int size;
+
+	/**
+	 * 构造一个指定初始容量的列表
+	 */
+	public IntList(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "initialCapacity must be >= 0");
+		elements = initialCapacity == 0 ? ArrayUtils.EMPTY_INT_ARRAY : new int[initialCapacity];
+	}
+
+	public IntList() {
+		this(10);
+	}
+
+	/**
+	 * 根据指定的数组元素构造一个列表
+	 */
+	public static IntList of(int... values) {
+		final IntList list = new IntList(values.length);
+		System.arraycopy(values, 0, list.elements, 0, values.length);
+		list.size = values.length;
+		return list;
+	}
+
+	/**
+	 * 确保列表至少可以容纳指定数量的元素，而无需再次扩容
+	 */
+	public IntList ensureCapacity(int minCapacity) {
+		if (minCapacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1));
+		}
+		return this;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public IntList add(int value) {
+		if (size == elements.length) {
+			ensureCapacity(size + 1);
+		}
+		elements[size++] = value;
+		return this;
+	}
+
+	public IntList addAll(int... values) {
+		ensureCapacity(size + values.length);
+		System.arraycopy(values, 0, elements, size, values.length);
+		size += values.length;
+		return this;
+	}
+
+	public IntList addAll(IntList other) {
+		ensureCapacity(size + other.size);
+		System.arraycopy(other.elements, 0, elements, size, other.size);
+		size += other.size;
+		return this;
+	}
+
+	public int get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * 设置指定索引处的元素值
+	 *
+	 * @return 该索引处原来的值
+	 */
+	public int set(int index, int value) {
+		checkIndex(index);
+		final int old = elements[index];
+		elements[index] = value;
+		return old;
+	}
+
+	/**
+	 * 移除指定索引处的元素
+	 *
+	 * @return 被移除的元素值
+	 */
+	public int removeAt(int index) {
+		checkIndex(index);
+		final int old = elements[index];
+		final int moved = size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(elements, index + 1, elements, index, moved);
+		}
+		size--;
+		return old;
+	}
+
+	public int indexOf(int value) {
+		return ArrayX.indexOf(elements, 0, size, value);
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) != -1;
+	}
+
+	public IntList clear() {
+		size = 0;
+		return this;
+	}
+
+	/**
+	 * 对列表中的元素进行升序排序
+	 */
+	public IntList sort() {
+		Arrays.sort(elements, 0, size);
+		return this;
+	}
+
+	/**
+	 * 将底层数组的容量缩减为实际的元素个数
+	 */
+	public IntList trimToSize() {
+		if (size < elements.length) {
+			elements = size == 0 ? ArrayUtils.EMPTY_INT_ARRAY : Arrays.copyOf(elements, size);
+		}
+		return this;
+	}
+
+	public void forEach(IntConsumer action) {
+		final int[] es = elements;
+		for (int i = 0; i < size; i++) {
+			action.accept(es[i]);
+		}
+	}
+
+	public IntStream stream() {
+		return Arrays.stream(elements, 0, size);
+	}
+
+	/**
+	 * 返回包含所有元素的新数组
+	 */
+	public int[] toArray() {
+		return size == 0 ? ArrayUtils.EMPTY_INT_ARRAY : Arrays.copyOf(elements, size);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof IntList)) {
+			return false;
+		}
+		final IntList that = (IntList) o;
+		if (size != that.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (elements[i] != that.elements[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 1;
+		for (int i = 0; i < size; i++) {
+			h = 31 * h + elements[i];
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		if (size == 0) {
+			return "[]";
+		}
+		final StringBuilder sb = new StringBuilder(size * 4 + 2).append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(elements[i]);
+		}
+		return sb.append(']').toString();
+	}
+
+}
@@ -10,12 +10,97 @@ public class JavaHelper {
 		return false;
 	}
 
+	/**
+	 * 将字符串的指定片段解析为 int 数值，不会产生中间子字符串（语义与 Java 9+ 的 {@code Integer.parseInt(CharSequence, int, int, int)} 一致）
+	 *
+	 * @throws NumberFormatException 如果指定片段不是有效的整数
+	 * @throws IndexOutOfBoundsException 如果索引超出范围
+	 */
 	public static int parseInt(String str, int start, int end) {
-		return Integer.parseInt(str.substring(start, end), 10);
+		if (start < 0 || start > end || end > str.length()) {
+			throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + str.length());
+		}
+		if (start == end) {
+			throw forInputString(str, start, end);
+		}
+		int i = start, limit = -Integer.MAX_VALUE;
+		boolean negative = false;
+		final char firstChar = str.charAt(i);
+		if (firstChar < '0') { // 可能是 '+' 或 '-'
+			if (firstChar == '-') {
+				negative = true;
+				limit = Integer.MIN_VALUE;
+			} else if (firstChar != '+') {
+				throw forInputString(str, start, end);
+			}
+			if (end - start == 1) { // 不能只有 '+' 或 '-'
+				throw forInputString(str, start, end);
+			}
+			i++;
+		}
+		final int multmin = limit / 10;
+		int result = 0;
+		while (i < end) {
+			final int digit = Character.digit(str.charAt(i++), 10);
+			if (digit < 0 || result < multmin) {
+				throw forInputString(str, start, end);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw forInputString(str, start, end);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
 	}
 
+	/**
+	 * 将字符串的指定片段解析为 long 数值，不会产生中间子字符串（语义与 Java 9+ 的 {@code Long.parseLong(CharSequence, int, int, int)} 一致）
+	 *
+	 * @throws NumberFormatException 如果指定片段不是有效的整数
+	 * @throws IndexOutOfBoundsException 如果索引超出范围
+	 */
 	public static long parseLong(String str, int start, int end) {
-		return Long.parseLong(str.substring(start, end), 10);
+		if (start < 0 || start > end || end > str.length()) {
+			throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + str.length());
+		}
+		if (start == end) {
+			throw forInputString(str, start, end);
+		}
+		int i = start;
+		long limit = -Long.MAX_VALUE;
+		boolean negative = false;
+		final char firstChar = str.charAt(i);
+		if (firstChar < '0') { // 可能是 '+' 或 '-'
+			if (firstChar == '-') {
+				negative = true;
+				limit = Long.MIN_VALUE;
+			} else if (firstChar != '+') {
+				throw forInputString(str, start, end);
+			}
+			if (end - start == 1) { // 不能只有 '+' 或 '-'
+				throw forInputString(str, start, end);
+			}
+			i++;
+		}
+		final long multmin = limit / 10;
+		long result = 0;
+		while (i < end) {
+			final int digit = Character.digit(str.charAt(i++), 10);
+			if (digit < 0 || result < multmin) {
+				throw forInputString(str, start, end);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw forInputString(str, start, end);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	static NumberFormatException forInputString(String str, int start, int end) {
+		return new NumberFormatException("For input string: \"" + str.substring(start, end) + "\"");
 	}
 
 	/**
@@ -401,6 +401,9 @@ public class JavaX {
 				// ignored
 			}
 		}
+		if (VectorKernels.ENABLED && end - start >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.isASCII(bytes, start, end);
+		}
 		return isASCII0(bytes, start, end);
 	}
 
@@ -454,6 +457,184 @@ public class JavaX {
 		return StandardCharsets.US_ASCII.newEncoder().canEncode(str);
 	}
 
+	/** 使用 SWAR（SIMD Within A Register，每次通过一个 long 扫描 8 个字节）扫描字符串的最小长度，低于该长度时直接逐个字符扫描更快 */
+	static final int SWAR_MIN_LENGTH = 16;
+	/** 当前平台是否支持通过 {@link Unsafe#getLong(Object, long)} 对字节数组进行非对齐读取 */
+	static final boolean SWAR_SUPPORTED = isUnalignedAccessSupported(System.getProperty("os.arch"));
+	static final long BYTE_ARRAY_BASE_OFFSET = UNSAFE.arrayBaseOffset(byte[].class);
+	static final long SWAR_ONES = 0x0101010101010101L, SWAR_HIGHS = 0x8080808080808080L;
+
+	static boolean isUnalignedAccessSupported(@Nullable String arch) {
+		return "amd64".equals(arch) || "x86_64".equals(arch) || "aarch64".equals(arch);
+	}
+
+	/**
+	 * 如果指定的字符序列是 Latin1 编码的紧凑字符串（并且长度不小于 {@link #SWAR_MIN_LENGTH}、当前平台支持 SWAR 扫描），则返回其底层的字节数组（<b>只读</b>），否则返回 null
+	 */
+	static byte @Nullable [] latin1ValueForScan(@Nullable CharSequence cs) {
+		if (SWAR_SUPPORTED && cs instanceof String && cs.length() >= SWAR_MIN_LENGTH) {
+			final String str = (String) cs;
+			if (STRING_CODER.applyAsInt(str) == LATIN1) {
+				return STRING_VALUE.apply(str);
+			}
+		}
+		return null;
+	}
+
+	/** 是否存在（无符号）小于 n 的字节，n 不能大于 128 */
+	static boolean hasByteLessThan(long word, int n) {
+		return ((word - SWAR_ONES * n) & ~word & SWAR_HIGHS) != 0;
+	}
+
+	/** 是否存在（无符号）大于 n 的字节，n 不能大于 127 */
+	static boolean hasByteGreaterThan(long word, int n) {
+		return (((word + SWAR_ONES * (127 - n)) | word) & SWAR_HIGHS) != 0;
+	}
+
+	/** 是否存在值为 b 的字节 */
+	static boolean hasByte(long word, int b) {
+		final long v = word ^ (SWAR_ONES * b);
+		return ((v - SWAR_ONES) & ~v & SWAR_HIGHS) != 0;
+	}
+
+	static long getLong(byte[] bytes, int index) {
+		return UNSAFE.getLong(bytes, BYTE_ARRAY_BASE_OFFSET + index);
+	}
+
+	static void checkFromToIndex(byte[] bytes, int from, int to) {
+		if (from < 0 || from > to || to > bytes.length) {
+			throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + bytes.length);
+		}
+	}
+
+	/**
+	 * 查找 Latin1 字节数组中第一个（无符号值）大于空格 <code>' '</code> 的字节（即：非空白字符，与 {@link String#trim()} 的判断标准一致）
+	 * <p> 在支持的平台上，该方法每次读取 8 个字节，并通过位运算一次性判断（SWAR），只在命中时才逐个字节定位；如果启用了 Vector API，则优先使用向量化的实现
+	 *
+	 * @param latin1 Latin1 编码的字节数组（例如：通过 {@link #STRING_VALUE} 获取的紧凑字符串的底层数组）
+	 * @param from 开始位置（包含）
+	 * @param to 结束位置（不包含）
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 * @since 4.3.3
+	 */
+	public static int indexOfNonBlank(byte[] latin1, int from, int to) {
+		checkFromToIndex(latin1, from, to);
+		if (VectorKernels.ENABLED && to - from >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.indexOfRange(latin1, from, to, 0, ' ', false);
+		}
+		int i = from;
+		if (SWAR_SUPPORTED) {
+			final int limit = to - 8;
+			while (i <= limit && !hasByteGreaterThan(getLong(latin1, i), ' ')) {
+				i += 8;
+			}
+		}
+		for (; i < to; i++) {
+			if ((latin1[i] & 0xFF) > ' ') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 查找 Latin1 字节数组中第一个（无符号值）小于等于空格 <code>' '</code> 的字节（所有满足 {@link Character#isWhitespace(char)} 的 Latin1 字符都在此范围内）
+	 *
+	 * @param latin1 Latin1 编码的字节数组
+	 * @param from 开始位置（包含）
+	 * @param to 结束位置（不包含）
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 * @see #indexOfNonBlank(byte[], int, int)
+	 * @since 4.3.3
+	 */
+	public static int indexOfBlank(byte[] latin1, int from, int to) {
+		checkFromToIndex(latin1, from, to);
+		if (VectorKernels.ENABLED && to - from >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.indexOfRange(latin1, from, to, 0, ' ', true);
+		}
+		int i = from;
+		if (SWAR_SUPPORTED) {
+			final int limit = to - 8;
+			while (i <= limit && !hasByteLessThan(getLong(latin1, i), ' ' + 1)) {
+				i += 8;
+			}
+		}
+		for (; i < to; i++) {
+			if ((latin1[i] & 0xFF) <= ' ') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 查找 Latin1 字节数组中第一个属于指定字符集合的字节
+	 *
+	 * @param latin1 Latin1 编码的字节数组
+	 * @param from 开始位置（包含）
+	 * @param to 结束位置（不包含）
+	 * @param chars 字符集合（其中大于 <code>0xFF</code> 的字符不可能出现在 Latin1 字节数组中，将被忽略）。字符个数较少时，SWAR 的效果更好
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 * @see #indexOfNonBlank(byte[], int, int)
+	 * @since 4.3.3
+	 */
+	public static int indexOfAny(byte[] latin1, int from, int to, String chars) {
+		checkFromToIndex(latin1, from, to);
+		final int size = chars.length();
+		int i = from;
+		if (SWAR_SUPPORTED && size <= 8) {
+			outer:
+			for (final int limit = to - 8; i <= limit; i += 8) {
+				final long word = getLong(latin1, i);
+				for (int j = 0; j < size; j++) {
+					final char ch = chars.charAt(j);
+					if (ch <= 0xFF && hasByte(word, ch)) {
+						break outer;
+					}
+				}
+			}
+		}
+		for (; i < to; i++) {
+			if (chars.indexOf(latin1[i] & 0xFF) != -1) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 查找 Latin1 字节数组中第一个不是十进制数字 <code>[0-9]</code> 的字节
+	 *
+	 * @param latin1 Latin1 编码的字节数组
+	 * @param from 开始位置（包含）
+	 * @param to 结束位置（不包含）
+	 * @return 对应的索引，如果全部都是数字，则返回 -1
+	 * @see #indexOfNonBlank(byte[], int, int)
+	 * @since 4.3.3
+	 */
+	public static int indexOfNonDigit(byte[] latin1, int from, int to) {
+		checkFromToIndex(latin1, from, to);
+		if (VectorKernels.ENABLED && to - from >= VectorKernels.MIN_LENGTH) {
+			return VectorKernels.indexOfRange(latin1, from, to, '0', '9', false);
+		}
+		int i = from;
+		if (SWAR_SUPPORTED) {
+			for (final int limit = to - 8; i <= limit; i += 8) {
+				final long word = getLong(latin1, i);
+				if (hasByteLessThan(word, '0') || hasByteGreaterThan(word, '9')) {
+					break;
+				}
+			}
+		}
+		for (; i < to; i++) {
+			final byte b = latin1[i];
+			if (b < '0' || b > '9') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * 将字符串转换为 UTF-8 编码的字节数组
 	 * <p> 【注意】：在 JDK 9+，返回的字节数组可能是字符串底层数组的<b>引用</b>，只能读取、<b>不可</b>修改，否则可能引发错误！！！
@@ -0,0 +1,854 @@
+package me.codeplayer.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.*;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 基于 Key 的、容量有界的、线程安全的缓存数据加载器
+ * <p> 每个 Key 对应的缓存项都遵循 {@link CacheLoader} 的 刷新/重新加载 语义（详见 {@link #loaderOf(Object)}），并支持：
+ * <ul>
+ * <li>淘汰策略：{@link Eviction#LRU} 或 {@link Eviction#W_TINY_LFU}</li>
+ * <li>基于 {@link #weigher(ToIntBiFunction) 权重} 的最大容量限制（默认每个缓存项的权重均为 1，即限制最大条目数）</li>
+ * <li>{@link #expireAfterWrite(long, TimeUnit) 写入后过期} 或 {@link #expireAfterAccess(long, TimeUnit) 访问后过期}</li>
+ * </ul>
+ * <p> 缓存命中时的读取操作是<b>无锁</b>的：访问记录会先写入有损的分段环形缓冲区，再由获得淘汰锁的线程批量回放至淘汰策略中。
+ * <p> 所有配置方法都必须在缓存被使用之前调用。
+ *
+ * @author Ready
+ * @see CacheLoader
+ * @see LazyCacheLoader
+ * @see TimeBasedCacheLoader
+ * @since 4.3.3
+ */
+public class KeyedCacheLoader<K, V> {
+
+	/** 缓存淘汰策略 */
+	public enum Eviction {
+		/** 最近最少使用 */
+		LRU,
+		/** Window TinyLFU：新条目先进入 LRU 窗口区，再根据访问频率决定能否进入 SLRU 主区 */
+		W_TINY_LFU
+	}
+
+	static final Object uninitialized = LazyCacheLoader.uninitialized;
+
+	static final byte QUEUE_NONE = 0, QUEUE_MAIN = 1, QUEUE_WINDOW = 2, QUEUE_PROBATION = 3, QUEUE_PROTECTED = 4;
+
+	protected final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+	protected final Function<? super K, ? extends V> loader;
+	protected final long maximumWeight;
+	//
+	protected Eviction eviction = Eviction.W_TINY_LFU;
+	@Nullable
+	protected ToIntBiFunction<? super K, ? super V> weigher;
+	/** 写入后过期的纳秒数，0 表示不过期 */
+	protected long expireAfterWriteNanos;
+	/** 访问后过期的纳秒数，0 表示不过期 */
+	protected long expireAfterAccessNanos;
+	protected LongSupplier ticker = System::nanoTime;
+	/** 统计数据记录器，为 null 表示未开启统计 */
+	@Nullable
+	protected CacheStatsRecorder statsRecorder;
+	//
+	final ReentrantLock evictionLock = new ReentrantLock();
+	final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+	/** 以下字段均由 {@link #evictionLock} 保护 */
+	final NodeDeque<K, V> main = new NodeDeque<>(false), window = new NodeDeque<>(false),
+			probation = new NodeDeque<>(false), protectedQueue = new NodeDeque<>(false),
+			writeOrder = new NodeDeque<>(true);
+	long weightedSize, windowWeight, protectedWeight;
+	long maxWindow, maxProtected;
+	@Nullable
+	FrequencySketch sketch;
+
+	/**
+	 * 构造一个基于 Key 的有界缓存加载器
+	 *
+	 * @param maximumWeight 最大总权重（未指定 {@link #weigher(ToIntBiFunction) 权重计算器} 时，即为最大缓存条目数）
+	 * @param loader 根据 Key 加载对应值的加载器
+	 */
+	public KeyedCacheLoader(long maximumWeight, Function<? super K, ? extends V> loader) {
+		Assert.isTrue(maximumWeight >= 0, "maximumWeight must not be negative");
+		this.loader = Assert.notNull(loader);
+		this.maximumWeight = maximumWeight;
+		eviction(Eviction.W_TINY_LFU);
+	}
+
+	/**
+	 * 构造一个基于 Key 的有界缓存加载器
+	 *
+	 * @param maximumWeight 最大总权重（未指定 {@link #weigher(ToIntBiFunction) 权重计算器} 时，即为最大缓存条目数）
+	 * @param loader 根据 Key 加载对应值的加载器
+	 */
+	public static <K, V> KeyedCacheLoader<K, V> of(long maximumWeight, Function<? super K, ? extends V> loader) {
+		return new KeyedCacheLoader<>(maximumWeight, loader);
+	}
+
+	/**
+	 * 设置缓存淘汰策略，默认为 {@link Eviction#W_TINY_LFU}
+	 */
+	public KeyedCacheLoader<K, V> eviction(Eviction eviction) {
+		assertUnused();
+		this.eviction = Assert.notNull(eviction);
+		if (eviction == Eviction.W_TINY_LFU) {
+			maxWindow = Math.max(1, maximumWeight / 100);
+			maxProtected = (maximumWeight - maxWindow) * 80 / 100;
+			sketch = new FrequencySketch();
+			sketch.ensureCapacity(Math.min(maximumWeight, 1 << 16));
+		} else {
+			sketch = null;
+		}
+		return this;
+	}
+
+	/**
+	 * 设置每个缓存项的权重计算器。权重必须是非负数，默认每个缓存项的权重均为 1
+	 */
+	public KeyedCacheLoader<K, V> weigher(@Nullable ToIntBiFunction<? super K, ? super V> weigher) {
+		assertUnused();
+		this.weigher = weigher;
+		return this;
+	}
+
+	/**
+	 * 设置缓存项在 写入（加载）后 经过指定的时长后过期
+	 *
+	 * @param duration 时长，必须是正数
+	 */
+	public KeyedCacheLoader<K, V> expireAfterWrite(long duration, TimeUnit unit) {
+		assertUnused();
+		Assert.isTrue(duration > 0, "duration must be positive");
+		this.expireAfterWriteNanos = unit.toNanos(duration);
+		return this;
+	}
+
+	/**
+	 * 设置缓存项在 最后一次访问（读取或写入）后 经过指定的时长后过期
+	 *
+	 * @param duration 时长，必须是正数
+	 */
+	public KeyedCacheLoader<K, V> expireAfterAccess(long duration, TimeUnit unit) {
+		assertUnused();
+		Assert.isTrue(duration > 0, "duration must be positive");
+		this.expireAfterAccessNanos = unit.toNanos(duration);
+		return this;
+	}
+
+	/**
+	 * 设置用于计算过期的纳秒级时间源，默认为 {@link System#nanoTime()}
+	 */
+	public KeyedCacheLoader<K, V> ticker(LongSupplier ticker) {
+		assertUnused();
+		this.ticker = Assert.notNull(ticker);
+		return this;
+	}
+
+	/**
+	 * 开启缓存统计，并使用指定的记录器记录统计数据（多个缓存可以共享同一个记录器）
+	 *
+	 * @param recorder 为 null 时表示关闭统计
+	 */
+	public KeyedCacheLoader<K, V> recordStats(@Nullable CacheStatsRecorder recorder) {
+		this.statsRecorder = recorder;
+		return this;
+	}
+
+	/**
+	 * 开启缓存统计
+	 */
+	public KeyedCacheLoader<K, V> recordStats() {
+		return recordStats(new CacheStatsRecorder());
+	}
+
+	/**
+	 * 获取缓存统计数据的快照
+	 *
+	 * @return 如果未开启统计，则返回 null
+	 */
+	@Nullable
+	public CacheStats stats() {
+		final CacheStatsRecorder recorder = statsRecorder;
+		return recorder == null ? null : recorder.snapshot();
+	}
+
+	private void assertUnused() {
+		Assert.state(data.isEmpty(), "The cache configuration can not be changed after it is used");
+	}
+
+	/**
+	 * 获取指定 Key 对应的缓存值。如果缓存不存在或已过期，则同步加载（同一个 Key 同时只会有一个线程执行加载）
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(K key) {
+		final long now = ticker.getAsLong();
+		final Node<K, V> node = data.get(key);
+		if (node != null) {
+			final Object val = node.value;
+			if (val != uninitialized && !isExpired(node, now)) {
+				afterRead(node, now);
+				recordHit();
+				return (V) val;
+			}
+		}
+		return load(key, node, now, false);
+	}
+
+	/**
+	 * 获取指定 Key 对应的缓存值，不会触发加载
+	 *
+	 * @return 如果缓存不存在或已过期，则返回 null
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public V getIfPresent(K key) {
+		final Node<K, V> node = data.get(key);
+		if (node != null) {
+			final long now = ticker.getAsLong();
+			final Object val = node.value;
+			if (val != uninitialized && !isExpired(node, now)) {
+				afterRead(node, now);
+				recordHit();
+				return (V) val;
+			}
+		}
+		final CacheStatsRecorder recorder = statsRecorder;
+		if (recorder != null) {
+			recorder.recordMiss();
+		}
+		return null;
+	}
+
+	/**
+	 * 将指定的键值对放入缓存中，如果已存在则覆盖
+	 */
+	public void put(K key, V value) {
+		final long now = ticker.getAsLong();
+		Node<K, V> node;
+		do {
+			node = data.computeIfAbsent(key, Node::new);
+			synchronized (node) {
+				setValue(node, value, now);
+			}
+			// 写入期间，该缓存项可能已被 淘汰、过期清理 或 invalidate() 移除，此时需要使用新的缓存项重新写入
+		} while (!afterWrite(node));
+	}
+
+	/**
+	 * 判断指定 Key 对应的缓存是否需要（重新）加载
+	 */
+	public boolean flushRequired(K key) {
+		final Node<K, V> node = data.get(key);
+		return node == null || node.value == uninitialized || isExpired(node, ticker.getAsLong());
+	}
+
+	/**
+	 * 刷新指定 Key 对应的缓存
+	 *
+	 * @param lazy 如果为 true，则只移除缓存项，并在下次获取时再重新加载，此时返回 null；否则立即重新加载并返回新的值
+	 * @see CacheLoader#flush(boolean)
+	 */
+	@Nullable
+	public V flush(K key, boolean lazy) {
+		if (lazy) {
+			invalidate(key);
+			return null;
+		}
+		return load(key, data.get(key), ticker.getAsLong(), true);
+	}
+
+	/**
+	 * 返回一个绑定到指定 Key 的 {@link CacheLoader} 视图，对该视图的所有操作都将委托给当前缓存
+	 */
+	public CacheLoader<V> loaderOf(final K key) {
+		return new CacheLoader<V>() {
+
+			@Override
+			public V get() {
+				return KeyedCacheLoader.this.get(key);
+			}
+
+			@Override
+			public boolean flushRequired() {
+				return KeyedCacheLoader.this.flushRequired(key);
+			}
+
+			@Override
+			public V flush(boolean lazy) {
+				return KeyedCacheLoader.this.flush(key, lazy);
+			}
+
+			@Nullable
+			@Override
+			public CacheStats stats() {
+				return KeyedCacheLoader.this.stats();
+			}
+		};
+	}
+
+	/**
+	 * 移除指定 Key 对应的缓存项
+	 */
+	public void invalidate(K key) {
+		evictionLock.lock();
+		try {
+			final Node<K, V> node = data.remove(key);
+			if (node != null) {
+				unlink(node);
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 移除所有缓存项
+	 */
+	public void invalidateAll() {
+		evictionLock.lock();
+		try {
+			readBuffer.drainTo(null);
+			for (Node<K, V> node : data.values()) {
+				if (data.remove(node.key, node)) {
+					unlink(node);
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 返回当前缓存项的大致数量
+	 */
+	public long size() {
+		return data.mappingCount();
+	}
+
+	/**
+	 * 返回当前所有缓存项的总权重
+	 */
+	public long weightedSize() {
+		evictionLock.lock();
+		try {
+			return weightedSize;
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 立即执行 回放访问记录、清理过期项、淘汰超额缓存项 等维护操作
+	 */
+	public void cleanUp() {
+		evictionLock.lock();
+		try {
+			maintenance();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected V load(final K key, @Nullable Node<K, V> node, final long now, final boolean force) {
+		if (node == null) {
+			node = data.computeIfAbsent(key, Node::new);
+		}
+		Object val;
+		synchronized (node) {
+			val = node.value;
+			if (force || val == uninitialized || isExpired(node, now)) {
+				final CacheStatsRecorder recorder = statsRecorder;
+				if (recorder != null && !force) {
+					recorder.recordMiss();
+				}
+				try {
+					val = CacheStatsRecorder.load(recorder, loader, key);
+				} catch (RuntimeException | Error e) {
+					if (node.value == uninitialized) { // 避免加载失败的占位项残留
+						data.remove(key, node);
+					}
+					throw e;
+				}
+				setValue(node, (V) val, now);
+			} else {
+				afterRead(node, now);
+				recordHit();
+				return (V) val;
+			}
+		}
+		afterWrite(node);
+		return (V) val;
+	}
+
+	private void recordHit() {
+		final CacheStatsRecorder recorder = statsRecorder;
+		if (recorder != null) {
+			recorder.recordHit();
+		}
+	}
+
+	private void setValue(Node<K, V> node, V value, long now) {
+		final int weight = weigher == null ? 1 : weigher.applyAsInt(node.key, value);
+		Assert.isTrue(weight >= 0, "weight must not be negative");
+		node.weight = weight;
+		node.writeTime = node.accessTime = now;
+		node.value = value;
+	}
+
+	protected boolean isExpired(Node<K, V> node, long now) {
+		return expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos
+				|| expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos;
+	}
+
+	private void afterRead(Node<K, V> node, long now) {
+		if (expireAfterAccessNanos > 0) {
+			node.accessTime = now;
+		}
+		if (readBuffer.offer(node) && evictionLock.tryLock()) {
+			try {
+				maintenance();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * @return 如果该缓存项仍然存在于缓存中，则返回 true；如果写入过程中，该缓存项已被移除，则返回 false
+	 */
+	private boolean afterWrite(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			final boolean present = data.get(node.key) == node;
+			if (present) {
+				if (node.queue == QUEUE_NONE) {
+					onAdd(node);
+				} else {
+					onUpdate(node);
+				}
+			}
+			maintenance();
+			return present;
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/** 必须持有 {@link #evictionLock} */
+	void maintenance() {
+		readBuffer.drainTo(this::onAccess);
+		expire(ticker.getAsLong());
+		evict();
+	}
+
+	void onAdd(Node<K, V> node) {
+		final int weight = node.policyWeight = node.weight;
+		weightedSize += weight;
+		if (sketch != null) {
+			sketch.ensureCapacity(data.size());
+			sketch.increment(node.key.hashCode());
+			window.linkLast(node);
+			node.queue = QUEUE_WINDOW;
+			windowWeight += weight;
+		} else {
+			main.linkLast(node);
+			node.queue = QUEUE_MAIN;
+		}
+		if (expireAfterWriteNanos > 0) {
+			writeOrder.linkLast(node);
+		}
+	}
+
+	void onUpdate(Node<K, V> node) {
+		final int delta = node.weight - node.policyWeight;
+		node.policyWeight = node.weight;
+		weightedSize += delta;
+		if (node.queue == QUEUE_WINDOW) {
+			windowWeight += delta;
+		} else if (node.queue == QUEUE_PROTECTED) {
+			protectedWeight += delta;
+		}
+		if (expireAfterWriteNanos > 0) {
+			writeOrder.moveToLast(node);
+		}
+		onAccess(node);
+	}
+
+	void onAccess(Node<K, V> node) {
+		switch (node.queue) {
+			case QUEUE_MAIN:
+				main.moveToLast(node);
+				break;
+			case QUEUE_WINDOW:
+				sketch.increment(node.key.hashCode());
+				window.moveToLast(node);
+				break;
+			case QUEUE_PROBATION:
+				sketch.increment(node.key.hashCode());
+				// 晋升至 保护区
+				probation.unlink(node);
+				protectedQueue.linkLast(node);
+				node.queue = QUEUE_PROTECTED;
+				protectedWeight += node.policyWeight;
+				// 保护区超额时，将最久未访问的缓存项降级至 试用区
+				Node<K, V> demoted;
+				while (protectedWeight > maxProtected && (demoted = protectedQueue.first) != node && demoted != null) {
+					protectedQueue.unlink(demoted);
+					probation.linkLast(demoted);
+					demoted.queue = QUEUE_PROBATION;
+					protectedWeight -= demoted.policyWeight;
+				}
+				break;
+			case QUEUE_PROTECTED:
+				sketch.increment(node.key.hashCode());
+				protectedQueue.moveToLast(node);
+				break;
+			default: // 已被移除
+		}
+	}
+
+	void expire(long now) {
+		if (expireAfterWriteNanos > 0) {
+			Node<K, V> node;
+			while ((node = writeOrder.first) != null && now - node.writeTime >= expireAfterWriteNanos) {
+				evictNode(node);
+			}
+		}
+		if (expireAfterAccessNanos > 0) {
+			expireAccessOrder(main, now);
+			expireAccessOrder(window, now);
+			expireAccessOrder(probation, now);
+			expireAccessOrder(protectedQueue, now);
+		}
+	}
+
+	private void expireAccessOrder(NodeDeque<K, V> deque, long now) {
+		Node<K, V> node;
+		while ((node = deque.first) != null && now - node.accessTime >= expireAfterAccessNanos) {
+			evictNode(node);
+		}
+	}
+
+	void evict() {
+		if (sketch == null) {
+			Node<K, V> node;
+			while (weightedSize > maximumWeight && (node = main.first) != null) {
+				evictNode(node);
+			}
+			return;
+		}
+		// 窗口区超额时，将最久未访问的缓存项作为候选者移入 试用区 的尾部
+		Node<K, V> node;
+		while (windowWeight > maxWindow && (node = window.first) != null) {
+			window.unlink(node);
+			windowWeight -= node.policyWeight;
+			probation.linkLast(node);
+			node.queue = QUEUE_PROBATION;
+		}
+		// 总权重超额时，让 试用区 尾部的候选者 与 头部的受害者 比较访问频率，淘汰频率较低的一方
+		while (weightedSize > maximumWeight) {
+			final Node<K, V> victim = probation.first, candidate = probation.last;
+			if (victim == null) {
+				final Node<K, V> other = protectedQueue.first != null ? protectedQueue.first : window.first;
+				if (other == null) {
+					break;
+				}
+				evictNode(other);
+			} else if (victim == candidate || candidate.policyWeight > maximumWeight) {
+				evictNode(candidate);
+			} else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+				evictNode(victim);
+			} else {
+				evictNode(candidate);
+			}
+		}
+	}
+
+	void evictNode(Node<K, V> node) {
+		data.remove(node.key, node);
+		unlink(node);
+	}
+
+	void unlink(Node<K, V> node) {
+		switch (node.queue) {
+			case QUEUE_MAIN:
+				main.unlink(node);
+				break;
+			case QUEUE_WINDOW:
+				window.unlink(node);
+				windowWeight -= node.policyWeight;
+				break;
+			case QUEUE_PROBATION:
+				probation.unlink(node);
+				break;
+			case QUEUE_PROTECTED:
+				protectedQueue.unlink(node);
+				protectedWeight -= node.policyWeight;
+				break;
+			default:
+				return;
+		}
+		writeOrder.unlink(node);
+		weightedSize -= node.policyWeight;
+		node.queue = QUEUE_NONE;
+	}
+
+	/**
+	 * 缓存项
+	 */
+	static final class Node<K, V> {
+
+		final K key;
+		volatile Object value = uninitialized;
+		volatile long writeTime, accessTime;
+		volatile int weight;
+		/** 以下字段均由 {@link #evictionLock} 保护 */
+		int policyWeight;
+		byte queue;
+		@Nullable
+		Node<K, V> prev, next, prevInWriteOrder, nextInWriteOrder;
+
+		Node(K key) {
+			this.key = key;
+		}
+
+	}
+
+	/**
+	 * 侵入式的双向链表，分别用于维护 访问顺序 和 写入顺序
+	 */
+	static final class NodeDeque<K, V> {
+
+		final boolean writeOrder;
+		@Nullable
+		Node<K, V> first, last;
+
+		NodeDeque(boolean writeOrder) {
+			this.writeOrder = writeOrder;
+		}
+
+		@Nullable
+		Node<K, V> prev(Node<K, V> node) {
+			return writeOrder ? node.prevInWriteOrder : node.prev;
+		}
+
+		@Nullable
+		Node<K, V> next(Node<K, V> node) {
+			return writeOrder ? node.nextInWriteOrder : node.next;
+		}
+
+		void setPrev(Node<K, V> node, @Nullable Node<K, V> prev) {
+			if (writeOrder) {
+				node.prevInWriteOrder = prev;
+			} else {
+				node.prev = prev;
+			}
+		}
+
+		void setNext(Node<K, V> node, @Nullable Node<K, V> next) {
+			if (writeOrder) {
+				node.nextInWriteOrder = next;
+			} else {
+				node.next = next;
+			}
+		}
+
+		boolean contains(Node<K, V> node) {
+			return prev(node) != null || next(node) != null || first == node;
+		}
+
+		void linkLast(Node<K, V> node) {
+			final Node<K, V> l = last;
+			last = node;
+			if (l == null) {
+				first = node;
+			} else {
+				setNext(l, node);
+				setPrev(node, l);
+			}
+		}
+
+		void unlink(Node<K, V> node) {
+			if (!contains(node)) {
+				return;
+			}
+			final Node<K, V> prev = prev(node), next = next(node);
+			if (prev == null) {
+				first = next;
+			} else {
+				setNext(prev, next);
+				setPrev(node, null);
+			}
+			if (next == null) {
+				last = prev;
+			} else {
+				setPrev(next, prev);
+				setNext(node, null);
+			}
+		}
+
+		void moveToLast(Node<K, V> node) {
+			if (node != last && contains(node)) {
+				unlink(node);
+				linkLast(node);
+			}
+		}
+
+	}
+
+	/**
+	 * 有损的分段环形缓冲区，用于无锁地记录缓存命中时的访问事件。缓冲区已满时，新的访问记录将被直接丢弃
+	 */
+	static final class ReadBuffer<E> {
+
+		static final int STRIPES = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+		static final int BUFFER_SIZE = 16, BUFFER_MASK = BUFFER_SIZE - 1;
+
+		final AtomicLong[] writeCounters = new AtomicLong[STRIPES];
+		/** 仅由持有淘汰锁的线程写入 */
+		final long[] readCounters = new long[STRIPES];
+		final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPES * BUFFER_SIZE);
+
+		ReadBuffer() {
+			for (int i = 0; i < STRIPES; i++) {
+				writeCounters[i] = new AtomicLong();
+			}
+		}
+
+		/**
+		 * 记录一次访问事件
+		 *
+		 * @return 如果缓冲区已满或即将写满，需要尽快回放，则返回 true
+		 */
+		boolean offer(E e) {
+			final int stripe = stripeIndex();
+			final AtomicLong writeCounter = writeCounters[stripe];
+			final long tail = writeCounter.get(), size = tail - readCounters[stripe];
+			if (size >= BUFFER_SIZE) {
+				return true;
+			}
+			if (writeCounter.compareAndSet(tail, tail + 1)) {
+				buffer.lazySet(stripe * BUFFER_SIZE + (int) (tail & BUFFER_MASK), e);
+			}
+			return size >= BUFFER_SIZE >> 1;
+		}
+
+		/** 必须持有淘汰锁 */
+		void drainTo(@Nullable Consumer<E> consumer) {
+			for (int stripe = 0; stripe < STRIPES; stripe++) {
+				long head = readCounters[stripe];
+				final long tail = writeCounters[stripe].get();
+				while (head < tail) {
+					final int index = stripe * BUFFER_SIZE + (int) (head & BUFFER_MASK);
+					final E e = buffer.get(index);
+					if (e == null) { // 尚未发布完成
+						break;
+					}
+					buffer.lazySet(index, null);
+					if (consumer != null) {
+						consumer.accept(e);
+					}
+					head++;
+				}
+				readCounters[stripe] = head;
+			}
+		}
+
+		@SuppressWarnings("deprecation")
+		static int stripeIndex() {
+			final long id = Thread.currentThread().getId();
+			return (int) (id * 0x9E3779B97F4A7C15L >>> 32) & (STRIPES - 1);
+		}
+
+	}
+
+	/**
+	 * 基于 Count-Min Sketch 的访问频率估算器，每个计数器占 4 位，并会定期衰减以适应访问模式的变化
+	 * <p> 非线程安全，必须持有淘汰锁
+	 */
+	static final class FrequencySketch {
+
+		static final long[] SEED = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+		static final long RESET_MASK = 0x7777777777777777L, ONE_MASK = 0x1111111111111111L;
+		static final int MAXIMUM_CAPACITY = 1 << 26;
+
+		long[] table = new long[0];
+		int tableMask, sampleSize, size;
+
+		void ensureCapacity(long maximumSize) {
+			final int maximum = (int) Math.min(Math.max(maximumSize, 1), MAXIMUM_CAPACITY);
+			if (table.length >= maximum) {
+				return;
+			}
+			table = new long[ceilingPowerOfTwo(maximum)];
+			tableMask = table.length - 1;
+			sampleSize = 10 * maximum;
+			size = 0;
+		}
+
+		int frequency(int hashCode) {
+			final int hash = spread(hashCode), start = (hash & 3) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for (int i = 0; i < 4; i++) {
+				final int count = (int) ((table[indexOf(hash, i)] >>> ((start + i) << 2)) & 0xfL);
+				frequency = Math.min(frequency, count);
+			}
+			return frequency;
+		}
+
+		void increment(int hashCode) {
+			final int hash = spread(hashCode), start = (hash & 3) << 2;
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				added |= incrementAt(indexOf(hash, i), start + i);
+			}
+			if (added && ++size >= sampleSize) {
+				reset();
+			}
+		}
+
+		boolean incrementAt(int i, int j) {
+			final int offset = j << 2;
+			final long mask = 0xfL << offset;
+			if ((table[i] & mask) != mask) {
+				table[i] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		/** 所有计数器减半，使旧的访问频率逐渐衰减 */
+		void reset() {
+			int count = 0;
+			for (int i = 0; i < table.length; i++) {
+				count += Long.bitCount(table[i] & ONE_MASK);
+				table[i] = (table[i] >>> 1) & RESET_MASK;
+			}
+			size = (size >>> 1) - (count >>> 2);
+		}
+
+		int indexOf(int item, int i) {
+			long hash = (item + SEED[i]) * SEED[i];
+			hash += hash >>> 32;
+			return ((int) hash) & tableMask;
+		}
+
+		static int spread(int x) {
+			x = ((x >>> 16) ^ x) * 0x45d9f3b;
+			x = ((x >>> 16) ^ x) * 0x45d9f3b;
+			return (x >>> 16) ^ x;
+		}
+
+	}
+
+	static int ceilingPowerOfTwo(int x) {
+		return x <= 1 ? 1 : Integer.highestOneBit(x - 1) << 1;
+	}
+
+}
@@ -2,6 +2,8 @@ package me.codeplayer.util;
 
 import java.util.function.*;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * 支持懒加载的缓存数据加载器，一般情况下，数据只会加载一次
  *
@@ -15,6 +17,9 @@ public class LazyCacheLoader<E> implements CacheLoader<E> {
 	//
 	protected transient volatile Object value = uninitialized;
 	protected final Supplier<E> loader;
+	/** 统计数据记录器，为 null 表示未开启统计 */
+	@Nullable
+	protected transient CacheStatsRecorder statsRecorder;
 
 	public LazyCacheLoader(Supplier<E> loader) {
 		Assert.notNull(loader);
@@ -28,17 +33,52 @@ public class LazyCacheLoader<E> implements CacheLoader<E> {
 		}
 	}
 
+	/**
+	 * 开启缓存统计，并使用指定的记录器记录统计数据（多个加载器可以共享同一个记录器）
+	 *
+	 * @param recorder 为 null 时表示关闭统计
+	 * @since 4.3.3
+	 */
+	public LazyCacheLoader<E> recordStats(@Nullable CacheStatsRecorder recorder) {
+		this.statsRecorder = recorder;
+		return this;
+	}
+
+	/**
+	 * 开启缓存统计
+	 *
+	 * @since 4.3.3
+	 */
+	public LazyCacheLoader<E> recordStats() {
+		return recordStats(new CacheStatsRecorder());
+	}
+
+	@Nullable
+	@Override
+	public CacheStats stats() {
+		final CacheStatsRecorder recorder = statsRecorder;
+		return recorder == null ? null : recorder.snapshot();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public E get() {
+		final CacheStatsRecorder recorder = statsRecorder;
 		Object val = value;
 		if (isUninitialized(val)) {
 			synchronized (this) {
 				if (isUninitialized(val = value)) {
-					value = val = loader.get();
+					if (recorder != null) {
+						recorder.recordMiss();
+					}
+					value = val = CacheStatsRecorder.load(recorder, loader);
+					return (E) val;
 				}
 			}
 		}
+		if (recorder != null) {
+			recorder.recordHit();
+		}
 		return (E) val;
 	}
 
@@ -57,7 +97,7 @@ public class LazyCacheLoader<E> implements CacheLoader<E> {
 			value = uninitialized;
 			return null;
 		} else {
-			final E val = loader.get();
+			final E val = CacheStatsRecorder.load(statsRecorder, loader);
 			value = val;
 			return val;
 		}
@@ -0,0 +1,345 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 直接存储 long 原始类型的哈希集合（开放寻址 + 线性探测）
+ * <p> 与 {@code HashSet<Long>} 相比，每个元素只占用一个 long 数组槽位，没有 Entry 节点和装箱对象的额外开销。
+ * <p> 数值 0 被用作空槽位的标记，因此单独使用一个标识字段来记录集合中是否包含 0。
+ * <p> 本类是非线程安全的。
+ *
+ * @see IntHashSet
+ * @see LongObjectHashMap
+ * @since 4.3.3
+ */
+public class LongHashSet {
+
+	/** 默认的负载因子 */
+	static final float DEFAULT_LOAD_FACTOR = 0.75F;
+	static final int MAX_CAPACITY = 1 << 30;
+
+	long[] keys;
+	int mask;
+	/** 非零元素的个数 */
+	int assigned;
+	boolean containsZero;
+	int resizeThreshold;
+
+	/**
+	 * 构造一个可以存储指定元素个数而无需扩容的集合
+	 *
+	 * @param expectedSize 预期的元素个数
+	 */
+	public LongHashSet(int expectedSize) {
+		allocate(tableSize(expectedSize, DEFAULT_LOAD_FACTOR));
+	}
+
+	public LongHashSet() {
+		this(16);
+	}
+
+	/**
+	 * 根据指定的数组元素构造一个集合
+	 */
+	public static LongHashSet of(long... values) {
+		final LongHashSet set = new LongHashSet(values.length);
+		for (long value : values) {
+			set.add(value);
+		}
+		return set;
+	}
+
+	/**
+	 * 计算可以容纳指定元素个数的哈希表容量（2 的幂次方）
+	 */
+	static int tableSize(int expectedSize, float loadFactor) {
+		Assert.isTrue(expectedSize >= 0, "expectedSize must be >= 0");
+		final long required = (long) Math.ceil(Math.max(expectedSize, 2) / loadFactor);
+		if (required > MAX_CAPACITY) {
+			throw new IllegalArgumentException("The expected size is too large: " + expectedSize);
+		}
+		return Math.max(4, Integer.highestOneBit((int) required - 1) << 1);
+	}
+
+	static IllegalStateException tableFull(int size) {
+		return new IllegalStateException("The hash table has reached its maximum capacity (" + MAX_CAPACITY + "), size: " + size);
+	}
+
+	/**
+	 * 对 long 值进行位混淆，使连续的 ID 也能均匀地分布在哈希表中
+	 */
+	static int mix(long key) {
+		final long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	void allocate(int capacity) {
+		keys = new long[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int) (capacity * DEFAULT_LOAD_FACTOR);
+	}
+
+	public int size() {
+		return containsZero ? assigned + 1 : assigned;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public boolean contains(long key) {
+		if (key == 0) {
+			return containsZero;
+		}
+		final long[] ks = keys;
+		final int m = mask;
+		long existing;
+		for (int slot = mix(key) & m; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 添加指定的元素
+	 *
+	 * @return 如果集合之前不包含该元素，则返回 true
+	 */
+	public boolean add(long key) {
+		if (key == 0) {
+			if (containsZero) {
+				return false;
+			}
+			return containsZero = true;
+		}
+		final long[] ks = keys;
+		final int m = mask;
+		long existing;
+		int slot = mix(key) & m;
+		for (; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				return false;
+			}
+		}
+		ks[slot] = key;
+		if (++assigned > resizeThreshold) {
+			if (ks.length >= MAX_CAPACITY) { // 无法再扩容，撤销本次添加
+				ks[slot] = 0;
+				assigned--;
+				throw tableFull(size());
+			}
+			rehash(ks.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * 添加指定数组中的所有元素
+	 *
+	 * @return 新添加的元素个数
+	 */
+	public int addAll(long... values) {
+		ensureCapacity(size() + values.length);
+		int added = 0;
+		for (long value : values) {
+			if (add(value)) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * 移除指定的元素
+	 *
+	 * @return 如果集合之前包含该元素，则返回 true
+	 */
+	public boolean remove(long key) {
+		if (key == 0) {
+			final boolean existed = containsZero;
+			containsZero = false;
+			return existed;
+		}
+		final long[] ks = keys;
+		final int m = mask;
+		long existing;
+		for (int slot = mix(key) & m; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				shiftConflictingKeys(slot);
+				assigned--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 删除指定槽位的元素后，将后续探测链上的元素向前移动，以免产生"断链"（无需使用墓碑标记）
+	 */
+	void shiftConflictingKeys(int gapSlot) {
+		final long[] ks = keys;
+		final int m = mask;
+		int distance = 0;
+		while (true) {
+			final int slot = (gapSlot + (++distance)) & m;
+			final long existing = ks[slot];
+			if (existing == 0) {
+				break;
+			}
+			final int idealSlot = mix(existing) & m;
+			if (((slot - idealSlot) & m) >= distance) {
+				ks[gapSlot] = existing;
+				gapSlot = slot;
+				distance = 0;
+			}
+		}
+		ks[gapSlot] = 0;
+	}
+
+	/**
+	 * 确保集合至少可以容纳指定数量的元素，而无需再次扩容
+	 */
+	public LongHashSet ensureCapacity(int expectedSize) {
+		if (expectedSize > resizeThreshold) {
+			rehash(tableSize(expectedSize, DEFAULT_LOAD_FACTOR));
+		}
+		return this;
+	}
+
+	void rehash(int newCapacity) {
+		final long[] oldKeys = keys;
+		allocate(newCapacity);
+		final long[] ks = keys;
+		final int m = mask;
+		for (long key : oldKeys) {
+			if (key != 0) {
+				int slot = mix(key) & m;
+				while (ks[slot] != 0) {
+					slot = (slot + 1) & m;
+				}
+				ks[slot] = key;
+			}
+		}
+	}
+
+	public LongHashSet clear() {
+		Arrays.fill(keys, 0);
+		assigned = 0;
+		containsZero = false;
+		return this;
+	}
+
+	public void forEach(LongConsumer action) {
+		if (containsZero) {
+			action.accept(0);
+		}
+		for (long key : keys) {
+			if (key != 0) {
+				action.accept(key);
+			}
+		}
+	}
+
+	/**
+	 * 返回遍历所有元素的迭代器（迭代期间不能修改集合）
+	 */
+	public PrimitiveIterator.OfLong iterator() {
+		return new PrimitiveIterator.OfLong() {
+			int slot = containsZero ? -1 : nextSlot(0);
+
+			int nextSlot(int from) {
+				final long[] ks = keys;
+				while (from < ks.length && ks[from] == 0) {
+					from++;
+				}
+				return from;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return slot < keys.length;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final long key = slot == -1 ? 0 : keys[slot];
+				slot = nextSlot(slot + 1);
+				return key;
+			}
+		};
+	}
+
+	/**
+	 * 返回包含所有元素的新数组（元素顺序是不确定的）
+	 */
+	public long[] toArray() {
+		final int size = size();
+		if (size == 0) {
+			return ArrayUtils.EMPTY_LONG_ARRAY;
+		}
+		final long[] array = new long[size];
+		int i = 0;
+		if (containsZero) {
+			array[i++] = 0;
+		}
+		for (long key : keys) {
+			if (key != 0) {
+				array[i++] = key;
+			}
+		}
+		return array;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof LongHashSet)) {
+			return false;
+		}
+		final LongHashSet that = (LongHashSet) o;
+		if (size() != that.size() || containsZero != that.containsZero) {
+			return false;
+		}
+		for (long key : keys) {
+			if (key != 0 && !that.contains(key)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 0;
+		for (long key : keys) {
+			h += Long.hashCode(key);
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(size() * 8 + 2).append('[');
+		forEach(key -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key);
+		});
+		return sb.append(']').toString();
+	}
+
+}
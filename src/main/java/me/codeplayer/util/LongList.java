@@ -0,0 +1,218 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 直接存储 long 原始类型的可变长度列表
+ * <p> 与 {@code ArrayList<Long>} 相比，每个元素只占用 8 个字节，并且读写时不会产生装箱对象。
+ * <p> 本类是非线程安全的。
+ *
+ * @see IntList
+ * @see LongHashSet
+ * @since 4.3.3
+ */
+public class LongList {
+
+	long[] elements;
+	int size;
+
+	/**
+	 * 构造一个指定初始容量的列表
+	 */
+	public LongList(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "initialCapacity must be >= 0");
+		elements = initialCapacity == 0 ? ArrayUtils.EMPTY_LONG_ARRAY : new long[initialCapacity];
+	}
+
+	public LongList() {
+		this(10);
+	}
+
+	/**
+	 * 根据指定的数组元素构造一个列表
+	 */
+	public static LongList of(long... values) {
+		final LongList list = new LongList(values.length);
+		System.arraycopy(values, 0, list.elements, 0, values.length);
+		list.size = values.length;
+		return list;
+	}
+
+	/**
+	 * 确保列表至少可以容纳指定数量的元素，而无需再次扩容
+	 */
+	public LongList ensureCapacity(int minCapacity) {
+		if (minCapacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1));
+		}
+		return this;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public LongList add(long value) {
+		if (size == elements.length) {
+			ensureCapacity(size + 1);
+		}
+		elements[size++] = value;
+		return this;
+	}
+
+	public LongList addAll(long... values) {
+		ensureCapacity(size + values.length);
+		System.arraycopy(values, 0, elements, size, values.length);
+		size += values.length;
+		return this;
+	}
+
+	public LongList addAll(LongList other) {
+		ensureCapacity(size + other.size);
+		System.arraycopy(other.elements, 0, elements, size, other.size);
+		size += other.size;
+		return this;
+	}
+
+	public long get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * 设置指定索引处的元素值
+	 *
+	 * @return 该索引处原来的值
+	 */
+	public long set(int index, long value) {
+		checkIndex(index);
+		final long old = elements[index];
+		elements[index] = value;
+		return old;
+	}
+
+	/**
+	 * 移除指定索引处的元素
+	 *
+	 * @return 被移除的元素值
+	 */
+	public long removeAt(int index) {
+		checkIndex(index);
+		final long old = elements[index];
+		final int moved = size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(elements, index + 1, elements, index, moved);
+		}
+		size--;
+		return old;
+	}
+
+	public int indexOf(long value) {
+		return ArrayX.indexOf(elements, 0, size, value);
+	}
+
+	public boolean contains(long value) {
+		return indexOf(value) != -1;
+	}
+
+	public LongList clear() {
+		size = 0;
+		return this;
+	}
+
+	/**
+	 * 对列表中的元素进行升序排序
+	 */
+	public LongList sort() {
+		Arrays.sort(elements, 0, size);
+		return this;
+	}
+
+	/**
+	 * 将底层数组的容量缩减为实际的元素个数
+	 */
+	public LongList trimToSize() {
+		if (size < elements.length) {
+			elements = size == 0 ? ArrayUtils.EMPTY_LONG_ARRAY : Arrays.copyOf(elements, size);
+		}
+		return this;
+	}
+
+	public void forEach(LongConsumer action) {
+		final long[] es = elements;
+		for (int i = 0; i < size; i++) {
+			action.accept(es[i]);
+		}
+	}
+
+	public LongStream stream() {
+		return Arrays.stream(elements, 0, size);
+	}
+
+	/**
+	 * 返回包含所有元素的新数组
+	 */
+	public long[] toArray() {
+		return size == 0 ? ArrayUtils.EMPTY_LONG_ARRAY : Arrays.copyOf(elements, size);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof LongList)) {
+			return false;
+		}
+		final LongList that = (LongList) o;
+		if (size != that.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (elements[i] != that.elements[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 1;
+		for (int i = 0; i < size; i++) {
+			h = 31 * h + Long.hashCode(elements[i]);
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		if (size == 0) {
+			return "[]";
+		}
+		final StringBuilder sb = new StringBuilder(size * 8 + 2).append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(elements[i]);
+		}
+		return sb.append(']').toString();
+	}
+
+}
@@ -0,0 +1,346 @@
+package me.codeplayer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 以 long 原始类型作为键的哈希 Map（开放寻址 + 线性探测）
+ * <p> 与 {@code HashMap<Long, V>} 相比，每个键值对只占用一个 long 槽位和一个引用槽位，没有 Entry 节点和装箱对象的额外开销。
+ * <p> 本类的值不能为 null，{@link #get(long)} 返回 null 即表示不存在对应的键。
+ * <p> 本类是非线程安全的。
+ *
+ * @param <V> 值的类型
+ * @see LongHashSet
+ * @since 4.3.3
+ */
+public class LongObjectHashMap<V> {
+
+	long[] keys;
+	Object[] values;
+	int mask;
+	/** 非零键的个数 */
+	int assigned;
+	/** 键为 0 时对应的值（0 被用作空槽位的标记） */
+	@Nullable
+	V zeroValue;
+	int resizeThreshold;
+
+	/**
+	 * 构造一个可以存储指定键值对个数而无需扩容的 Map
+	 *
+	 * @param expectedSize 预期的键值对个数
+	 */
+	public LongObjectHashMap(int expectedSize) {
+		allocate(LongHashSet.tableSize(expectedSize, LongHashSet.DEFAULT_LOAD_FACTOR));
+	}
+
+	public LongObjectHashMap() {
+		this(16);
+	}
+
+	void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int) (capacity * LongHashSet.DEFAULT_LOAD_FACTOR);
+	}
+
+	public int size() {
+		return zeroValue == null ? assigned : assigned + 1;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/** 返回指定键所在的槽位，如果不存在则返回 -1 */
+	int slotOf(long key) {
+		final long[] ks = keys;
+		final int m = mask;
+		long existing;
+		for (int slot = LongHashSet.mix(key) & m; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				return slot;
+			}
+		}
+		return -1;
+	}
+
+	public boolean containsKey(long key) {
+		return key == 0 ? zeroValue != null : slotOf(key) != -1;
+	}
+
+	/**
+	 * 获取指定键对应的值
+	 *
+	 * @return 如果不存在对应的键，则返回 null
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		if (key == 0) {
+			return zeroValue;
+		}
+		final int slot = slotOf(key);
+		return slot == -1 ? null : (V) values[slot];
+	}
+
+	public V getOrDefault(long key, V defaultValue) {
+		final V value = get(key);
+		return value == null ? defaultValue : value;
+	}
+
+	/**
+	 * 设置指定键对应的值
+	 *
+	 * @param value 不能为 null
+	 * @return 该键之前对应的值，如果之前不存在，则返回 null
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		Assert.notNull(value);
+		if (key == 0) {
+			final V old = zeroValue;
+			zeroValue = value;
+			return old;
+		}
+		final long[] ks = keys;
+		final int m = mask;
+		long existing;
+		int slot = LongHashSet.mix(key) & m;
+		for (; (existing = ks[slot]) != 0; slot = (slot + 1) & m) {
+			if (existing == key) {
+				final V old = (V) values[slot];
+				values[slot] = value;
+				return old;
+			}
+		}
+		ks[slot] = key;
+		values[slot] = value;
+		if (++assigned > resizeThreshold) {
+			if (ks.length >= LongHashSet.MAX_CAPACITY) { // 无法再扩容，撤销本次添加
+				ks[slot] = 0;
+				values[slot] = null;
+				assigned--;
+				throw LongHashSet.tableFull(size());
+			}
+			rehash(ks.length << 1);
+		}
+		return null;
+	}
+
+	/**
+	 * 如果指定的键不存在，则设置对应的值
+	 *
+	 * @return 该键之前对应的值，如果之前不存在，则返回 null
+	 */
+	@Nullable
+	public V putIfAbsent(long key, V value) {
+		final V old = get(key);
+		return old == null ? put(key, value) : old;
+	}
+
+	/**
+	 * 获取指定键对应的值，如果不存在，则使用指定的函数计算出新值并放入 Map 中
+	 *
+	 * @param mappingFunction 计算新值的函数。如果返回 null，则不放入 Map 中
+	 */
+	@Nullable
+	public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+		V value = get(key);
+		if (value == null && (value = mappingFunction.apply(key)) != null) {
+			put(key, value);
+		}
+		return value;
+	}
+
+	/**
+	 * 移除指定的键
+	 *
+	 * @return 该键之前对应的值，如果之前不存在，则返回 null
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		if (key == 0) {
+			final V old = zeroValue;
+			zeroValue = null;
+			return old;
+		}
+		final int slot = slotOf(key);
+		if (slot == -1) {
+			return null;
+		}
+		final V old = (V) values[slot];
+		shiftConflictingKeys(slot);
+		assigned--;
+		return old;
+	}
+
+	/**
+	 * 删除指定槽位的键值对后，将后续探测链上的键值对向前移动，以免产生"断链"
+	 *
+	 * @see LongHashSet#shiftConflictingKeys(int)
+	 */
+	void shiftConflictingKeys(int gapSlot) {
+		final long[] ks = keys;
+		final Object[] vs = values;
+		final int m = mask;
+		int distance = 0;
+		while (true) {
+			final int slot = (gapSlot + (++distance)) & m;
+			final long existing = ks[slot];
+			if (existing == 0) {
+				break;
+			}
+			final int idealSlot = LongHashSet.mix(existing) & m;
+			if (((slot - idealSlot) & m) >= distance) {
+				ks[gapSlot] = existing;
+				vs[gapSlot] = vs[slot];
+				gapSlot = slot;
+				distance = 0;
+			}
+		}
+		ks[gapSlot] = 0;
+		vs[gapSlot] = null;
+	}
+
+	/**
+	 * 确保 Map 至少可以容纳指定数量的键值对，而无需再次扩容
+	 */
+	public LongObjectHashMap<V> ensureCapacity(int expectedSize) {
+		if (expectedSize > resizeThreshold) {
+			rehash(LongHashSet.tableSize(expectedSize, LongHashSet.DEFAULT_LOAD_FACTOR));
+		}
+		return this;
+	}
+
+	void rehash(int newCapacity) {
+		final long[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate(newCapacity);
+		final long[] ks = keys;
+		final Object[] vs = values;
+		final int m = mask;
+		for (int i = 0; i < oldKeys.length; i++) {
+			final long key = oldKeys[i];
+			if (key != 0) {
+				int slot = LongHashSet.mix(key) & m;
+				while (ks[slot] != 0) {
+					slot = (slot + 1) & m;
+				}
+				ks[slot] = key;
+				vs[slot] = oldValues[i];
+			}
+		}
+	}
+
+	public LongObjectHashMap<V> clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+		assigned = 0;
+		zeroValue = null;
+		return this;
+	}
+
+	/**
+	 * 遍历所有的键值对
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<? super V> action) {
+		if (zeroValue != null) {
+			action.accept(0, zeroValue);
+		}
+		final long[] ks = keys;
+		final Object[] vs = values;
+		for (int i = 0; i < ks.length; i++) {
+			if (ks[i] != 0) {
+				action.accept(ks[i], (V) vs[i]);
+			}
+		}
+	}
+
+	/**
+	 * 返回包含所有键的集合
+	 */
+	public LongHashSet keySet() {
+		final LongHashSet set = new LongHashSet(size());
+		forEach((k, v) -> set.add(k));
+		return set;
+	}
+
+	/**
+	 * 返回包含所有值的列表（元素顺序与 {@link #forEach(EntryConsumer)} 的遍历顺序一致）
+	 */
+	public ArrayList<V> values() {
+		final ArrayList<V> list = new ArrayList<>(size());
+		forEach((k, v) -> list.add(v));
+		return list;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof LongObjectHashMap)) {
+			return false;
+		}
+		final LongObjectHashMap<?> that = (LongObjectHashMap<?>) o;
+		if (size() != that.size() || !Objects.equals(zeroValue, that.zeroValue)) {
+			return false;
+		}
+		final long[] ks = keys;
+		final Object[] vs = values;
+		for (int i = 0; i < ks.length; i++) {
+			if (ks[i] != 0 && !vs[i].equals(that.get(ks[i]))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 与 {@link java.util.Map#hashCode()} 的约定一致：所有键值对的 <code>Long.hashCode(key) ^ value.hashCode()</code> 之和
+	 */
+	@Override
+	public int hashCode() {
+		int h = zeroValue == null ? 0 : zeroValue.hashCode();
+		final long[] ks = keys;
+		final Object[] vs = values;
+		for (int i = 0; i < ks.length; i++) {
+			if (ks[i] != 0) {
+				h += Long.hashCode(ks[i]) ^ vs[i].hashCode();
+			}
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(size() * 16 + 2).append('{');
+		forEach((k, v) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(k).append('=').append(v);
+		});
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * 接收 long 键 和 对应值 的回调接口
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+
+		void accept(long key, V value);
+
+	}
+
+}
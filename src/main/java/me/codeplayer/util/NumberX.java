@@ -326,6 +326,10 @@ public abstract class NumberX {
 		if (length == 0) { // 为空字符串则返回 false
 			return false;
 		}
+		final byte[] latin1 = JavaX.latin1ValueForScan(cs);
+		if (latin1 != null) { // Latin1 字符中只有 [0-9] 满足 Character.isDigit()
+			return JavaX.indexOfNonDigit(latin1, 0, length) == -1;
+		}
 		for (int i = 0; i < length; i++) {
 			if (!Character.isDigit(cs.charAt(i))) {
 				return false;
@@ -395,6 +399,12 @@ public abstract class NumberX {
 	 * @return 返回第一个非数字的字符下标，如果全部是数字，则返回 -1
 	 */
 	static int scanNumeric(final CharSequence cs, int start, int end) {
+		if (start < end) {
+			final byte[] latin1 = JavaX.latin1ValueForScan(cs);
+			if (latin1 != null) {
+				return JavaX.indexOfNonDigit(latin1, start, end);
+			}
+		}
 		for (int i = start; i < end; i++) {
 			char ch = cs.charAt(i);
 			if (ch < '0' || ch > '9') {
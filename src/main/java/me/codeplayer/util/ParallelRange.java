@@ -0,0 +1,85 @@
+package me.codeplayer.util;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * 基于 {@link ForkJoinPool#commonPool()} 的区间并行归约工具：将 {@code [0, size)} 区间拆分为多个连续片段并行计算，再按片段的先后顺序合并
+ *
+ * @since 4.3.3
+ */
+final class ParallelRange {
+
+	/**
+	 * 计算 {@code [from, to)} 区间的局部结果
+	 */
+	interface Reducer<R> {
+
+		R reduce(int from, int to);
+
+	}
+
+	/**
+	 * 判断是否需要拆分为多个片段并行计算：元素个数超过 {@code threshold}，并且公共线程池的并行度至少为 2
+	 */
+	static boolean shouldSplit(int size, int threshold) {
+		return size > Math.max(threshold, 1) && ForkJoinPool.getCommonPoolParallelism() > 1;
+	}
+
+	/**
+	 * 对 {@code [0, size)} 区间进行归约，如果 {@link #shouldSplit(int, int)} 为 true，则并行计算，否则直接在当前线程中计算
+	 *
+	 * @param merger 合并两个相邻片段的结果，第一个参数是左侧（靠前的）片段的结果
+	 */
+	static <R> R reduce(int size, int threshold, Reducer<R> reducer, BinaryOperator<R> merger) {
+		if (!shouldSplit(size, threshold)) {
+			return reducer.reduce(0, size);
+		}
+		final int leafSize = Math.max(Math.min(threshold, 1024), size / (ForkJoinPool.getCommonPoolParallelism() << 2));
+		return ForkJoinPool.commonPool().invoke(new RangeTask<>(0, size, leafSize, reducer, merger));
+	}
+
+	/**
+	 * 返回支持高效随机访问的 List，以便按索引拆分片段
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> List<T> asRandomAccessList(Collection<T> c) {
+		return c instanceof List && c instanceof RandomAccess ? (List<T>) c : (List<T>) Arrays.asList(c.toArray());
+	}
+
+	/**
+	 * 负责计算 {@code [from, to)} 区间的并行子任务
+	 */
+	@SuppressWarnings("serial")
+	static final class RangeTask<R> extends RecursiveTask<R> {
+
+		final int from, to, leafSize;
+		final Reducer<R> reducer;
+		final BinaryOperator<R> merger;
+
+		RangeTask(int from, int to, int leafSize, Reducer<R> reducer, BinaryOperator<R> merger) {
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+			this.reducer = reducer;
+			this.merger = merger;
+		}
+
+		@Override
+		protected R compute() {
+			if (to - from <= leafSize) {
+				return reducer.reduce(from, to);
+			}
+			final int mid = (from + to) >>> 1;
+			final RangeTask<R> left = new RangeTask<>(from, mid, leafSize, reducer, merger);
+			left.fork();
+			final R right = new RangeTask<>(mid, to, leafSize, reducer, merger).compute();
+			// 左侧片段在前，必须作为合并的第一个参数，才能保持顺序
+			return merger.apply(left.join(), right);
+		}
+
+	}
+
+}
@@ -0,0 +1,62 @@
+package me.codeplayer.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link StringBuilder} 回收复用工具类，用于减少高频字符串拼接时临时 StringBuilder 的分配开销
+ * <p> 内部采用 <b>分段（striped）</b> 的对象池，而非 {@link ThreadLocal}：每个线程根据线程 ID 映射到一个槽位，并通过原子操作独占地借出、归还对象。
+ * 因此即使在大量使用虚拟线程的场景下，也不会为每个虚拟线程分别缓存对象，更不会错误地将对象绑定到某个载体线程上。
+ * <p> 容量超过 {@link #MAX_RETAINED_CAPACITY} 的 StringBuilder 在归还时将被直接丢弃，以免长期占用大块内存。
+ * <p> <b>注意</b>：借出的 StringBuilder 在归还后，调用方不能再继续使用它。
+ *
+ * @since 4.3.3
+ */
+public abstract class StringBuilderRecycler {
+
+	/**
+	 * 允许归还至对象池的 StringBuilder 的最大容量（字符数），默认为 8192，可以通过系统属性 "me.codeplayer.util.StringBuilderRecycler.maxCapacity" 进行调整
+	 */
+	public static final int MAX_RETAINED_CAPACITY = Integer.getInteger("me.codeplayer.util.StringBuilderRecycler.maxCapacity", 8192);
+	static final int STRIPES = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 4 - 1) << 1;
+	static final AtomicReferenceArray<StringBuilder> POOL = new AtomicReferenceArray<>(STRIPES);
+
+	@SuppressWarnings("deprecation")
+	static int slot() {
+		final long id = Thread.currentThread().getId();
+		return (int) (id * 0x9E3779B97F4A7C15L >>> 32) & (STRIPES - 1);
+	}
+
+	/**
+	 * 借出一个内容为空、并且至少具有指定容量的 StringBuilder
+	 *
+	 * @param capacity 期望的最小容量
+	 */
+	public static StringBuilder acquire(int capacity) {
+		final StringBuilder sb = POOL.getAndSet(slot(), null);
+		if (sb == null) {
+			return new StringBuilder(Math.max(capacity, 16));
+		}
+		sb.ensureCapacity(capacity);
+		return sb;
+	}
+
+	/**
+	 * 归还借出的 StringBuilder。归还后，调用方不能再继续使用该对象
+	 */
+	public static void release(StringBuilder sb) {
+		if (sb.capacity() <= MAX_RETAINED_CAPACITY) {
+			sb.setLength(0);
+			POOL.lazySet(slot(), sb);
+		}
+	}
+
+	/**
+	 * 返回 StringBuilder 的字符串形式，并将其归还至对象池
+	 */
+	public static String toStringAndRelease(StringBuilder sb) {
+		final String str = sb.toString();
+		release(sb);
+		return str;
+	}
+
+}
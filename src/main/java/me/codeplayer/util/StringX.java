@@ -285,6 +285,10 @@ public abstract class StringX {
 			return true;
 		}
 		int length = str.length();
+		final byte[] latin1 = JavaX.latin1ValueForScan(str);
+		if (latin1 != null) {
+			return JavaX.indexOfNonBlank(latin1, 0, length) == -1;
+		}
 		for (int i = 0; i < length; i++) {
 			if (str.charAt(i) > ' ') { // ' '即'\u0020'，参考 java.lang.String.trim() 方法的实现
 				return false;
@@ -600,9 +604,20 @@ public abstract class StringX {
 			return "";
 		}
 		final int len = str.length();
+		int i = 0;
+		final byte[] latin1 = JavaX.latin1ValueForScan(str);
+		if (latin1 != null) {
+			// Latin1 中的空白字符都 <= ' '，先快速跳过前面不包含空白字符的部分
+			while ((i = JavaX.indexOfBlank(latin1, i, len)) != -1 && !Character.isWhitespace((char) (latin1[i] & 0xFF))) {
+				i++;
+			}
+			if (i == -1) {
+				return str;
+			}
+		}
 		char[] chars = null;
 		int count = 0;
-		for (int i = 0; i < len; i++) {
+		for (; i < len; i++) {
 			char ch = str.charAt(i);
 			if (Character.isWhitespace(ch)) {
 				if (chars == null) {
@@ -885,8 +900,8 @@ public abstract class StringX {
 		if (isEmpty(likeStr)) {
 			return sb;
 		}
-		final char[] strChars = likeStr.toCharArray();
-		int length = strChars.length + 2;
+		final int strLength = likeStr.length();
+		int length = strLength + 2;
 		if (appendWildcardAtStart || appendWildcardAtEnd) {
 			length += 2;
 		}
@@ -895,11 +910,22 @@ public abstract class StringX {
 		if (appendWildcardAtStart) {
 			sb.append('%');
 		}
-		for (char ch : strChars) {
-			if (searchChars.indexOf(ch, 0) != -1) {
-				sb.append(escapeChar);
+		final byte[] latin1 = JavaX.latin1ValueForScan(likeStr);
+		if (latin1 != null) {
+			int start = 0, pos;
+			while ((pos = JavaX.indexOfAny(latin1, start, strLength, searchChars)) != -1) {
+				sb.append(likeStr, start, pos).append(escapeChar).append(likeStr.charAt(pos));
+				start = pos + 1;
+			}
+			sb.append(likeStr, start, strLength);
+		} else {
+			for (int i = 0; i < strLength; i++) {
+				final char ch = likeStr.charAt(i);
+				if (searchChars.indexOf(ch, 0) != -1) {
+					sb.append(escapeChar);
+				}
+				sb.append(ch);
 			}
-			sb.append(ch);
 		}
 		if (appendWildcardAtEnd) {
 			sb.append('%');
@@ -917,11 +943,15 @@ public abstract class StringX {
 	 * @since 2.9
 	 */
 	public static String escapeSQLLike(@Nullable final String likeStr, final char escapeChar, final boolean appendWildcardAtStart, final boolean appendWildcardAtEnd) {
-		final StringBuilder sb = escapeSQLLike(null, likeStr, escapeChar, appendWildcardAtStart, appendWildcardAtEnd);
-		if (sb == null || sb.length() == length(likeStr)) { // modified
+		if (isEmpty(likeStr)) {
 			return likeStr;
 		}
-		return sb.toString();
+		final StringBuilder sb = escapeSQLLike(StringBuilderRecycler.acquire(likeStr.length() + 4), likeStr, escapeChar, appendWildcardAtStart, appendWildcardAtEnd);
+		if (sb.length() == likeStr.length()) { // modified
+			StringBuilderRecycler.release(sb);
+			return likeStr;
+		}
+		return StringBuilderRecycler.toStringAndRelease(sb);
 	}
 
 	/**
@@ -1142,6 +1172,7 @@ public abstract class StringX {
 	 */
 	public static <E> String joinAppend(@Nullable Collection<E> items, BiConsumer<StringBuilder, E> itemAppender, String delimiter, int itemLength) {
 		final int size = items == null ? 0 : items.size();
+		// itemAppender 是外部传入的回调，可能会持有 StringBuilder 的引用，因此不能使用可回收的 StringBuilder
 		return size == 0 ? "" : doJoinAppend(null, items, size, itemAppender, delimiter, itemLength).toString();
 	}
 
@@ -1167,7 +1198,7 @@ public abstract class StringX {
 			case 1:
 				return c.iterator().next().toString();
 			default:
-				return doJoinAppend(null, c, size, StringX::append, delimiter, itemLength).toString();
+				return StringBuilderRecycler.toStringAndRelease(doJoinAppend(StringBuilderRecycler.acquire(0), c, size, StringX::append, delimiter, itemLength));
 		}
 	}
 
@@ -1222,7 +1253,7 @@ public abstract class StringX {
 			case 1:
 				return String.valueOf(getter.apply(array[0]));
 			default:
-				return doJoinAppend(null, array, size, (sb, t) -> append(sb, getter.apply(t)), delimiter, itemLength).toString();
+				return StringBuilderRecycler.toStringAndRelease(doJoinAppend(StringBuilderRecycler.acquire(0), array, size, (sb, t) -> append(sb, getter.apply(t)), delimiter, itemLength));
 		}
 	}
 
@@ -1260,7 +1291,18 @@ public abstract class StringX {
 			case 1:
 				return numbers.iterator().next().toString();
 			default:
-				return doJoinAppend(null, numbers, size, (sb, t) -> sb.append(t.longValue()), delimiter, itemLength).toString();
+				// 预先计算精确的字符数，以便直接将缓冲区交给 String，避免 toString() 时的数组复制
+				int length = (size - 1) * delimiter.length();
+				for (Number number : numbers) {
+					length += stringSize(number.longValue());
+				}
+				final CompactStringBuilder sb = new CompactStringBuilder(length);
+				final Iterator<? extends Number> it = numbers.iterator();
+				sb.append(it.next().longValue());
+				while (it.hasNext()) {
+					sb.append(delimiter).append(it.next().longValue());
+				}
+				return sb.toString();
 		}
 	}
 
@@ -1289,7 +1331,7 @@ public abstract class StringX {
 			case 1:
 				return String.valueOf(getter.apply(c.iterator().next()));
 			default:
-				return doJoinAppend(null, c, size, (sb, t) -> append(sb, getter.apply(t)), delimiter, itemLength).toString();
+				return StringBuilderRecycler.toStringAndRelease(doJoinAppend(StringBuilderRecycler.acquire(0), c, size, (sb, t) -> append(sb, getter.apply(t)), delimiter, itemLength));
 		}
 	}
 
@@ -1326,7 +1368,18 @@ public abstract class StringX {
 			case 1:
 				return Long.toString(mapper.applyAsLong(c instanceof List ? ((List<T>) c).get(0) : c.iterator().next()));
 			default:
-				return doJoinAppend(null, c, size, (sb, t) -> sb.append(mapper.applyAsLong(t)), delimiter, itemLength).toString();
+				final Iterator<T> it = c.iterator();
+				final long first = mapper.applyAsLong(it.next());
+				if (itemLength <= 0) {
+					itemLength = Math.max(stringSize(first), 6);
+				}
+				// 如果 itemLength 恰好为每个元素的精确长度，则 toString() 时不会产生数组复制
+				final CompactStringBuilder sb = new CompactStringBuilder(size * (itemLength + delimiter.length()) - delimiter.length());
+				sb.append(first);
+				while (it.hasNext()) {
+					sb.append(delimiter).append(mapper.applyAsLong(it.next()));
+				}
+				return sb.toString();
 		}
 	}
 
@@ -1423,7 +1476,44 @@ public abstract class StringX {
 	 * @param isString 指示元素是否以字符串形式参与InSQL语句。如果为true，将会在每个元素两侧加上单引号"'"
 	 */
 	public static String getInSQL(Collection<?> items, boolean isInclude, boolean isString) {
-		return getInSQL(null, items, isInclude, isString).toString();
+		final String delimiter = isString ? "', '" : ", ";
+		final int length = exactJoinLength(items, delimiter.length());
+		if (length < 0) {
+			return getInSQLByRecycledBuilder(items, isInclude, isString);
+		}
+		final String prefix = isInclude ? " IN (" : " NOT IN (";
+		final CompactStringBuilder sb = new CompactStringBuilder(prefix.length() + length + (isString ? 3 : 1));
+		sb.append(prefix);
+		if (isString) {
+			sb.append('\'');
+		}
+		final Iterator<?> it = items.iterator();
+		sb.append(it.next());
+		while (it.hasNext()) {
+			sb.append(delimiter).append(it.next());
+		}
+		return sb.append(isString ? "')" : ")").toString();
+	}
+
+	/**
+	 * 如果集合中的元素全部为 {@link Integer} 或 {@link Long}，则返回使用指定长度的分隔符拼接后的精确字符数
+	 *
+	 * @return 如果集合为空，或者存在其他类型的元素，则返回 -1
+	 */
+	static int exactJoinLength(@Nullable Collection<?> items, int delimiterLength) {
+		final int size = X.size(items);
+		if (size == 0) {
+			return -1;
+		}
+		int length = (size - 1) * delimiterLength;
+		for (Object item : items) {
+			if (item instanceof Integer || item instanceof Long) {
+				length += stringSize(((Number) item).longValue());
+			} else {
+				return -1;
+			}
+		}
+		return length;
 	}
 
 	/**
@@ -1435,7 +1525,16 @@ public abstract class StringX {
 	 * @param isString 指示元素是否以字符串形式参与InSQL语句。如果为true，将会在每个元素两侧加上单引号"'"
 	 */
 	public static String getInSQL(Collection<?> items, boolean isString) {
-		return getInSQL(null, items, true, isString).toString();
+		return getInSQL(items, true, isString);
+	}
+
+	static String getInSQLByRecycledBuilder(Collection<?> items, boolean isInclude, boolean isString) {
+		final int size = X.size(items);
+		if (size == 0) {
+			throw new IllegalArgumentException("Collection can not be empty:" + items);
+		}
+		final StringBuilder sb = StringBuilderRecycler.acquire(size * (isString ? 10 : 8) + 8);
+		return StringBuilderRecycler.toStringAndRelease(getInSQL(sb, items, isInclude, isString));
 	}
 
 	/**
@@ -1475,7 +1574,12 @@ public abstract class StringX {
 	 * @param isString 指示元素是否以字符串形式参与InSQL语句。如果为true，将会在每个元素两侧加上单引号"'"
 	 */
 	public static String getInSQL(Object[] items, boolean isInclude, boolean isString) {
-		return getInSQL(null, items, isInclude, isString).toString();
+		final int length = items == null ? 0 : items.length;
+		if (length == 0) {
+			throw new IllegalArgumentException("Array can not be empty");
+		}
+		final StringBuilder sb = StringBuilderRecycler.acquire(length * (isString ? 10 : 8) + 8);
+		return StringBuilderRecycler.toStringAndRelease(getInSQL(sb, items, isInclude, isString));
 	}
 
 	/**
@@ -1487,7 +1591,7 @@ public abstract class StringX {
 	 * @param isString 指示元素是否以字符串形式参与InSQL语句。如果为 true，将会在每个元素两侧加上单引号"'"
 	 */
 	public static String getInSQL(Object[] items, boolean isString) {
-		return getInSQL(null, items, true, isString).toString();
+		return getInSQL(items, true, isString);
 	}
 
 	/**
@@ -1684,6 +1788,130 @@ public abstract class StringX {
 		return split(parts, sep, Slice.mapLongTo(mapper));
 	}
 
+	/**
+	 * 将以指定分隔字符拆分字符串，并将每个部分直接解析为 int 数值后传递给指定的回调（空的片段将会被忽略）
+	 * <p> 解析过程中不会产生中间子字符串，也不会产生装箱对象
+	 *
+	 * @param consumer 接收每个 int 数值的回调
+	 * @return 解析出的数值个数
+	 * @throws NumberFormatException 如果某个片段不是有效的整数
+	 * @since 4.3.3
+	 */
+	public static int splitAsInt(@Nullable final String values, final char sep, final IntConsumer consumer) {
+		final int length = length(values);
+		int count = 0, pos, start = 0;
+		while (start < length) {
+			if ((pos = values.indexOf(sep, start)) == -1) {
+				pos = length;
+			}
+			if (pos > start) {
+				consumer.accept(JavaHelper.parseInt(values, start, pos));
+				count++;
+			}
+			start = pos + 1;
+		}
+		return count;
+	}
+
+	/**
+	 * 将以指定分隔字符拆分字符串，并将每个部分直接解析为 long 数值后传递给指定的回调（空的片段将会被忽略）
+	 * <p> 解析过程中不会产生中间子字符串，也不会产生装箱对象
+	 *
+	 * @param consumer 接收每个 long 数值的回调
+	 * @return 解析出的数值个数
+	 * @throws NumberFormatException 如果某个片段不是有效的整数
+	 * @since 4.3.3
+	 */
+	public static int splitAsLong(@Nullable final String values, final char sep, final LongConsumer consumer) {
+		final int length = length(values);
+		int count = 0, pos, start = 0;
+		while (start < length) {
+			if ((pos = values.indexOf(sep, start)) == -1) {
+				pos = length;
+			}
+			if (pos > start) {
+				consumer.accept(JavaHelper.parseLong(values, start, pos));
+				count++;
+			}
+			start = pos + 1;
+		}
+		return count;
+	}
+
+	/**
+	 * 将以指定分隔字符拆分字符串，并将每个部分转换为 int 数值（空的片段将会被忽略）
+	 *
+	 * @return 如果没有任何非空的片段，则返回空数组
+	 * @throws NumberFormatException 如果某个片段不是有效的整数
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static int[] splitAsIntArray(@Nullable final String values, final char sep) {
+		final int length = length(values);
+		if (length == 0) {
+			return ArrayUtils.EMPTY_INT_ARRAY;
+		}
+		final int[] array = new int[splitCount(values, sep)];
+		int count = 0, pos, start = 0;
+		while (start < length) {
+			if ((pos = values.indexOf(sep, start)) == -1) {
+				pos = length;
+			}
+			if (pos > start) {
+				array[count++] = JavaHelper.parseInt(values, start, pos);
+			}
+			start = pos + 1;
+		}
+		return count == 0 ? ArrayUtils.EMPTY_INT_ARRAY : count == array.length ? array : Arrays.copyOf(array, count);
+	}
+
+	/**
+	 * 将以指定分隔字符 ',' 拆分字符串，并将每个部分转换为 int 数值（空的片段将会被忽略）
+	 *
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static int[] splitAsIntArray(@Nullable final String values) {
+		return splitAsIntArray(values, ',');
+	}
+
+	/**
+	 * 将以指定分隔字符拆分字符串，并将每个部分转换为 long 数值（空的片段将会被忽略）
+	 *
+	 * @return 如果没有任何非空的片段，则返回空数组
+	 * @throws NumberFormatException 如果某个片段不是有效的整数
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static long[] splitAsLongArray(@Nullable final String values, final char sep) {
+		final int length = length(values);
+		if (length == 0) {
+			return ArrayUtils.EMPTY_LONG_ARRAY;
+		}
+		final long[] array = new long[splitCount(values, sep)];
+		int count = 0, pos, start = 0;
+		while (start < length) {
+			if ((pos = values.indexOf(sep, start)) == -1) {
+				pos = length;
+			}
+			if (pos > start) {
+				array[count++] = JavaHelper.parseLong(values, start, pos);
+			}
+			start = pos + 1;
+		}
+		return count == 0 ? ArrayUtils.EMPTY_LONG_ARRAY : count == array.length ? array : Arrays.copyOf(array, count);
+	}
+
+	/**
+	 * 将以指定分隔字符 ',' 拆分字符串，并将每个部分转换为 long 数值（空的片段将会被忽略）
+	 *
+	 * @since 4.3.3
+	 */
+	@NonNull
+	public static long[] splitAsLongArray(@Nullable final String values) {
+		return splitAsLongArray(values, ',');
+	}
+
 	/**
 	 * 将以指定分隔字符 ',' 分隔字符串，并返回拆分后的子字符串集合（子字符串为空的将会被忽略）
 	 */
@@ -1,23 +1,72 @@
 package me.codeplayer.util;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * 基于时间间隔进行数据更新的缓存数据加载器
+ * <p> 默认情况下，缓存过期后，调用 {@link #get()} 的线程会阻塞等待数据重新加载完毕。
+ * 如果通过 {@link #refreshAhead(Executor, long)} 开启了 <b>异步预刷新</b> 模式，则缓存在 软过期 与 硬过期 之间时，
+ * 将继续返回旧值，同时最多只会有一个后台任务在指定的 {@link Executor} 中重新加载数据。
  *
  * @since 2017-1-10
  * @since 2.0
  */
 public class TimeBasedCacheLoader<E> extends LazyCacheLoader<E> {
 
+	static final Logger LOGGER = LoggerFactory.getLogger(TimeBasedCacheLoader.class);
+	@SuppressWarnings("rawtypes")
+	static final AtomicIntegerFieldUpdater<TimeBasedCacheLoader> REFRESHING = AtomicIntegerFieldUpdater.newUpdater(TimeBasedCacheLoader.class, "refreshing");
+
+	/** 软过期的时间间隔（毫秒） */
 	protected long internal;
 	protected transient volatile long nextUpdateTime;
+	/** 用于执行异步预刷新的执行器，为 null 表示未开启异步预刷新 */
+	@Nullable
+	protected Executor refreshExecutor;
+	/** 硬过期的时间间隔（毫秒），超过该时间后必须阻塞等待重新加载；为 0 表示没有硬过期限制 */
+	protected long hardInternal;
+	protected transient volatile long expireTime;
+	/** 是否正在进行异步预刷新：1 = 是，0 = 否 */
+	transient volatile int refreshing;
 
 	public TimeBasedCacheLoader(final long internal, final Supplier<E> loader) {
 		super(loader);
 		this.internal = internal;
 	}
 
+	/**
+	 * 开启异步预刷新模式
+	 * <p> 缓存软过期（超过构造时指定的时间间隔）后，仍然返回旧值，并在指定的执行器中异步重新加载数据；
+	 * 缓存硬过期后，调用线程仍将阻塞等待重新加载。异步加载失败时，将保留旧值，并在下次调用时重试。
+	 *
+	 * @param executor 执行异步刷新任务的执行器
+	 * @param hardInternal 硬过期的时间间隔（毫秒），必须大于等于软过期的时间间隔；如果为 0，则表示永不硬过期
+	 */
+	public TimeBasedCacheLoader<E> refreshAhead(Executor executor, long hardInternal) {
+		Assert.isTrue(hardInternal == 0 || hardInternal >= internal, "hardInternal must be 0 or not less than internal");
+		this.refreshExecutor = Assert.notNull(executor);
+		this.hardInternal = hardInternal;
+		return this;
+	}
+
+	@Override
+	public TimeBasedCacheLoader<E> recordStats(@Nullable CacheStatsRecorder recorder) {
+		super.recordStats(recorder);
+		return this;
+	}
+
+	@Override
+	public TimeBasedCacheLoader<E> recordStats() {
+		return recordStats(new CacheStatsRecorder());
+	}
+
 	@Override
 	public boolean flushRequired() {
 		return flushRequired(value, System.currentTimeMillis());
@@ -27,13 +76,23 @@ public class TimeBasedCacheLoader<E> extends LazyCacheLoader<E> {
 		return isUninitialized(val) || nextUpdateTime == 0 || internal > 0 && nextUpdateTime < baseTime;
 	}
 
+	/**
+	 * 判断当前缓存是否可以在异步刷新期间继续返回旧值
+	 */
+	protected boolean staleAllowed(Object val, long baseTime) {
+		return refreshExecutor != null && !isUninitialized(val) && nextUpdateTime != 0
+				&& (hardInternal == 0 || expireTime >= baseTime);
+	}
+
 	public E flush(boolean lazy) {
 		final E val;
 		if (lazy) {
 			nextUpdateTime = 0;
 			val = null;
 		} else {
-			value = val = load(System.currentTimeMillis());
+			synchronized (this) {
+				val = load(System.currentTimeMillis());
+			}
 		}
 		return val;
 	}
@@ -41,22 +100,66 @@ public class TimeBasedCacheLoader<E> extends LazyCacheLoader<E> {
 	@SuppressWarnings("unchecked")
 	public E get() {
 		final long now = System.currentTimeMillis();
+		final CacheStatsRecorder recorder = statsRecorder;
 		Object val = value;
 		if (flushRequired(val, now)) {
-			synchronized (this) {
-				if (flushRequired(val = value, now)) {
-					return load(now);
+			if (staleAllowed(val, now)) {
+				refreshAsync();
+			} else {
+				synchronized (this) {
+					if (flushRequired(val = value, now)) {
+						if (recorder != null) {
+							recorder.recordMiss();
+						}
+						return load(now);
+					}
 				}
 			}
 		}
+		if (recorder != null) {
+			recorder.recordHit();
+		}
 		return (E) val;
 	}
 
+	/**
+	 * 提交一个异步刷新任务。如果已有刷新任务正在执行，则直接忽略
+	 * <p> 异步刷新与同步加载持有同一个锁，因此不会并发执行，也就不会出现 较早加载的旧值 覆盖 较晚加载的新值 的情况
+	 */
+	protected void refreshAsync() {
+		if (REFRESHING.compareAndSet(this, 0, 1)) {
+			try {
+				refreshExecutor.execute(() -> {
+					try {
+						synchronized (this) {
+							final long now = System.currentTimeMillis();
+							if (flushRequired(value, now)) { // 等待锁期间，可能已被同步加载
+								load(now);
+							}
+						}
+					} catch (RuntimeException e) {
+						// 保留旧值，下次调用时重试
+						LOGGER.warn("Failed to refresh the cached value asynchronously, the stale value will be kept", e);
+					} finally {
+						refreshing = 0;
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				refreshing = 0;
+			}
+		}
+	}
+
+	/**
+	 * 加载数据并更新缓存，调用方必须持有当前对象的锁
+	 */
 	protected E load(final long now) {
-		final E val = loader.get();
-		value = val;
+		final E val = CacheStatsRecorder.load(statsRecorder, loader);
+		// 先写入时间戳，再发布新值：读取到新值的线程一定也能看到对应的时间戳，从而不会再次触发刷新
+		expireTime = now + hardInternal;
 		nextUpdateTime = now + internal;
+		value = val;
 		return val;
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,207 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+import java.util.TimeZone;
+
+import static java.util.Calendar.*;
+
+/**
+ * 按照指定的时间单位（小时、天、周、月 等）划分的连续时间分桶（不可变、线程安全）
+ * <p> 第 i 个分桶的时间范围为 <code>[boundaries[i], boundaries[i + 1])</code>，各个分桶的边界都对齐到指定时区的本地时间（例如：每天的 00:00:00.000）。
+ * <p> 构造时一次性计算出所有的分桶边界，之后通过 {@link #bucketIndex(long)} 查找某个时间所在的分桶时不会产生任何内存分配：
+ * 如果所有分桶的时长都相同（例如：按小时分桶，或者在没有夏令时的时区按天分桶），则直接通过算术运算得出下标，否则使用二分查找。
+ *
+ * <pre><code>
+ * TimeBuckets buckets = TimeBuckets.of(start, end, Calendar.DATE, timeZone);
+ * int[] counts = buckets.count(eventTimes);
+ * </code></pre>
+ *
+ * @see EpochDate#beginOf(int)
+ * @since 4.3.3
+ */
+public final class TimeBuckets {
+
+	/** 分桶的时间单位 */
+	final int field;
+	final TimeZone timeZone;
+	/** 所有分桶的边界，长度为 分桶个数 + 1 */
+	final long[] boundaries;
+	/** 如果每个分桶的时长都相同，则为该时长（毫秒数），否则为 0 */
+	final long fixedStep;
+
+	TimeBuckets(int field, TimeZone timeZone, long[] boundaries) {
+		this.field = field;
+		this.timeZone = timeZone;
+		this.boundaries = boundaries;
+		final long step = boundaries[1] - boundaries[0];
+		for (int i = 2; i < boundaries.length; i++) {
+			if (boundaries[i] - boundaries[i - 1] != step) {
+				this.fixedStep = 0;
+				return;
+			}
+		}
+		this.fixedStep = step;
+	}
+
+	/**
+	 * 构造覆盖指定时间范围的分桶
+	 *
+	 * @param start 开始时间（包含），第一个分桶的起始边界为该时间在指定单位范围内的最小值
+	 * @param end 结束时间（包含），最后一个分桶的结束边界为该时间之后的下一个边界
+	 * @param field 分桶的时间单位，支持：{@link java.util.Calendar#YEAR}、{@link java.util.Calendar#MONTH}、{@link java.util.Calendar#WEEK_OF_YEAR}（每周从星期一开始）、
+	 * {@link java.util.Calendar#DATE}、{@link java.util.Calendar#HOUR_OF_DAY}、{@link java.util.Calendar#MINUTE}、{@link java.util.Calendar#SECOND}
+	 * @param timeZone 用于对齐分桶边界的时区
+	 * @throws AssertException 如果 {@code start > end}
+	 * @throws IllegalArgumentException 如果不支持指定的时间单位，或者分桶个数过多
+	 */
+	public static TimeBuckets of(long start, long end, int field, TimeZone timeZone) {
+		return new TimeBuckets(field, timeZone, boundaries(start, end, field, timeZone));
+	}
+
+	/**
+	 * 计算覆盖指定时间范围的所有分桶边界
+	 *
+	 * @return 长度为 分桶个数 + 1 的升序数组，第 i 个分桶的时间范围为 <code>[boundaries[i], boundaries[i + 1])</code>
+	 * @see #of(long, long, int, TimeZone)
+	 */
+	public static long[] boundaries(long start, long end, int field, TimeZone timeZone) {
+		Assert.isTrue(start <= end, "start must be <= end");
+		Assert.notNull(timeZone);
+		final int beginField, addField, step;
+		final long minMillis; // 每个分桶的最小时长，用于估算分桶个数
+		switch (field) {
+			case YEAR:
+				beginField = addField = YEAR;
+				step = 1;
+				minMillis = 365 * EasyDate.MILLIS_OF_DAY - EasyDate.MILLIS_OF_HOUR;
+				break;
+			case MONTH:
+				beginField = addField = MONTH;
+				step = 1;
+				minMillis = 28 * EasyDate.MILLIS_OF_DAY - EasyDate.MILLIS_OF_HOUR;
+				break;
+			case WEEK_OF_YEAR:
+			case WEEK_OF_MONTH:
+			case DAY_OF_WEEK:
+				beginField = DAY_OF_WEEK;
+				addField = DATE;
+				step = 7;
+				minMillis = 7 * EasyDate.MILLIS_OF_DAY - EasyDate.MILLIS_OF_HOUR;
+				break;
+			case DATE:
+			case DAY_OF_YEAR:
+				beginField = addField = DATE;
+				step = 1;
+				minMillis = EasyDate.MILLIS_OF_DAY - EasyDate.MILLIS_OF_HOUR;
+				break;
+			case HOUR:
+			case HOUR_OF_DAY:
+			case MINUTE:
+			case SECOND:
+				beginField = addField = field;
+				step = 1;
+				minMillis = EasyDate.getMillisOfUnit(field);
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported field: " + field);
+		}
+		final long estimated = (end - start) / minMillis + 2;
+		if (estimated < 0 || estimated >= Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Too many buckets: " + estimated);
+		}
+		final EpochDate begin = EpochDate.of(start, timeZone).beginOf(beginField);
+		final LongList list = new LongList((int) estimated + 1);
+		long boundary = begin.time;
+		list.add(boundary);
+		// 每个边界都基于第一个边界重新计算，以免 月末 等情况下的日期调整产生累积误差
+		for (int i = 1; boundary <= end; i++) {
+			boundary = begin.add(addField, i * step).time;
+			list.add(boundary);
+		}
+		return list.toArray();
+	}
+
+	/**
+	 * 返回分桶的个数
+	 */
+	public int size() {
+		return boundaries.length - 1;
+	}
+
+	public int getField() {
+		return field;
+	}
+
+	public TimeZone getTimeZone() {
+		return timeZone;
+	}
+
+	/**
+	 * 返回指定分桶的起始时间（包含）
+	 */
+	public long startOf(int index) {
+		checkIndex(index);
+		return boundaries[index];
+	}
+
+	/**
+	 * 返回指定分桶的结束时间（不包含）
+	 */
+	public long endOf(int index) {
+		checkIndex(index);
+		return boundaries[index + 1];
+	}
+
+	/**
+	 * 返回所有分桶边界的副本
+	 */
+	public long[] getBoundaries() {
+		return boundaries.clone();
+	}
+
+	/**
+	 * 返回指定时间所在分桶的下标
+	 *
+	 * @return 如果指定时间不在任何分桶的范围内，则返回 -1
+	 */
+	public int bucketIndex(long epochMillis) {
+		final long[] bs = boundaries;
+		if (epochMillis < bs[0] || epochMillis >= bs[bs.length - 1]) {
+			return -1;
+		}
+		if (fixedStep > 0) {
+			return (int) ((epochMillis - bs[0]) / fixedStep);
+		}
+		final int pos = Arrays.binarySearch(bs, epochMillis);
+		return pos >= 0 ? pos : -pos - 2; // 插入点的前一个位置
+	}
+
+	/**
+	 * 统计每个分桶内的时间个数（不在任何分桶范围内的时间将被忽略）
+	 *
+	 * @return 长度为 {@link #size()} 的数组，第 i 个元素即为第 i 个分桶内的时间个数
+	 */
+	public int[] count(long[] epochMillis) {
+		final int[] counts = new int[size()];
+		for (long time : epochMillis) {
+			final int index = bucketIndex(time);
+			if (index != -1) {
+				counts[index]++;
+			}
+		}
+		return counts;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= boundaries.length - 1) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TimeBuckets[field=" + field + ", size=" + size() + ", from=" + EpochDate.of(boundaries[0], timeZone)
+				+ ", to=" + EpochDate.of(boundaries[boundaries.length - 1], timeZone) + ']';
+	}
+
+}
@@ -0,0 +1,124 @@
+package me.codeplayer.util;
+
+/**
+ * 基于 Vector API（<code>jdk.incubator.vector</code> 模块）的向量化计算内核
+ * <p> 当前类是 JDK 8 的版本：不支持向量化，{@link #ENABLED} 恒为 false，调用方会直接使用自身的标量实现；当前类中的方法也只是普通的标量循环，其结果与向量化版本完全一致。
+ * <p> JDK 17+ 的版本位于 multi-release 目录 <code>src/main/java17</code> 中，只有在运行于 multi-release jar、并且启用了 <code>jdk.incubator.vector</code> 模块
+ * （JVM 参数：<code>--add-modules jdk.incubator.vector</code>）时才会生效。也可以通过系统属性 <code>-Dme.codeplayer.util.vector=false</code> 强制禁用。
+ * <p> 本类中的方法都不会检查参数，调用方必须确保索引范围有效，并且只在 {@link #ENABLED} 为 true、数据长度不小于 {@link #MIN_LENGTH} 时才调用。
+ *
+ * @since 4.3.3
+ */
+final class VectorKernels {
+
+	/** 是否启用了向量化计算（不能是编译期常量，否则会被内联到调用方，导致 multi-release 版本无法生效） */
+	static final boolean ENABLED = isEnabled();
+	/** 使用向量化计算的最小数据长度，低于该长度时标量实现更快（所有版本必须保持一致） */
+	static final int MIN_LENGTH = 32;
+
+	static boolean isEnabled() {
+		return false;
+	}
+
+	/**
+	 * 检查字节数组的指定范围内是否只包含 ASCII 字符
+	 *
+	 * @see JavaX#isASCII(byte[], int, int)
+	 */
+	static boolean isASCII(byte[] bytes, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (bytes[i] < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 将字节数组指定范围内的每个字节转为 2 个十六进制字符，并写入 {@code dest}（从索引 0 开始）
+	 *
+	 * @param table 长度至少为 16 的十六进制字符映射表【仅支持 Latin1 字符】
+	 */
+	static void toHex(byte[] bytes, int start, int end, byte[] table, byte[] dest) {
+		for (int i = start, pos = 0; i < end; i++) {
+			dest[pos++] = table[bytes[i] >> 4 & 0xF];
+			dest[pos++] = table[bytes[i] & 0xF];
+		}
+	}
+
+	/**
+	 * 将字节数组指定范围内的每个字节转为 2 个十六进制字符，并写入 {@code dest}（从索引 0 开始）
+	 *
+	 * @param table 长度至少为 16 的十六进制字符映射表【仅支持 Latin1 字符】
+	 */
+	static void toHex(byte[] bytes, int start, int end, char[] table, byte[] dest) {
+		for (int i = start, pos = 0; i < end; i++) {
+			dest[pos++] = (byte) table[bytes[i] >> 4 & 0xF];
+			dest[pos++] = (byte) table[bytes[i] & 0xF];
+		}
+	}
+
+	/**
+	 * 查找第一个（无符号值）位于 <code>[min, max]</code> 范围内（{@code inRange = true}）或范围外（{@code inRange = false}）的字节
+	 *
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 */
+	static int indexOfRange(byte[] a, int from, int to, int min, int max, boolean inRange) {
+		for (int i = from; i < to; i++) {
+			final int b = a[i] & 0xFF;
+			if ((b >= min && b <= max) == inRange) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 */
+	static int indexOf(byte[] a, int from, int to, byte value) {
+		for (int i = from; i < to; i++) {
+			if (a[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 */
+	static int indexOf(char[] a, int from, int to, char value) {
+		for (int i = from; i < to; i++) {
+			if (a[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 */
+	static int indexOf(int[] a, int from, int to, int value) {
+		for (int i = from; i < to; i++) {
+			if (a[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return 对应的索引，如果不存在，则返回 -1
+	 */
+	static int indexOf(long[] a, int from, int to, long value) {
+		for (int i = from; i < to; i++) {
+			if (a[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,265 @@
+package me.codeplayer.util;
+
+import jdk.incubator.vector.*;
+
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * 基于 Vector API（<code>jdk.incubator.vector</code> 模块）的向量化计算内核（JDK 17+ 的版本）
+ * <p> 只有在启用了 <code>jdk.incubator.vector</code> 模块（JVM 参数：<code>--add-modules jdk.incubator.vector</code>）、
+ * 并且当前平台首选的字节向量至少包含 16 个通道时，{@link #ENABLED} 才为 true；否则调用方会直接使用自身的标量实现。
+ * 也可以通过系统属性 <code>-Dme.codeplayer.util.vector=false</code> 强制禁用。
+ * <p> 所有引用 Vector API 的代码都位于内部类 {@link Kernels} 中，以确保在未启用该模块时，当前类仍然可以正常加载。
+ * <p> 本类中的方法都不会检查参数，调用方必须确保索引范围有效，并且只在 {@link #ENABLED} 为 true、数据长度不小于 {@link #MIN_LENGTH} 时才调用。
+ *
+ * @since 4.3.3
+ */
+final class VectorKernels {
+
+	/** 是否启用了向量化计算（不能是编译期常量，否则会被内联到调用方，导致 multi-release 版本无法生效） */
+	static final boolean ENABLED = isEnabled();
+	/** 使用向量化计算的最小数据长度，低于该长度时标量实现更快（所有版本必须保持一致） */
+	static final int MIN_LENGTH = 32;
+
+	static boolean isEnabled() {
+		if (!Boolean.parseBoolean(System.getProperty("me.codeplayer.util.vector", "true"))) {
+			return false;
+		}
+		try {
+			return Kernels.BYTE.length() >= 16;
+		} catch (Throwable e) { // 未启用 jdk.incubator.vector 模块时，将抛出 NoClassDefFoundError
+			return false;
+		}
+	}
+
+	static boolean isASCII(byte[] bytes, int start, int end) {
+		return Kernels.isASCII(bytes, start, end);
+	}
+
+	static void toHex(byte[] bytes, int start, int end, byte[] table, byte[] dest) {
+		Kernels.toHex(bytes, start, end, Kernels.lanesOf(table), dest);
+	}
+
+	static void toHex(byte[] bytes, int start, int end, char[] table, byte[] dest) {
+		Kernels.toHex(bytes, start, end, Kernels.lanesOf(table), dest);
+	}
+
+	static int indexOfRange(byte[] a, int from, int to, int min, int max, boolean inRange) {
+		return Kernels.indexOfRange(a, from, to, min, max, inRange);
+	}
+
+	static int indexOf(byte[] a, int from, int to, byte value) {
+		return Kernels.indexOf(a, from, to, value);
+	}
+
+	static int indexOf(char[] a, int from, int to, char value) {
+		return Kernels.indexOf(a, from, to, value);
+	}
+
+	static int indexOf(int[] a, int from, int to, int value) {
+		return Kernels.indexOf(a, from, to, value);
+	}
+
+	static int indexOf(long[] a, int from, int to, long value) {
+		return Kernels.indexOf(a, from, to, value);
+	}
+
+	static final class Kernels {
+
+		static final VectorSpecies<Byte> BYTE = ByteVector.SPECIES_PREFERRED;
+		static final VectorSpecies<Short> SHORT = ShortVector.SPECIES_PREFERRED;
+		static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+		static final VectorSpecies<Long> LONG = LongVector.SPECIES_PREFERRED;
+		/** 将高 4 位和低 4 位对应的十六进制字符交错排列（分别用于输出的前半部分和后半部分） */
+		static final VectorShuffle<Byte> INTERLEAVE_FIRST = interleave(0), INTERLEAVE_SECOND = interleave(BYTE.length() >> 1);
+		/** 预先计算好的 小写、大写 十六进制字符的通道表（第 i 个通道为第 {@code i & 0xF} 个字符），以免每次调用都重新构建 */
+		static final byte[] LOWER_HEX_LANES = buildLanes("0123456789abcdef".toCharArray()), UPPER_HEX_LANES = buildLanes("0123456789ABCDEF".toCharArray());
+
+		/**
+		 * 对于 <code>a.rearrange(shuffle, b)</code>，第 2n 个通道取自 <code>a</code> 的第 {@code offset + n} 个通道，第 2n + 1 个通道取自 <code>b</code> 的第 {@code offset + n} 个通道
+		 */
+		static VectorShuffle<Byte> interleave(int offset) {
+			final int length = BYTE.length();
+			final int[] indexes = new int[length];
+			for (int i = 0; i < length; i++) {
+				final int source = offset + (i >> 1);
+				indexes[i] = (i & 1) == 0 ? source : source - length; // 负数索引表示取自第二个向量
+			}
+			return VectorShuffle.fromArray(BYTE, indexes, 0);
+		}
+
+		/**
+		 * 返回指定映射表（只使用前 16 个字符）对应的通道表：如果与预先计算好的 小写 或 大写 通道表一致，则直接返回它，否则才构建新的通道表
+		 */
+		static byte[] lanesOf(byte[] table) {
+			if (matches(LOWER_HEX_LANES, table)) {
+				return LOWER_HEX_LANES;
+			}
+			if (matches(UPPER_HEX_LANES, table)) {
+				return UPPER_HEX_LANES;
+			}
+			final byte[] lanes = new byte[BYTE.length()];
+			for (int i = 0; i < lanes.length; i++) {
+				lanes[i] = table[i & 0xF];
+			}
+			return lanes;
+		}
+
+		static byte[] lanesOf(char[] table) {
+			if (matches(LOWER_HEX_LANES, table)) {
+				return LOWER_HEX_LANES;
+			}
+			if (matches(UPPER_HEX_LANES, table)) {
+				return UPPER_HEX_LANES;
+			}
+			return buildLanes(table);
+		}
+
+		static byte[] buildLanes(char[] table) {
+			final byte[] lanes = new byte[BYTE.length()];
+			for (int i = 0; i < lanes.length; i++) {
+				lanes[i] = (byte) table[i & 0xF];
+			}
+			return lanes;
+		}
+
+		static boolean matches(byte[] lanes, byte[] table) {
+			for (int i = 0; i < 16; i++) {
+				if (lanes[i] != table[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static boolean matches(byte[] lanes, char[] table) {
+			for (int i = 0; i < 16; i++) {
+				if (lanes[i] != (byte) table[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static boolean isASCII(byte[] bytes, int start, int end) {
+			int i = start;
+			for (final int bound = start + BYTE.loopBound(end - start); i < bound; i += BYTE.length()) {
+				if (ByteVector.fromArray(BYTE, bytes, i).compare(LT, (byte) 0).anyTrue()) {
+					return false;
+				}
+			}
+			for (; i < end; i++) {
+				if (bytes[i] < 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static void toHex(byte[] bytes, int start, int end, byte[] lanes, byte[] dest) {
+			final int length = BYTE.length();
+			final ByteVector table = ByteVector.fromArray(BYTE, lanes, 0);
+			int i = start, pos = 0;
+			for (final int bound = start + BYTE.loopBound(end - start); i < bound; i += length) {
+				final ByteVector v = ByteVector.fromArray(BYTE, bytes, i);
+				final ByteVector high = v.lanewise(LSHR, 4).and((byte) 0xF).selectFrom(table);
+				final ByteVector low = v.and((byte) 0xF).selectFrom(table);
+				high.rearrange(INTERLEAVE_FIRST, low).intoArray(dest, pos);
+				high.rearrange(INTERLEAVE_SECOND, low).intoArray(dest, pos + length);
+				pos += length << 1;
+			}
+			for (; i < end; i++) {
+				dest[pos++] = lanes[bytes[i] >> 4 & 0xF];
+				dest[pos++] = lanes[bytes[i] & 0xF];
+			}
+		}
+
+		static int indexOfRange(byte[] a, int from, int to, int min, int max, boolean inRange) {
+			final byte offset = (byte) min, span = (byte) (max - min);
+			int i = from;
+			for (final int bound = from + BYTE.loopBound(to - from); i < bound; i += BYTE.length()) {
+				// 无符号比较：(b - min) <= (max - min)
+				VectorMask<Byte> m = ByteVector.fromArray(BYTE, a, i).sub(offset).compare(UNSIGNED_LE, span);
+				if (!inRange) {
+					m = m.not();
+				}
+				if (m.anyTrue()) {
+					return i + m.firstTrue();
+				}
+			}
+			for (; i < to; i++) {
+				final int b = a[i] & 0xFF;
+				if ((b >= min && b <= max) == inRange) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		static int indexOf(byte[] a, int from, int to, byte value) {
+			int i = from;
+			for (final int bound = from + BYTE.loopBound(to - from); i < bound; i += BYTE.length()) {
+				final VectorMask<Byte> m = ByteVector.fromArray(BYTE, a, i).compare(EQ, value);
+				if (m.anyTrue()) {
+					return i + m.firstTrue();
+				}
+			}
+			for (; i < to; i++) {
+				if (a[i] == value) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		static int indexOf(char[] a, int from, int to, char value) {
+			int i = from;
+			for (final int bound = from + SHORT.loopBound(to - from); i < bound; i += SHORT.length()) {
+				final VectorMask<Short> m = ShortVector.fromCharArray(SHORT, a, i).compare(EQ, (short) value);
+				if (m.anyTrue()) {
+					return i + m.firstTrue();
+				}
+			}
+			for (; i < to; i++) {
+				if (a[i] == value) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		static int indexOf(int[] a, int from, int to, int value) {
+			int i = from;
+			for (final int bound = from + INT.loopBound(to - from); i < bound; i += INT.length()) {
+				final VectorMask<Integer> m = IntVector.fromArray(INT, a, i).compare(EQ, value);
+				if (m.anyTrue()) {
+					return i + m.firstTrue();
+				}
+			}
+			for (; i < to; i++) {
+				if (a[i] == value) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		static int indexOf(long[] a, int from, int to, long value) {
+			int i = from;
+			for (final int bound = from + LONG.loopBound(to - from); i < bound; i += LONG.length()) {
+				final VectorMask<Long> m = LongVector.fromArray(LONG, a, i).compare(EQ, value);
+				if (m.anyTrue()) {
+					return i + m.firstTrue();
+				}
+			}
+			for (; i < to; i++) {
+				if (a[i] == value) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+	}
+
+}
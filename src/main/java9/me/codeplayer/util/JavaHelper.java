@@ -38,6 +38,10 @@ public class JavaHelper {
 			throw new ArrayIndexOutOfBoundsException(end);
 		}
 		final byte[] chars = new byte[length << 1];
+		if (VectorKernels.ENABLED && length >= VectorKernels.MIN_LENGTH) {
+			VectorKernels.toHex(bytes, start, end, charTable, chars);
+			return JavaX.STRING_CREATOR_JDK11.apply(chars, JavaX.LATIN1);
+		}
 		int c = 0;
 		for (int i = start; i < end; i++) {
 			chars[c++] = (byte) charTable[bytes[i] >> 4 & 0xf];
@@ -64,6 +68,10 @@ public class JavaHelper {
 			throw new ArrayIndexOutOfBoundsException(end);
 		}
 		final byte[] chars = new byte[length << 1];
+		if (VectorKernels.ENABLED && length >= VectorKernels.MIN_LENGTH) {
+			VectorKernels.toHex(bytes, start, end, charTable, chars);
+			return JavaX.STRING_CREATOR_JDK11.apply(chars, JavaX.LATIN1);
+		}
 		int c = 0;
 		for (int i = start; i < end; i++) {
 			chars[c++] = charTable[bytes[i] >> 4 & 0xf];
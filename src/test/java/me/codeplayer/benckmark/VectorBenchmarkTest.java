@@ -0,0 +1,131 @@
+package me.codeplayer.benckmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import me.codeplayer.util.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * 对比 Vector API 向量化实现（JDK 17+，<code>src/main/java17</code>）与标量实现的性能。
+ * <p> 【注意】：multi-release 只对 jar 生效，因此需要先执行 <code>mvn package</code>，并将生成的 jar 放在 classpath 中 <code>target/classes</code> 之前，再运行本测试；
+ * 否则两组测试都将使用标量实现。名称以 <code>Scalar</code> 结尾的方法通过 <code>-Dme.codeplayer.util.vector=false</code> 强制使用标量实现。
+ */
+@SuppressWarnings("UnusedReturnValue")
+@BenchmarkMode(Mode.Throughput) // 测试类型：吞吐量
+@Threads(1) // 每个进程中的测试线程数
+@Warmup(iterations = 3) // 预热 3 轮（ 每轮默认执行 10s ）
+@Measurement(iterations = 3) // 度量 3 轮（ 每轮默认执行 10s ）
+@Fork(value = 1, jvmArgsAppend = VectorBenchmarkTest.VECTOR)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS) // 统计结果的时间单位
+public class VectorBenchmarkTest {
+
+	static final String VECTOR = "--add-modules=jdk.incubator.vector";
+	static final String SCALAR = "-Dme.codeplayer.util.vector=false";
+
+	public static void main(String[] args) throws RunnerException {
+		// 启动基准测试
+		BenchmarkTest.startBenchmark(VectorBenchmarkTest.class);
+	}
+
+	@Param({ "64", "4096" })
+	int size;
+
+	byte[] bytes;
+	String blank, digits;
+	int[] ints;
+	long[] longs;
+	char[] chars;
+
+	@Setup
+	public void setup() {
+		final Random random = new Random(1);
+		bytes = new byte[size];
+		random.nextBytes(bytes);
+		final char[] spaces = new char[size];
+		Arrays.fill(spaces, ' ');
+		spaces[size - 1] = 'x';
+		blank = new String(spaces);
+		final char[] numbers = new char[size];
+		for (int i = 0; i < size; i++) {
+			numbers[i] = (char) ('0' + random.nextInt(10));
+		}
+		digits = new String(numbers);
+		ints = new int[size];
+		longs = new long[size];
+		chars = new char[size];
+		ints[size - 1] = 1;
+		longs[size - 1] = 1;
+		chars[size - 1] = 1;
+	}
+
+	@Benchmark
+	public String toHexString() {
+		return StringX.toHexString(bytes);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+	public String toHexStringScalar() {
+		return StringX.toHexString(bytes);
+	}
+
+	@Benchmark
+	public boolean isBlank() {
+		return StringX.isBlank(blank);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+	public boolean isBlankScalar() {
+		return StringX.isBlank(blank);
+	}
+
+	@Benchmark
+	public boolean isNumeric() {
+		return NumberX.isNumeric(digits);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+	public boolean isNumericScalar() {
+		return NumberX.isNumeric(digits);
+	}
+
+	@Benchmark
+	public int indexOfInt() {
+		return ArrayX.indexOf(ints, 0, size, 1);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+	public int indexOfIntScalar() {
+		return ArrayX.indexOf(ints, 0, size, 1);
+	}
+
+	@Benchmark
+	public int indexOfLong() {
+		return ArrayX.indexOf(longs, 0, size, 1L);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+	public int indexOfLongScalar() {
+		return ArrayX.indexOf(longs, 0, size, 1L);
+	}
+
+	@Benchmark
+	public int indexOfChar() {
+		return ArrayX.indexOf(chars, 0, size, (char) 1);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+	public int indexOfCharScalar() {
+		return ArrayX.indexOf(chars, 0, size, (char) 1);
+	}
+
+}
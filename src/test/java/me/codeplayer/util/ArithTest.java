@@ -1,6 +1,8 @@
 package me.codeplayer.util;
 
 import java.math.*;
+import java.util.*;
+import java.util.function.Function;
 
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
@@ -665,4 +667,190 @@ public class ArithTest implements WithAssertions {
 		assertSame(Arith.HUNDRED_MILLION, Arith.toBigDecimal(10000_0000.0));
 	}
 
+	@Test
+	public void compactScaleOf() {
+		final Random random = new Random(1);
+		for (int i = 0; i < 100_000; i++) {
+			final double val;
+			switch (i % 4) {
+				case 0:
+					val = random.nextInt(100_000_000) / Math.pow(10, random.nextInt(10));
+					break;
+				case 1:
+					val = -random.nextInt(1_000_000) / 100.0;
+					break;
+				case 2:
+					val = random.nextDouble() * 1000;
+					break;
+				default:
+					val = Double.longBitsToDouble(random.nextLong());
+			}
+			final int scale = Arith.compactScaleOf(val);
+			if (scale >= 0) {
+				assertThat(BigDecimal.valueOf(Arith.unscaledOf(val, scale), scale)).as("%s", val).isEqualTo(Arith.toBigDecimal(val));
+			}
+		}
+		assertThat(Arith.compactScaleOf(0.1)).isEqualTo(1);
+		assertThat(Arith.compactScaleOf(-12.345)).isEqualTo(3);
+		assertThat(Arith.compactScaleOf(100.0)).isEqualTo(0);
+		assertThat(Arith.compactScaleOf(1e-5)).isEqualTo(-1); // 科学计数法
+		assertThat(Arith.compactScaleOf(Double.NaN)).isEqualTo(-1);
+		assertThat(Arith.compactScaleOf(Double.POSITIVE_INFINITY)).isEqualTo(-1);
+	}
+
+	@Test
+	public void accumulator() {
+		final Arith acc = Arith.accumulator();
+		assertThat(acc.isAccumulator()).isTrue();
+		assertThat(new Arith().isAccumulator()).isFalse();
+		assertThat(acc.add(212.454).add(1245.23).multiply(12.45).toBigDecimal()).isEqualTo(new Arith(false).add(212.454).add(1245.23).multiply(12.45).toBigDecimal());
+		assertThat(acc.reset().add(10).divide(3, 2, RoundingMode.HALF_UP)).hasToString("3.33");
+		assertThat(acc.reset().toBigDecimal()).isEqualTo(BigDecimal.ZERO);
+		// 溢出后自动转换为 BigDecimal，数值缩小后又恢复为紧凑形式
+		acc.add(Long.MAX_VALUE).add(Long.MAX_VALUE);
+		assertThat(acc.toBigDecimal()).isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2)));
+		assertThat(acc.minus(Long.MAX_VALUE).minus(0.5).add(new BigDecimal("0.25"))).hasToString(Long.MAX_VALUE - 1 + ".75");
+		assertThatThrownBy(() -> acc.divide(0L, 2, RoundingMode.HALF_UP)).isInstanceOf(ArithmeticException.class);
+		assertThatThrownBy(() -> acc.divide(3L, 0, RoundingMode.UNNECESSARY)).isInstanceOf(ArithmeticException.class);
+		assertThat(acc).hasToString(Long.MAX_VALUE - 1 + ".75");
+
+		final Random random = new Random(1);
+		final RoundingMode[] modes = { RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN };
+		for (int i = 0; i < 20_000; i++) {
+			final Arith expected = new Arith();
+			acc.reset();
+			for (int step = 0; step < 8; step++) {
+				final double d = random.nextInt(4) == 0 ? random.nextInt(1000) : random.nextInt(2_000_000) / 1000.0 - 1000;
+				final long n = random.nextInt(3) == 0 ? random.nextLong() >> random.nextInt(64) : random.nextInt(200) - 100;
+				final RoundingMode mode = modes[random.nextInt(modes.length)];
+				final int scale = random.nextInt(6);
+				switch (random.nextInt(10)) {
+					case 0:
+						expected.add(d);
+						acc.add(d);
+						break;
+					case 1:
+						expected.add(n);
+						acc.add(n);
+						break;
+					case 2:
+						expected.minus(d);
+						acc.minus(d);
+						break;
+					case 3:
+						expected.minus(n);
+						acc.minus(n);
+						break;
+					case 4:
+						expected.multiply(d);
+						acc.multiply(d);
+						break;
+					case 5:
+						expected.multiply(n);
+						acc.multiply(n);
+						break;
+					case 6:
+						if (d != 0) {
+							expected.divide(d, scale, mode);
+							acc.divide(d, scale, mode);
+						}
+						break;
+					case 7:
+						if (n != 0) {
+							expected.divide(n, scale, mode);
+							acc.divide(n, scale, mode);
+						}
+						break;
+					case 8:
+						expected.setScale(scale, mode);
+						acc.setScale(scale, mode);
+						break;
+					default:
+						expected.add(BigDecimal.valueOf(n, scale));
+						acc.add(BigDecimal.valueOf(n, scale));
+				}
+				assertThat(acc.toBigDecimal()).isEqualTo(expected.toBigDecimal());
+			}
+		}
+	}
+
+	@Test
+	public void bulkSum() {
+		final Random random = new Random(1);
+		final double[] values = new double[10_000];
+		final long[] unscaled = new long[values.length], weights = new long[values.length];
+		final double[] doubleWeights = new double[values.length];
+		final BigDecimal[] decimals = new BigDecimal[values.length];
+		for (int i = 0; i < values.length; i++) {
+			unscaled[i] = random.nextInt(2_000_000) - 1_000_000;
+			weights[i] = random.nextInt(100);
+			values[i] = i % 100 == 0 ? random.nextDouble() : unscaled[i] / 100.0;
+			doubleWeights[i] = weights[i];
+			decimals[i] = i % 10 == 0 ? null : BigDecimal.valueOf(unscaled[i], 2);
+		}
+		final Arith expected = new Arith();
+		BigDecimal exactSum = BigDecimal.ZERO, exactWeightedSum = BigDecimal.ZERO, decimalSum = BigDecimal.ZERO;
+		for (int i = 0; i < values.length; i++) {
+			expected.add(values[i]);
+			exactSum = exactSum.add(new BigDecimal(values[i]));
+			exactWeightedSum = exactWeightedSum.add(new BigDecimal(values[i]).multiply(new BigDecimal(doubleWeights[i])));
+			if (decimals[i] != null) {
+				decimalSum = decimalSum.add(decimals[i]);
+			}
+		}
+		final BigDecimal fixedSum = BigDecimal.valueOf(Arrays.stream(unscaled).sum(), 2);
+		BigDecimal fixedWeightedSum = BigDecimal.ZERO;
+		for (int i = 0; i < values.length; i++) {
+			fixedWeightedSum = fixedWeightedSum.add(BigDecimal.valueOf(unscaled[i] * weights[i], 2));
+		}
+		// 分别以 顺序 和 并行（阈值为 100） 的方式计算
+		for (int threshold : new int[] { Integer.MAX_VALUE, 100 }) {
+			assertThat(Arith.sum(values, threshold)).isEqualTo(exactSum.doubleValue());
+			assertThat(Arith.weightedSum(values, doubleWeights, threshold)).isEqualTo(exactWeightedSum.doubleValue());
+			assertThat(Arith.sumExact(values, threshold)).isEqualTo(expected.toBigDecimal());
+			assertThat(Arith.sum(unscaled, 2, threshold).toBigDecimal()).isEqualTo(fixedSum);
+			assertThat(Arith.weightedSum(unscaled, 2, weights, threshold).toBigDecimal()).isEqualTo(fixedWeightedSum);
+			assertThat(Arith.sum(Arrays.asList(decimals), Function.identity(), threshold)).isEqualTo(decimalSum);
+			assertThat(Arith.sum(new LinkedHashSet<>(Arrays.asList(unscaled[0], unscaled[1])), v -> BigDecimal.valueOf(v, 2), threshold))
+					.isEqualTo(BigDecimal.valueOf(unscaled[0] + unscaled[1], 2));
+		}
+		assertThat(Arith.average(values)).isCloseTo(exactSum.doubleValue() / values.length, within(1e-12));
+		assertThat(Arith.average(unscaled, 2, RoundingMode.HALF_UP).toBigDecimal()).isEqualTo(fixedSum.divide(BigDecimal.valueOf(values.length), 2, RoundingMode.HALF_UP));
+		assertThat(Arith.sum(decimals)).isEqualTo(decimalSum);
+		assertThat(Arith.average(decimals, 4, RoundingMode.HALF_EVEN)).isEqualTo(decimalSum.divide(BigDecimal.valueOf(values.length), 4, RoundingMode.HALF_EVEN));
+
+		final List<BigDecimal[]> items = Arrays.asList(new BigDecimal[] { new BigDecimal("12.5"), BigDecimal.valueOf(3) }, new BigDecimal[] { new BigDecimal("0.25"), null }, new BigDecimal[] { new BigDecimal("1.10"), BigDecimal.TEN });
+		assertThat(Arith.weightedSum(items, item -> item[0], item -> item[1])).isEqualTo(new BigDecimal("48.50"));
+		assertThat(Arith.average(items, item -> item[0], 2, RoundingMode.HALF_UP)).isEqualTo(new BigDecimal("4.62"));
+
+		// 补偿求和
+		assertThat(Arith.sum(new double[] { 1e100, 1.0, -1e100 })).isEqualTo(1.0);
+		assertThat(Arith.sum(new double[] { 0.1, 0.2, 0.3 })).isEqualTo(0.6);
+		assertThat(Arith.sum(new double[] { 1, Double.POSITIVE_INFINITY })).isEqualTo(Double.POSITIVE_INFINITY);
+		assertThat(Arith.sum(new double[0])).isZero();
+		assertThat(Arith.average(new double[0])).isNaN();
+		assertThat(Arith.sum(new long[] { Long.MAX_VALUE, Long.MAX_VALUE, -Long.MAX_VALUE }, 0)).isEqualTo(FixedDecimal.ofUnscaled(Long.MAX_VALUE, 0));
+		assertThatThrownBy(() -> Arith.average(new long[0], 2, RoundingMode.HALF_UP)).isInstanceOf(ArithmeticException.class);
+		assertThatThrownBy(() -> Arith.weightedSum(new double[1], new double[2])).isInstanceOf(AssertException.class);
+	}
+
+	@Test
+	public void bulkEven() {
+		final Random random = new Random(1);
+		final double[] values = new double[20_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i % 3 == 0 ? random.nextInt(2_000_000) / 1000.0 - 1000 : (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 4);
+		}
+		for (int scale : new int[] { 0, 1, 2, 5, 20, -1 }) {
+			for (int threshold : new int[] { Integer.MAX_VALUE, 100 }) {
+				final double[] rounded = Arith.even(values.clone(), scale, threshold);
+				for (int i = 0; i < values.length; i++) {
+					assertThat(rounded[i]).as("even(%s, %s)", values[i], scale).isEqualTo(Arith.even(values[i], scale));
+				}
+			}
+		}
+		final double[] array = { 2.5, -2.5, 0.125, 1.005, -0.0 };
+		assertThat(Arith.even(array, 2)).isSameAs(array).containsExactly(2.5, -2.5, 0.12, 1.0, 0.0);
+	}
+
 }
\ No newline at end of file
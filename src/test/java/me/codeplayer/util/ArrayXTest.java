@@ -971,4 +971,26 @@ public class ArrayXTest {
 		assertArrayEquals(new Integer[] { 2, 4, 6 }, result);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void indexOf() {
+		final int[] ints = new int[100];
+		final long[] longs = new long[100];
+		final byte[] bytes = new byte[100];
+		final char[] chars = new char[100];
+		for (int i = 0; i < 100; i++) {
+			ints[i] = i % 50;
+			longs[i] = bytes[i] = (byte) (chars[i] = (char) ints[i]);
+		}
+		assertEquals(7, ArrayX.indexOf(ints, 0, 100, 7));
+		assertEquals(57, ArrayX.indexOf(longs, 8, 100, 7L));
+		assertEquals(49, ArrayX.indexOf(bytes, 0, 100, (byte) 49));
+		assertEquals(-1, ArrayX.indexOf(chars, 58, 100, (char) 7));
+		assertEquals(-1, ArrayX.indexOf(ints, 0, 100, 50));
+		assertEquals(-1, ArrayX.indexOf(ints, 3, 3, 3));
+		assertTrue(ArrayX.in(3, 1, 2, 3));
+		assertFalse(ArrayX.in(3, (int[]) null));
+		assertThrows(IndexOutOfBoundsException.class, () -> ArrayX.indexOf(ints, 1, 101, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> ArrayX.indexOf(ints, 2, 1, 1));
+	}
+
+}
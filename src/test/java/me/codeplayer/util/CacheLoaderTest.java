@@ -1,5 +1,10 @@
 package me.codeplayer.util;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
@@ -46,4 +51,164 @@ public class CacheLoaderTest {
 		assertNotSame(prev, loader.get());
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void timeBasedCacheLoaderRefreshAhead() throws InterruptedException {
+		final AtomicInteger counter = new AtomicInteger();
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+		TimeBasedCacheLoader<Integer> loader = new TimeBasedCacheLoader<>(20, counter::incrementAndGet)
+				.refreshAhead(tasks::add, 200);
+
+		assertEquals(1, loader.get()); // 首次加载仍然是同步的
+		assertTrue(tasks.isEmpty());
+
+		Thread.sleep(25);
+		// 软过期后返回旧值，并且只提交一个刷新任务
+		assertEquals(1, loader.get());
+		assertEquals(1, loader.get());
+		assertEquals(1, tasks.size());
+
+		tasks.poll().run();
+		assertEquals(2, loader.get());
+		assertFalse(loader.flushRequired());
+
+		// 主动刷新不会返回旧值
+		loader.flush(true);
+		assertEquals(3, loader.get());
+
+		Thread.sleep(210);
+		// 硬过期后必须同步加载
+		assertEquals(4, loader.get());
+		assertTrue(tasks.isEmpty());
+	}
+
+	@Test
+	public void refreshAheadDoesNotOverwriteNewerValue() throws Exception {
+		final AtomicInteger counter = new AtomicInteger();
+		final CountDownLatch entered = new CountDownLatch(1), release = new CountDownLatch(1);
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+		TimeBasedCacheLoader<Integer> loader = new TimeBasedCacheLoader<>(20, () -> {
+			final int n = counter.incrementAndGet();
+			if (n == 2) { // 异步刷新：阻塞到同步刷新开始之后
+				entered.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			return n;
+		}).refreshAhead(tasks::add, 0);
+
+		assertEquals(1, loader.get());
+		Thread.sleep(25);
+		assertEquals(1, loader.get());
+		final Thread refresher = new Thread(tasks.poll());
+		refresher.start();
+		entered.await();
+
+		final CompletableFuture<Integer> flushed = CompletableFuture.supplyAsync(() -> loader.flush(false));
+		Thread.sleep(50);
+		assertFalse(flushed.isDone()); // 必须等待异步刷新完成
+		release.countDown();
+		refresher.join();
+		assertEquals(3, flushed.get());
+		assertEquals(3, loader.get()); // 较早开始的异步刷新不能覆盖较晚的同步刷新
+	}
+
+	@Test
+	public void atomicLazyCacheLoaderRecursiveGet() {
+		final AtomicReference<AtomicLazyCacheLoader<Integer>> ref = new AtomicReference<>();
+		final AtomicInteger counter = new AtomicInteger();
+		// single-flight 模式下，加载器内部递归调用 get() 将等待自身的加载结果，必须直接抛出异常而不是死锁
+		final AtomicLazyCacheLoader<Integer> loader = new AtomicLazyCacheLoader<>(() -> counter.incrementAndGet() == 1 ? ref.get().get() : counter.get());
+		ref.set(loader);
+		assertThrows(IllegalStateException.class, loader::get);
+		assertTrue(loader.flushRequired());
+		assertEquals(2, loader.get());
+	}
+
+	@Test
+	public void atomicLazyCacheLoader() {
+		final AtomicInteger counter = new AtomicInteger();
+		AtomicLazyCacheLoader<Integer> loader = new AtomicLazyCacheLoader<>(false, counter::incrementAndGet);
+		assertTrue(loader.flushRequired());
+		assertEquals(1, loader.get());
+		assertEquals(1, loader.get());
+		assertFalse(loader.flushRequired());
+
+		assertNull(loader.flush(true));
+		assertTrue(loader.flushRequired());
+		assertEquals(2, loader.get());
+		assertEquals(3, loader.flush(false));
+		assertEquals(3, loader.get());
+	}
+
+	@Test
+	public void atomicLazyCacheLoaderSingleFlight() throws Exception {
+		final AtomicInteger counter = new AtomicInteger();
+		final CountDownLatch loading = new CountDownLatch(1), release = new CountDownLatch(1);
+		final AtomicLazyCacheLoader<Integer> loader = new AtomicLazyCacheLoader<>(() -> {
+			loading.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return counter.incrementAndGet();
+		});
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Future<Integer> first = executor.submit(loader::get);
+			loading.await();
+			final Future<Integer> second = executor.submit(loader::get), third = executor.submit(loader::get);
+			release.countDown();
+			assertEquals(1, first.get());
+			assertEquals(1, second.get());
+			assertEquals(1, third.get());
+			assertEquals(1, counter.get());
+		} finally {
+			executor.shutdown();
+		}
+
+		final AtomicLazyCacheLoader<Integer> failing = new AtomicLazyCacheLoader<>(() -> {
+			throw new IllegalStateException();
+		});
+		assertThrows(IllegalStateException.class, failing::get);
+		assertTrue(failing.flushRequired());
+	}
+
+	@Test
+	public void stats() {
+		final AtomicInteger counter = new AtomicInteger();
+		LazyCacheLoader<Integer> disabled = new LazyCacheLoader<>(counter::incrementAndGet);
+		assertNull(disabled.stats());
+
+		final CacheStatsRecorder recorder = new CacheStatsRecorder();
+		LazyCacheLoader<Integer> lazy = new LazyCacheLoader<>(counter::incrementAndGet).recordStats(recorder);
+		lazy.get();
+		lazy.get();
+		lazy.get();
+		CacheStats stats = lazy.stats();
+		assertEquals(2, stats.hitCount());
+		assertEquals(1, stats.missCount());
+		assertEquals(1, stats.loadSuccessCount());
+		assertEquals(stats.totalLoadTime(), stats.maxLoadTime());
+
+		// 共享同一个记录器
+		AtomicLazyCacheLoader<Integer> atomic = new AtomicLazyCacheLoader<Integer>(() -> {
+			throw new IllegalStateException();
+		}).recordStats(recorder);
+		assertThrows(IllegalStateException.class, atomic::get);
+		stats = recorder.snapshot();
+		assertEquals(2, stats.missCount());
+		assertEquals(1, stats.loadFailureCount());
+		assertEquals(2, stats.loadCount());
+		assertEquals(0.5, stats.hitRate());
+		assertEquals(stats.hitCount(), stats.toMap().get("hitCount"));
+
+		recorder.reset();
+		assertEquals(0, recorder.snapshot().requestCount());
+		assertEquals(1.0, recorder.snapshot().hitRate());
+	}
+
+}
@@ -0,0 +1,97 @@
+package me.codeplayer.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+public class CachedDatePatternTest implements WithAssertions {
+
+	static final TimeZone GMT8 = TimeZone.getTimeZone("GMT+8");
+	static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+	@Test
+	public void sameSecond() {
+		final CachedDatePattern cached = new CachedDatePattern(DatePattern.of(EasyDate.DATETIME));
+		assertThat(cached.unit).isEqualTo(1000);
+		final String text = cached.format(1234567890000L, GMT8);
+		assertThat(text).isEqualTo("2009-02-14 07:31:30");
+		assertThat(cached.format(1234567890999L, GMT8)).isSameAs(text);
+		assertThat(cached.format(1234567891000L, GMT8)).isEqualTo("2009-02-14 07:31:31");
+		// 不同的时区，本地时间不同
+		assertThat(cached.format(1234567891000L, NEW_YORK)).isEqualTo("2009-02-13 18:31:31");
+	}
+
+	@Test
+	public void sameDay() {
+		final CachedDatePattern cached = new CachedDatePattern(DatePattern.of("yyyy年MM月dd日"));
+		assertThat(cached.unit).isEqualTo(EasyDate.MILLIS_OF_DAY);
+		final String text = cached.format(1234567890000L, GMT8);
+		assertThat(text).isEqualTo("2009年02月14日");
+		assertThat(cached.format(1234567890000L + 16 * EasyDate.MILLIS_OF_HOUR, GMT8)).isSameAs(text);
+		assertThat(cached.format(1234567890000L + 17 * EasyDate.MILLIS_OF_HOUR, GMT8)).isEqualTo("2009年02月15日");
+	}
+
+	@Test
+	public void formatLikeFastDateFormat() {
+		for (String pattern : new String[] { EasyDate.DATETIME, EasyDate.DATE, "yyyy-MM-dd HH:mm:ss.SSS", "yyyy年MM月dd日 HH:mm", "yyyy-M-d H:m:s", EasyDate.GMT_DATE }) {
+			final CachedDatePattern cached = new CachedDatePattern(DatePattern.of(pattern));
+			final Random random = new Random(pattern.hashCode());
+			for (TimeZone timeZone : new TimeZone[] { GMT8, NEW_YORK }) {
+				final FastDateFormat expected = FastDateFormat.getInstance(pattern, timeZone);
+				// 跨越 2020-03-08、2020-11-01 的夏令时切换
+				for (long time = 1583000000000L; time < 1583900000000L; time += random.nextInt(600_000)) {
+					assertThat(cached.format(time, timeZone)).isEqualTo(expected.format(time));
+				}
+				for (long time = 1604100000000L; time < 1604400000000L; time += random.nextInt(600_000)) {
+					assertThat(cached.format(time, timeZone)).isEqualTo(expected.format(time));
+				}
+				for (long time : new long[] { -12219292800000L - 1, -62135596800000L, 253402300800000L, 0 }) {
+					assertThat(cached.format(time, timeZone)).isEqualTo(expected.format(time));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void concurrent() throws Exception {
+		final CachedDatePattern cached = new CachedDatePattern(DatePattern.of("yyyy-MM-dd HH:mm:ss.SSS"));
+		final FastDateFormat expected = FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss.SSS", GMT8);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				final long base = 1234567890000L + i * 7 * EasyDate.MILLIS_OF_HOUR;
+				futures.add(executor.submit(() -> {
+					for (long time = base; time < base + 2 * EasyDate.MILLIS_OF_DAY; time += 997) {
+						assertThat(cached.format(time, GMT8)).isEqualTo(expected.format(time));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void easyDate() {
+		final TimeZone timeZone = TimeZone.getDefault();
+		try {
+			TimeZone.setDefault(GMT8);
+			final Date date = new Date(1234567890000L);
+			assertThat(EasyDate.toDateTimeString(date)).isEqualTo("2009-02-14 07:31:30");
+			assertThat(EasyDate.toDateString(date)).isEqualTo("2009年02月14日");
+			final EasyDate d = new EasyDate(date).setTimeZone(NEW_YORK);
+			assertThat(d.toDateTimeString()).isEqualTo("2009-02-13 18:31:30");
+			assertThat(d.toDateString()).isEqualTo("2009年02月13日");
+		} finally {
+			TimeZone.setDefault(timeZone);
+		}
+	}
+
+}
@@ -1,5 +1,10 @@
 package me.codeplayer.util;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.Random;
+
 import me.codeplayer.util.ChineseNumber.FormatStyle;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
@@ -36,4 +41,129 @@ public class ChineseNumberTest implements WithAssertions {
 				.isEqualTo("壹拾万零贰佰圆零壹分");
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void formatSpecialNumbers() {
+		assertThat(ChineseNumber.formatNumber(0, FormatStyle.LOWER_CASE)).isEqualTo("零");
+		assertThat(ChineseNumber.formatNumber(10, FormatStyle.LOWER_CASE)).isEqualTo("一十");
+		assertThat(ChineseNumber.formatNumber(1001, FormatStyle.LOWER_CASE)).isEqualTo("一千零一");
+		assertThat(ChineseNumber.formatNumber(10010, FormatStyle.LOWER_CASE)).isEqualTo("一万零一十");
+		assertThat(ChineseNumber.formatNumber(100001, FormatStyle.LOWER_CASE)).isEqualTo("一十万零一");
+		assertThat(ChineseNumber.formatNumber(100_0000_0001L, FormatStyle.LOWER_CASE)).isEqualTo("一百亿零一");
+		assertThat(ChineseNumber.formatNumber(1_0000_0000_0000L, FormatStyle.LOWER_CASE)).isEqualTo("一万亿");
+		assertThat(ChineseNumber.formatNumber(1_0001_0000_0000L, FormatStyle.LOWER_CASE)).isEqualTo("一万零一亿");
+		assertThat(ChineseNumber.formatNumber(-5, FormatStyle.MONEY)).isEqualTo("负伍圆整");
+		assertThat(ChineseNumber.formatNumber(Long.MIN_VALUE, FormatStyle.LOWER_CASE))
+				.isEqualTo("负九百二十二亿三千三百七十二万零三百六十八亿五千四百七十七万五千八百零八");
+
+		assertThat(ChineseNumber.formatNumber(new BigDecimal("-0.50"), false, FormatStyle.LOWER_CASE)).isEqualTo("负零点五零");
+		assertThat(ChineseNumber.formatNumber(new BigDecimal("12.3"), false, FormatStyle.MONEY)).isEqualTo("壹拾贰圆叁角");
+		assertThat(ChineseNumber.formatNumber(new BigDecimal("1E+3"), false, FormatStyle.MONEY)).isEqualTo("壹仟圆整");
+		assertThat(ChineseNumber.formatNumber(100.0, false, FormatStyle.LOWER_CASE)).isEqualTo("一百点零");
+		assertThat(ChineseNumber.formatNumber(1e7, false, FormatStyle.MONEY)).isEqualTo("壹仟万圆整");
+		assertThat(ChineseNumber.formatNumber(1e20, false, FormatStyle.LOWER_CASE)).isEqualTo("一万亿亿");
+		assertThat(new ChineseNumber("-0.5", FormatStyle.LOWER_CASE)).hasToString("负零点五");
+	}
+
+	@Test
+	public void appendTo() {
+		final Random random = new Random(1);
+		for (int i = 0; i < 10_000; i++) {
+			final long value = random.nextLong() >> random.nextInt(64);
+			final int scale = random.nextInt(5);
+			for (FormatStyle style : FormatStyle.values()) {
+				final BigDecimal d = BigDecimal.valueOf(value, scale);
+				final String expected = new ChineseNumber(d, style).toString();
+				assertThat(ChineseNumber.formatNumber(d, false, style)).isEqualTo(expected);
+				assertThat(ChineseNumber.appendTo(new StringBuilder("#"), d, false, style)).hasToString("#" + expected);
+				assertThat(ChineseNumber.appendTo(new StringBuilder(), value, scale, style)).hasToString(expected);
+
+				final char[] chars = new char[ChineseNumber.maxLength(scale) + 1];
+				final int end = ChineseNumber.formatTo(CharReplacer.of(chars), 1, value, scale, style);
+				assertThat(new String(chars, 1, end - 1)).isEqualTo(expected);
+			}
+		}
+		assertThat(ChineseNumber.appendTo(new StringBuilder(), 1231200, FormatStyle.MONEY)).hasToString("壹佰贰拾叁万壹仟贰佰圆整");
+		assertThatThrownBy(() -> ChineseNumber.appendTo(new StringBuilder(), 1, 19, FormatStyle.MONEY)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void cache() {
+		final String text = ChineseNumber.formatNumber(12345, FormatStyle.MONEY);
+		assertThat(ChineseNumber.formatNumber(12345, FormatStyle.MONEY)).isSameAs(text);
+		assertThat(ChineseNumber.formatNumber(12345, FormatStyle.UPPER_CASE)).isEqualTo("壹万贰仟叁佰肆拾伍");
+		assertThat(ChineseNumber.formatNumber(new BigDecimal("123.45"), false, FormatStyle.MONEY)).isEqualTo("壹佰贰拾叁圆肆角伍分");
+	}
+
+	@Test
+	public void parse() {
+		assertThat(ChineseNumber.parseLong("壹万贰仟叁佰元整")).isEqualTo(12300);
+		assertThat(ChineseNumber.parseLong("十二")).isEqualTo(12);
+		assertThat(ChineseNumber.parseLong("一千零二")).isEqualTo(1002);
+		assertThat(ChineseNumber.parseLong("负一万零一亿")).isEqualTo(-1_0001_0000_0000L);
+		assertThat(ChineseNumber.parseLong("一亿亿")).isEqualTo(1_0000_0000_0000_0000L);
+		assertThat(ChineseNumber.parseLong("九百二十二亿三千三百七十二万零三百六十八亿五千四百七十七万五千八百零七")).isEqualTo(Long.MAX_VALUE);
+		assertThat(ChineseNumber.parseLong("负九百二十二亿三千三百七十二万零三百六十八亿五千四百七十七万五千八百零八")).isEqualTo(Long.MIN_VALUE);
+		for (FormatStyle style : FormatStyle.values()) {
+			assertThat(ChineseNumber.parseLong(ChineseNumber.formatNumber(Long.MIN_VALUE, style), true)).as(style.name()).isEqualTo(Long.MIN_VALUE);
+			assertThat(ChineseNumber.parseLong(ChineseNumber.formatNumber(Long.MAX_VALUE, style), true)).as(style.name()).isEqualTo(Long.MAX_VALUE);
+		}
+		// 2^63 只能表示负数
+		assertThatThrownBy(() -> ChineseNumber.parseLong("九百二十二亿三千三百七十二万零三百六十八亿五千四百七十七万五千八百零八"))
+				.isInstanceOf(NumberFormatException.class);
+		assertThat(ChineseNumber.parseDecimal("一百点二五")).isEqualTo(new BigDecimal("100.25"));
+		assertThat(ChineseNumber.parseDecimal("零圆伍角")).isEqualTo(new BigDecimal("0.5"));
+		assertThat(ChineseNumber.parseDecimal("壹拾万零贰佰圆零壹分")).isEqualTo(new BigDecimal("100200.01"));
+		assertThat(ChineseNumber.parseUnscaled("壹佰元伍角", 2, false)).isEqualTo(10050);
+		assertThat(ChineseNumber.parseUnscaled("一点二三四", 2, true)).isEqualTo(123);
+
+		// 宽松模式
+		assertThat(ChineseNumber.parseLong("两万五", true)).isEqualTo(25000);
+		assertThat(ChineseNumber.parseLong("一千二", true)).isEqualTo(1200);
+		assertThat(ChineseNumber.parseLong("二〇二四", true)).isEqualTo(2024);
+		assertThat(ChineseNumber.parseLong(" -1万2千 ", true)).isEqualTo(-12000);
+		assertThat(ChineseNumber.parseLong("壹佰元", true)).isEqualTo(100);
+		assertThat(ChineseNumber.parseLong("一百二十三点九", true)).isEqualTo(123);
+		assertThat(ChineseNumber.parseDecimal("￥壹仟贰佰元伍角整", true)).isEqualTo(new BigDecimal("1200.5"));
+		assertThat(ChineseNumber.parseDecimal("伍角", true)).isEqualTo(new BigDecimal("0.5"));
+		assertThat(ChineseNumber.parseDecimal("十二.5", true)).isEqualTo(new BigDecimal("12.5"));
+
+		final String[] invalid = { "", "负", "一二", "一千二", "零五", "一千零", "二十十", "百", "一十百", "一万二万", "壹佰元", "壹佰元伍角整", "壹佰元伍分",
+				"壹佰元零伍角", "壹佰二十", "一百点", "一点五十", "一千零五百", "两万", "1万", "伍角", "一百整", "壹佰元整整", "一百 二十", "一千亿亿亿" };
+		for (String text : invalid) {
+			assertThatThrownBy(() -> ChineseNumber.parseDecimal(text)).as(text).isInstanceOf(NumberFormatException.class);
+		}
+		assertThatThrownBy(() -> ChineseNumber.parseDecimal("壹佰元整整", true)).isInstanceOf(NumberFormatException.class);
+		assertThatThrownBy(() -> ChineseNumber.parseLong("一点五")).isInstanceOf(NumberFormatException.class);
+		assertThatThrownBy(() -> ChineseNumber.parseLong("一千亿亿")).isInstanceOf(NumberFormatException.class);
+		assertThatThrownBy(() -> ChineseNumber.parseUnscaled("一", 19, false)).isInstanceOf(IllegalArgumentException.class);
+
+		// 超过 18 位小数：严格模式下超出部分必须为 0，宽松模式下直接舍去
+		final String zeros = String.join("", Collections.nCopies(19, "零"));
+		assertThat(ChineseNumber.parseDecimal("零点一" + zeros)).isEqualTo(new BigDecimal("0.100000000000000000"));
+		assertThat(ChineseNumber.parseDecimal("零点一" + zeros + "五", true)).isEqualTo(new BigDecimal("0.100000000000000000"));
+		assertThatThrownBy(() -> ChineseNumber.parseDecimal("零点一" + zeros + "五")).isInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	public void parseFormatted() {
+		final Random random = new Random(2);
+		for (int i = 0; i < 10_000; i++) {
+			final long value = (random.nextLong() >> random.nextInt(64)) / 1000;
+			final int scale = random.nextInt(4);
+			final BigDecimal d = BigDecimal.valueOf(value, scale);
+			for (FormatStyle style : FormatStyle.values()) {
+				final String text = ChineseNumber.formatNumber(d, false, style);
+				if (style == FormatStyle.MONEY) {
+					final BigDecimal cents = d.setScale(2, RoundingMode.DOWN);
+					assertThat(ChineseNumber.parseUnscaled(text, 2, false)).as(text).isEqualTo(cents.unscaledValue().longValue());
+					assertThat(ChineseNumber.parseDecimal(text, true)).as(text).isEqualByComparingTo(cents);
+				} else {
+					assertThat(ChineseNumber.parseDecimal(text)).as(text).isEqualTo(d);
+					assertThat(ChineseNumber.parseDecimal(text, true)).as(text).isEqualTo(d);
+				}
+			}
+			assertThat(ChineseNumber.parseLong(ChineseNumber.formatNumber(value, FormatStyle.LOWER_CASE))).isEqualTo(value);
+		}
+	}
+
+}
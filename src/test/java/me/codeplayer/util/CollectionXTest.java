@@ -1390,4 +1390,57 @@ public class CollectionXTest implements WithAssertions {
 		assertThatThrownBy(() -> CollectionX.replaceValues(map, converter)).isInstanceOf(UnsupportedOperationException.class);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void toPrimitiveCollections() {
+		List<Book> books = Arrays.asList(new Book(3L), new Book(1L), new Book(3L));
+
+		assertThat(CollectionX.toLongList(books, Book::getId).toArray()).containsExactly(3L, 1L, 3L);
+		assertThat(CollectionX.toIntList(books, b -> b.getId().intValue()).toArray()).containsExactly(3, 1, 3);
+		assertEquals(LongHashSet.of(1L, 3L), CollectionX.toLongSet(books, Book::getId));
+		assertEquals(2, CollectionX.toIntSet(books, b -> b.getId().intValue()).size());
+		assertTrue(CollectionX.toLongSet(null, Book::getId).isEmpty());
+
+		LongObjectHashMap<Book> map = CollectionX.toLongObjectMap(books, Book::getId);
+		assertEquals(2, map.size());
+		assertSame(books.get(2), map.get(3L));
+		assertEquals("1", CollectionX.toLongObjectMap(books, Book::getId, b -> b.getId().toString()).get(1L));
+	}
+
+	@Test
+	public void parallelGroupBy() {
+		List<Integer> list = new ArrayList<>(100_000);
+		Random random = new Random(1);
+		for (int i = 0; i < 100_000; i++) {
+			list.add(random.nextInt(5000));
+		}
+		Function<Integer, Integer> keyMapper = i -> i % 997;
+
+		Map<Integer, List<Integer>> expected = CollectionX.groupBy(list, keyMapper);
+		assertEquals(expected, CollectionX.parallelGroupBy(list, keyMapper));
+
+		LinkedHashMap<Integer, List<String>> ordered = CollectionX.parallelGroupBy(LinkedHashMap::new, new LinkedList<>(list), keyMapper, String::valueOf, 100);
+		Map<Integer, List<String>> sequential = CollectionX.parallelGroupBy(LinkedHashMap::new, list, keyMapper, String::valueOf, Integer.MAX_VALUE);
+		assertEquals(new ArrayList<>(sequential.keySet()), new ArrayList<>(ordered.keySet()));
+		assertEquals(sequential, ordered);
+
+		assertTrue(CollectionX.parallelGroupBy(null, keyMapper).isEmpty());
+	}
+
+	@Test
+	public void parallelToMap() {
+		List<Integer> list = new ArrayList<>(100_000);
+		for (int i = 0; i < 100_000; i++) {
+			list.add(i);
+		}
+		// 重复的键以最后一个值为准
+		Function<Integer, Integer> keyMapper = i -> (i * 7919) % 30_011;
+		LinkedHashMap<Integer, Integer> expected = CollectionX.toMap(LinkedHashMap::new, list, keyMapper, Function.identity());
+		LinkedHashMap<Integer, Integer> actual = CollectionX.parallelToMap(LinkedHashMap::new, list, keyMapper, Function.identity(), 1000);
+		assertEquals(expected, actual);
+		assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+
+		assertEquals(CollectionX.toHashMap(list, keyMapper), CollectionX.parallelToHashMap(list, keyMapper, Function.identity()));
+		assertTrue(CollectionX.parallelToHashMap(null, keyMapper, Function.identity()).isEmpty());
+	}
+
+}
@@ -0,0 +1,61 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactStringBuilderTest {
+
+	@Test
+	public void appendLatin1() {
+		CompactStringBuilder sb = new CompactStringBuilder(4);
+		sb.append("IN (").append(12).append(',').append(-345L).append(", ").append(Long.MIN_VALUE).append(')').append((Object) null);
+		assertEquals("IN (12,-345, " + Long.MIN_VALUE + ")null", sb.toString());
+		assertEquals(JavaX.supportLatin1(), sb.isLatin1());
+		assertEquals('N', sb.charAt(1));
+		assertEquals("12", sb.subSequence(4, 6));
+	}
+
+	@Test
+	public void inflate() {
+		CompactStringBuilder sb = new CompactStringBuilder();
+		sb.append("abc").append('é').append(1);
+		assertEquals(JavaX.supportLatin1(), sb.isLatin1());
+		sb.append("中文").append(new StringBuilder("xyz"), 1, 3).append(true);
+		assertFalse(sb.isLatin1());
+		assertEquals("abcé1中文yztrue", sb.toString());
+		assertEquals('中', sb.charAt(5));
+	}
+
+	@Test
+	public void exactCapacityAndCopyOnWrite() {
+		CompactStringBuilder sb = new CompactStringBuilder(5);
+		sb.append("12345");
+		final String first = sb.toString();
+		assertEquals("12345", first);
+		assertEquals(5, sb.capacity());
+
+		// 缓冲区已交给 first，后续修改不能影响 first
+		sb.setLength(2);
+		sb.append("ab");
+		assertEquals("12ab", sb.toString());
+		assertEquals("12345", first);
+
+		sb.clear().append(7);
+		assertEquals("7", sb.toString());
+		assertEquals("", new CompactStringBuilder(0).toString());
+	}
+
+	@Test
+	public void joinAndInSQL() {
+		assertEquals("1, 22, -333", StringX.join(Arrays.asList(1, 22L, -333), ", "));
+		assertEquals("1、22", StringX.join(Arrays.asList(1, 22L), "、"));
+		assertEquals(" IN (1, 22, 333)", StringX.getInSQL(Arrays.asList(1, 22L, 333), true, false));
+		assertEquals(" NOT IN ('1', '22')", StringX.getInSQL(Arrays.asList(1, 22L), false, true));
+		assertEquals(" IN (a, 1)", StringX.getInSQL(Arrays.asList("a", 1), true, false));
+		assertEquals("100,2,30000", StringX.joinLongValue(Arrays.asList(100, 2, 30000), Integer::longValue, ",", 3));
+	}
+
+}
@@ -0,0 +1,177 @@
+package me.codeplayer.util;
+
+import java.util.*;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class DatePatternTest implements WithAssertions {
+
+	static final TimeZone GMT8 = TimeZone.getTimeZone("GMT+8");
+	static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+	@Test
+	public void of() {
+		final DatePattern pattern = DatePattern.of(EasyDate.DATETIME);
+		assertThat(DatePattern.of(EasyDate.DATETIME)).isSameAs(pattern);
+		assertThat(pattern.getPattern()).isEqualTo(EasyDate.DATETIME);
+		assertThat(pattern.charTemplate).isNotNull();
+		assertThat(pattern.fallback).isFalse();
+
+		assertThat(DatePattern.of("yyyy-M-d").charTemplate).isNull();
+		assertThat(DatePattern.of(EasyDate.GMT_NET_DATE).fallback).isTrue();
+		assertThatThrownBy(() -> DatePattern.of("yyyy-MM-dd 'T")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { EasyDate.DATE, EasyDate.DATETIME, EasyDate.SHORT_DATE, EasyDate.YM_DATE, "yyyy-MM-dd HH:mm:ss.SSS",
+			"yyyy年MM月dd日 HH时mm分ss秒", "yyyy-M-d H:m:s.S", "yy/MM/dd", "yyyy-MM-dd'T'HH:mm:ss", "HH 'o''clock'", "''yyyy''",
+			EasyDate.GMT_DATE, EasyDate.GMT_NET_DATE })
+	public void formatLikeFastDateFormat(String pattern) {
+		final DatePattern compiled = DatePattern.of(pattern);
+		final Random random = new Random(pattern.hashCode());
+		final long[] times = { 0, -1, 1234567890000L, 951782400000L /* 2000-02-29 */, 253402300799999L /* 9999-12-31 */, -12219292800000L, -62135596800000L };
+		for (TimeZone timeZone : new TimeZone[] { GMT8, NEW_YORK }) {
+			final FastDateFormat expected = FastDateFormat.getInstance(pattern, timeZone);
+			for (long time : times) {
+				assertThat(compiled.format(time, timeZone)).isEqualTo(expected.format(time));
+			}
+			for (int i = 0; i < 1000; i++) {
+				final long time = (random.nextLong() % 100_000_000_000_000L) + 1234567890000L;
+				assertThat(compiled.format(time, timeZone)).isEqualTo(expected.format(time));
+				assertThat(compiled.formatTo(time, timeZone, new StringBuilder("#"))).hasToString("#" + expected.format(time));
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { EasyDate.DATE, EasyDate.DATETIME, EasyDate.SHORT_DATE, EasyDate.YM_DATE, "yyyy-MM-dd HH:mm:ss.SSS",
+			"yyyy年MM月dd日 HH时mm分ss秒", "yyyyMMddHHmmssSSS", "yyyy-M-d H:m:s.S", "yyyy-MM-dd'T'HH:mm:ss", EasyDate.GMT_NET_DATE })
+	public void parseLikeFastDateFormat(String pattern) throws Exception {
+		final DatePattern compiled = DatePattern.of(pattern);
+		final Random random = new Random(pattern.hashCode());
+		for (TimeZone timeZone : new TimeZone[] { GMT8, NEW_YORK }) {
+			final FastDateFormat expected = FastDateFormat.getInstance(pattern, timeZone);
+			for (int i = 0; i < 1000; i++) {
+				final long time = Math.abs(random.nextLong() % 100_000_000_000_000L);
+				final String text = expected.format(time);
+				assertThat(compiled.parse(text, timeZone)).isEqualTo(expected.parse(text).getTime());
+			}
+		}
+	}
+
+	@Test
+	public void parse() {
+		final DatePattern pattern = DatePattern.of(EasyDate.DATETIME);
+		assertThat(pattern.parse("2009-02-14 07:31:30", GMT8)).isEqualTo(1234567890000L);
+		assertThat(pattern.parseDate("2009-02-14 07:31:30")).isEqualTo(new Date(pattern.parse("2009-02-14 07:31:30", TimeZone.getDefault())));
+		assertThat(DatePattern.of("yyyy-M-d H:m:s").parse("2009-2-14 7:31:30", GMT8)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.of("yyyyMMddHHmmss").parse("20090214073130", GMT8)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.of("yyyy年MM月dd日").parse("2009年02月14日", GMT8)).isEqualTo(1234540800000L);
+		assertThat(DatePattern.of("HH:mm").parse("07:31", GMT8)).isEqualTo(-8 * EasyDate.MILLIS_OF_HOUR + 7 * EasyDate.MILLIS_OF_HOUR + 31 * EasyDate.MILLIS_OF_MINUTE);
+
+		// 两位数的年份
+		final int year = Calendar.getInstance().get(Calendar.YEAR);
+		final String yy = String.format("%02d", (year + 1) % 100);
+		assertThat(DatePattern.of("yy-MM-dd").parse(yy + "-01-01", GMT8)).isEqualTo(DatePattern.of(EasyDate.DATE).parse((year + 1) + "-01-01", GMT8));
+
+		// 夏令时
+		assertThat(pattern.parse("2020-07-01 12:00:00", NEW_YORK)).isEqualTo(1593619200000L);
+		assertThat(pattern.parse("2020-01-01 12:00:00", NEW_YORK)).isEqualTo(1577898000000L);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "2009-02-14", "2009-02-14 07:31", "2009-02-14 07:31:30 ", "2009-02-14T07:31:30", "2009-13-14 07:31:30",
+			"2009-02-29 07:31:30", "2009-02-14 24:31:30", "2009-02-14 07:60:30", "2009-02-14 07:31:60", "2009-0a-14 07:31:30", "abcd-02-14 07:31:30" })
+	public void parseError(String text) {
+		assertThatThrownBy(() -> DatePattern.of(EasyDate.DATETIME).parse(text, GMT8))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(DatePattern.of(EasyDate.DATETIME).tryParse(text, GMT8)).isEqualTo(DatePattern.PARSE_FAILED);
+	}
+
+	@Test
+	public void tryParse() {
+		assertThat(DatePattern.of(EasyDate.DATETIME).tryParse("2009-02-14 07:31:30", GMT8)).isEqualTo(1234567890000L);
+		// 回退为 FastDateFormat 处理的模式
+		final DatePattern fallback = DatePattern.of("yyyy-DDD"); // D：一年中的第几天
+		assertThat(fallback.tryParse("2009-045", GMT8)).isEqualTo(1234540800000L);
+		assertThat(fallback.tryParse("2009/045", GMT8)).isEqualTo(DatePattern.PARSE_FAILED);
+		assertThatThrownBy(() -> fallback.parse("2009/045", GMT8)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void smartParse() {
+		assertThat(DatePattern.smartParse("200902", GMT8)).isEqualTo(1233417600000L);
+		assertThat(DatePattern.smartParse("20090214", GMT8)).isEqualTo(1234540800000L);
+		assertThat(DatePattern.smartParse("2009-02-14", GMT8)).isEqualTo(1234540800000L);
+		assertThat(DatePattern.smartParse("2009-02-14 07:31", GMT8)).isEqualTo(1234567860000L);
+		assertThat(DatePattern.smartParse("2009-02-14 07:31:30", GMT8)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-14T07:31:30", GMT8)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-14 07:31:30.1", GMT8)).isEqualTo(1234567890100L);
+		assertThat(DatePattern.smartParse("2009-02-14 07:31:30.12", GMT8)).isEqualTo(1234567890120L);
+		assertThat(DatePattern.smartParse("2009-02-14 07:31:30.123", GMT8)).isEqualTo(1234567890123L);
+		assertThat(DatePattern.smartParse("2009-02-14T07:31:30.123456789", GMT8)).isEqualTo(1234567890123L);
+		assertThat(DatePattern.smartParse("2009-02-13T23:31:30Z", GMT8)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-13T23:31:30.000Z", NEW_YORK)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-14T07:31:30+08:00", NEW_YORK)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-14T07:31:30+0800", NEW_YORK)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-14T07:31:30+08", NEW_YORK)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-13T18:31:30-05:00", GMT8)).isEqualTo(1234567890000L);
+		assertThat(DatePattern.smartParse("2009-02-14 07:31+08:00", NEW_YORK)).isEqualTo(1234567860000L);
+
+		// 夏令时，以及与 FastDateFormat 的结果保持一致
+		final Random random = new Random(1);
+		for (TimeZone timeZone : new TimeZone[] { GMT8, NEW_YORK }) {
+			final FastDateFormat format = FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss.SSS", timeZone);
+			for (int i = 0; i < 2000; i++) {
+				final long time = (random.nextLong() % 10_000_000_000_000L) + 1234567890000L;
+				assertThat(DatePattern.smartParse(format.format(time), timeZone)).isEqualTo(time);
+			}
+		}
+		// 早于格里高利历切换日
+		assertThat(DatePattern.smartParse("1000-01-01", GMT8)).isEqualTo(DatePattern.of(EasyDate.DATE).parse("1000-01-01", GMT8));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "2009", "2009-2", "2009-02", "2009-02-1", "2009/02/14", "2009-02-14 ", "2009-02-14 7:31:30", "2009-02-14 07",
+			"2009-02-14 07:31:", "2009-02-14 07:31:30.", "2009-02-14 07:31:30.1234567890", "2009-02-14 07:31:30+8", "2009-02-14 07:31:30+08:0",
+			"2009-02-14 07:31:30 +08:00", "2009-02-14 07:31:30X", "2009-02-29", "200913", "20090230", "2009-02-14 24:00:00", "2009-02-14T07:60",
+			"2009-02-14 07:31:60", "2009-02-14Z", "+009-02-14", "2009-02-14 07:31:30+19:00" })
+	public void smartParseError(String text) {
+		assertThatThrownBy(() -> DatePattern.smartParse(text, GMT8))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void toEpochMillis() {
+		DatePattern.DAY_OFFSETS.clear();
+		final long local = DatePattern.epochDayOf(2020, 3, 8) * EasyDate.MILLIS_OF_DAY;
+		// 夏令时切换的当天，不会缓存偏移量
+		assertThat(DatePattern.toEpochMillis(local + 12 * EasyDate.MILLIS_OF_HOUR, NEW_YORK)).isEqualTo(1583683200000L);
+		assertThat(DatePattern.DAY_OFFSETS.get(NEW_YORK.getID())).isNull();
+		assertThat(DatePattern.toEpochMillis(local - 12 * EasyDate.MILLIS_OF_HOUR, NEW_YORK)).isEqualTo(1583600400000L);
+		final DatePattern.DayOffset newYork = DatePattern.DAY_OFFSETS.get(NEW_YORK.getID());
+		assertThat(newYork).isNotNull();
+		assertThat(DatePattern.toEpochMillis(local - 11 * EasyDate.MILLIS_OF_HOUR, NEW_YORK)).isEqualTo(1583604000000L);
+		assertThat(DatePattern.toEpochMillis(local - 11 * EasyDate.MILLIS_OF_HOUR, GMT8)).isEqualTo(local - 19 * EasyDate.MILLIS_OF_HOUR);
+		// 不同时区的缓存互不覆盖
+		assertThat(DatePattern.DAY_OFFSETS.get(GMT8.getID())).isNotNull();
+		assertThat(DatePattern.DAY_OFFSETS.get(NEW_YORK.getID())).isSameAs(newYork);
+	}
+
+	@Test
+	public void civilOf() {
+		for (long epochDay = -800_000; epochDay <= 800_000; epochDay += 7) {
+			final java.time.LocalDate expected = java.time.LocalDate.ofEpochDay(epochDay);
+			final long date = DatePattern.civilOf(epochDay);
+			assertThat(date >> 9).isEqualTo(expected.getYear());
+			assertThat((date >> 5) & 0xF).isEqualTo(expected.getMonthValue());
+			assertThat(date & 0x1F).isEqualTo(expected.getDayOfMonth());
+			assertThat(DatePattern.epochDayOf(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth())).isEqualTo(epochDay);
+		}
+	}
+
+}
@@ -426,6 +426,16 @@ public class EasyDateTest implements WithAssertions {
 		assertThrows(IllegalArgumentException.class, () -> EasyDate.parse(dateFormat, invalidDate));
 	}
 
+	@Test
+	public void parseDate_Lenient() {
+		// 与 FastDateFormat 保持一致：只匹配前缀，字段值溢出时自动进位
+		assertEqualsYmdHms(new EasyDate(EasyDate.parseDate(EasyDate.DATE, "2024-01-05 12:30:00")), 2024, 1, 5, 0, 0, 0);
+		assertEqualsYmdHms(new EasyDate(EasyDate.parseDate(EasyDate.DATE, "2024-02-30")), 2024, 3, 1, 0, 0, 0);
+		assertEqualsYmdHms(new EasyDate(EasyDate.parseDate(EasyDate.DATETIME, "2024-01-05 24:00:00")), 2024, 1, 6, 0, 0, 0);
+		assertEqualsYmdHms(new EasyDate(EasyDate.parseDate("yyyy/MM/dd", " 2024/01/05")), 2024, 1, 5, 0, 0, 0);
+		assertThrows(IllegalArgumentException.class, () -> EasyDate.parseDate(EasyDate.DATE, "2024/01/05"));
+	}
+
 	public static StringBuilder tempateFor(String pattern) {
 		return new StringBuilder(pattern.length()).append(pattern);
 	}
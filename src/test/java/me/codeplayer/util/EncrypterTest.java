@@ -1,6 +1,15 @@
 package me.codeplayer.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -175,4 +184,40 @@ public class EncrypterTest {
 		assertTrue(exception.getMessage().contains("Unexpected algorithm:" + invalidAlgorithm));
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void pooledMessageDigest() {
+		final MessageDigest md = Encrypter.acquireMessageDigest("SHA-256");
+		md.update((byte) 1); // 归还时将被重置
+		Encrypter.releaseMessageDigest(md);
+		assertSame(md, Encrypter.acquireMessageDigest("SHA-256"));
+		assertNotSame(md, Encrypter.acquireMessageDigest("SHA-256"));
+		Encrypter.releaseMessageDigest(md);
+		assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824", Encrypter.encode("hello", "SHA-256"));
+		assertThrows(IllegalArgumentException.class, () -> Encrypter.acquireMessageDigest("NO-SUCH-ALGORITHM"));
+	}
+
+	@Test
+	public void streamingDigest(@TempDir File dir) throws IOException {
+		final byte[] data = new byte[300_000];
+		new Random(1).nextBytes(data);
+		final String expected = Encrypter.bytes2Hex(Encrypter.md5(data));
+		final File file = new File(dir, "data.bin");
+		Files.write(file.toPath(), data);
+
+		assertEquals(expected, Encrypter.bytes2Hex(Encrypter.md5(new ByteArrayInputStream(data))));
+		assertEquals(expected, Encrypter.bytes2Hex(Encrypter.md5(file)));
+		// 缓冲区大小不能整除文件大小
+		assertEquals(expected, Encrypter.bytes2Hex(Encrypter.encode(file, "MD5", 70_000)));
+		final ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data);
+		direct.flip();
+		assertEquals(expected, Encrypter.bytes2Hex(Encrypter.encode(direct, "MD5")));
+		assertEquals(data.length, direct.position());
+		assertEquals(Encrypter.bytes2Hex(Encrypter.sha1(data)), Encrypter.bytes2Hex(Encrypter.encode(ByteBuffer.wrap(data), "SHA")));
+
+		final File empty = new File(dir, "empty.bin");
+		Files.write(empty.toPath(), new byte[0]);
+		assertEquals("d41d8cd98f00b204e9800998ecf8427e", Encrypter.bytes2Hex(Encrypter.md5(empty)));
+		assertThrows(IOException.class, () -> Encrypter.md5(new File(dir, "missing.bin")));
+	}
+
+}
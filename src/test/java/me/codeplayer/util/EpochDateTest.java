@@ -0,0 +1,172 @@
+package me.codeplayer.util;
+
+import java.math.RoundingMode;
+import java.time.*;
+import java.util.*;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Calendar.*;
+
+public class EpochDateTest implements WithAssertions {
+
+	static final TimeZone GMT8 = TimeZone.getTimeZone("GMT+8");
+	static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+	/** 2009-02-14 07:31:30 GMT+8 星期六 */
+	static final long BASE_TIME = 1234567890000L;
+
+	static long[] randomTimes(int count) {
+		final Random random = new Random(count);
+		final long[] times = new long[count];
+		for (int i = 0; i < count; i++) {
+			times[i] = BASE_TIME + random.nextLong() % 2_000_000_000_000L;
+		}
+		return times;
+	}
+
+	@Test
+	public void fields() {
+		final EpochDate d = EpochDate.of(BASE_TIME, GMT8);
+		assertThat(d.getYear()).isEqualTo(2009);
+		assertThat(d.getMonth()).isEqualTo(2);
+		assertThat(d.getDay()).isEqualTo(14);
+		assertThat(d.getHour()).isEqualTo(7);
+		assertThat(d.getMinute()).isEqualTo(31);
+		assertThat(d.getSecond()).isEqualTo(30);
+		assertThat(d.getMillisecond()).isEqualTo(0);
+		assertThat(d.getWeekDay()).isEqualTo(6);
+		assertThat(d.getDayOfYear()).isEqualTo(45);
+		assertThat(d.getLastDayOfMonth()).isEqualTo(28);
+		assertThat(d.getTimeZoneOffset()).isEqualTo(480);
+		assertThat(d.isLeapYear()).isFalse();
+		assertThat(d.toDateTimeString()).isEqualTo("2009-02-14 07:31:30");
+		assertThat(d).hasToString("2009-02-14 07:31:30.000");
+
+		for (TimeZone timeZone : new TimeZone[] { GMT8, NEW_YORK }) {
+			for (long time : randomTimes(2000)) {
+				final EpochDate e = EpochDate.of(time, timeZone);
+				final EasyDate expected = new EasyDate(time, timeZone);
+				assertThat(e.toLongString()).isEqualTo(expected.toLongString());
+				assertThat(e.getYear()).isEqualTo(expected.getYear());
+				assertThat(e.getMonth()).isEqualTo(expected.getMonth());
+				assertThat(e.getDay()).isEqualTo(expected.getDay());
+				assertThat(e.getHour()).isEqualTo(expected.getHour());
+				assertThat(e.getMinute()).isEqualTo(expected.getMinute());
+				assertThat(e.getSecond()).isEqualTo(expected.getSecond());
+				assertThat(e.getMillisecond()).isEqualTo(expected.getMillisecond());
+				assertThat(e.getWeekDay()).isEqualTo(expected.getWeekDay());
+				assertThat(e.getDayOfYear()).isEqualTo(expected.getDayOfYear());
+				assertThat(e.getLastDayOfMonth()).isEqualTo(expected.getLastDayOfMonth());
+				assertThat(e.getTimeZoneOffset()).isEqualTo(expected.getTimeZoneOffset());
+			}
+		}
+	}
+
+	@Test
+	public void beforeGregorianCutover() {
+		// 与 getYear() 等方法一致，格式化时也使用前推格里高利历，而不是 FastDateFormat 的儒略历
+		final EpochDate d = EpochDate.of(1500, 3, 1, 12, 30, 15, 7, GMT8);
+		assertThat(d.getYear()).isEqualTo(1500);
+		assertThat(d.getMonth()).isEqualTo(3);
+		assertThat(d.getDay()).isEqualTo(1);
+		assertThat(d).hasToString("1500-03-01 12:30:15.007");
+		assertThat(d.toDateTimeString()).isEqualTo("1500-03-01 12:30:15");
+		assertThat(d.toLocalDateTime()).isEqualTo(LocalDateTime.of(1500, 3, 1, 12, 30, 15, 7_000_000));
+		assertThat(EpochDate.of(1582, 10, 4, 0, 0, 0, 0, GMT8)).hasToString("1582-10-04 00:00:00.000");
+	}
+
+	@Test
+	public void beginOfAndEndOf() {
+		final int[] fields = { YEAR, MONTH, DAY_OF_WEEK, Calendar.DATE, HOUR_OF_DAY, MINUTE, SECOND };
+		for (TimeZone timeZone : new TimeZone[] { GMT8, NEW_YORK }) {
+			for (long time : randomTimes(500)) {
+				final EpochDate e = EpochDate.of(time, timeZone);
+				for (int field : fields) {
+					assertThat(e.beginOf(field).getTime()).as("beginOf(%s): %s", field, e).isEqualTo(new EasyDate(time, timeZone).beginOf(field).getTime());
+					if (field == DAY_OF_WEEK && e.getWeekDay() == 7) {
+						// EasyDate.endOf(DAY_OF_WEEK) 对于 星期天 会返回下周的星期天
+						assertThat(e.endOf(field).getTime()).isEqualTo(e.endOf(Calendar.DATE).getTime());
+						continue;
+					}
+					assertThat(e.endOf(field).getTime()).as("endOf(%s): %s", field, e).isEqualTo(new EasyDate(time, timeZone).endOf(field).getTime());
+				}
+			}
+		}
+		assertThatThrownBy(() -> EpochDate.of(BASE_TIME).beginOf(ERA)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void add() {
+		final EpochDate d = EpochDate.of(2020, 1, 31, 12, 0, 0, 0, GMT8);
+		assertThat(d.addMonth(1).toDateTimeString()).isEqualTo("2020-02-29 12:00:00");
+		assertThat(d.addMonth(-2).toDateTimeString()).isEqualTo("2019-11-30 12:00:00");
+		assertThat(d.addMonth(1).addYear(1).toDateTimeString()).isEqualTo("2021-02-28 12:00:00");
+		assertThat(d.addDay(-31).toDateTimeString()).isEqualTo("2019-12-31 12:00:00");
+		assertThat(d.addHour(12).addMinute(1).addSecond(1).toDateTimeString()).isEqualTo("2020-02-01 00:01:01");
+		assertThat(d.addTime(1).getMillisecond()).isEqualTo(1);
+		assertThat(d.addDay(0)).isSameAs(d);
+		// 不可变
+		assertThat(d.toDateTimeString()).isEqualTo("2020-01-31 12:00:00");
+
+		final int[] fields = { YEAR, MONTH, Calendar.DATE, HOUR_OF_DAY, MINUTE, SECOND, MILLISECOND };
+		final Random random = new Random(1);
+		for (long time : randomTimes(1000)) {
+			final EpochDate e = EpochDate.of(time, NEW_YORK);
+			for (int field : fields) {
+				final int amount = random.nextInt(100) - 50;
+				final EasyDate expected = new EasyDate(time, NEW_YORK);
+				expected.getCalendar().add(field, amount);
+				assertThat(e.add(field, amount).getTime()).as("add(%s, %s): %s", field, amount, e).isEqualTo(expected.getTime());
+			}
+		}
+	}
+
+	@Test
+	public void calcDifference() {
+		final int[] fields = { YEAR, MONTH, Calendar.DATE, HOUR_OF_DAY, MINUTE, SECOND };
+		final long[] times = randomTimes(300);
+		for (int i = 1; i < times.length; i++) {
+			final EpochDate a = EpochDate.of(times[i - 1], GMT8);
+			final long b = i % 10 == 0 ? a.addMonth(i % 7 - 3).getTime() : times[i];
+			for (int field : fields) {
+				for (RoundingMode mode : RoundingMode.values()) {
+					if (mode == RoundingMode.UNNECESSARY) {
+						continue;
+					}
+					final long expected = new EasyDate(a.getTime(), GMT8).calcDifference(new Date(b), field, mode);
+					assertThat(a.calcDifference(EpochDate.of(b, GMT8), field, mode)).as("%s, %s, %s, %s", a, new Date(b), field, mode).isEqualTo(expected);
+					assertThat(a.calcDifference(new Date(b), field, mode)).isEqualTo(expected);
+				}
+			}
+		}
+		final EpochDate a = EpochDate.of(2020, 1, 1);
+		assertThat(a.calcDifference(EpochDate.of(2019, 12, 31))).isEqualTo(1);
+		assertThat(a.calcDifference(EpochDate.of(2019, 1, 1), YEAR)).isEqualTo(1);
+		assertThat(a.calcDifference(a.addTime(1), MONTH)).isEqualTo(-1);
+	}
+
+	@Test
+	public void conversions() {
+		final EpochDate d = EpochDate.of(BASE_TIME, NEW_YORK);
+		assertThat(d.toDate()).isEqualTo(new Date(BASE_TIME));
+		assertThat(d.toInstant()).isEqualTo(Instant.ofEpochMilli(BASE_TIME));
+		assertThat(d.getZoneId()).isEqualTo(ZoneId.of("America/New_York"));
+		assertThat(d.toZonedDateTime()).isEqualTo(ZonedDateTime.of(2009, 2, 13, 18, 31, 30, 0, ZoneId.of("America/New_York")));
+		assertThat(d.toLocalDateTime()).isEqualTo(LocalDateTime.of(2009, 2, 13, 18, 31, 30));
+		assertThat(d.toLocalDate()).isEqualTo(LocalDate.of(2009, 2, 13));
+
+		final EasyDate easyDate = d.toEasyDate();
+		assertThat(easyDate.getTime()).isEqualTo(BASE_TIME);
+		assertThat(easyDate.getTimeZone().getID()).isEqualTo("America/New_York");
+		assertThat(easyDate.toEpochDate()).isEqualTo(d);
+		assertThat(EpochDate.of(easyDate)).isEqualTo(d);
+		assertThat(EpochDate.of(d.toZonedDateTime())).isEqualTo(d);
+		assertThat(EpochDate.of(d.toInstant(), ZoneId.of("America/New_York"))).isEqualTo(d);
+		assertThat(d.withTimeZone(GMT8)).isNotEqualTo(d).isEqualByComparingTo(d);
+		assertThat(d.withTimeZone(GMT8).getDay()).isEqualTo(14);
+
+		assertThatThrownBy(() -> EpochDate.of(2019, 2, 29)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -4,13 +4,17 @@ import java.io.*;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.util.Map;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class FileXTest {
 
@@ -619,4 +623,169 @@ public class FileXTest {
 		assertThrows(AccessDeniedException.class, () -> FileX.moveFile(src, dest, true));
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void readContentWithCharset() throws IOException {
+		File file = tempDir.resolve("content.txt").toFile();
+		Files.write(file.toPath(), "Hello\r\nWorld 中文\n".getBytes(StandardCharsets.UTF_8));
+		assertEquals("Hello\r\nWorld 中文\n", FileX.readContent(file, StandardCharsets.UTF_8));
+
+		Files.write(file.toPath(), "caf\u00e9".getBytes(StandardCharsets.ISO_8859_1));
+		assertEquals("caf\u00e9", FileX.readContent(file, StandardCharsets.ISO_8859_1));
+
+		Files.write(file.toPath(), new byte[0]);
+		assertEquals("", FileX.readContent(file, StandardCharsets.UTF_8));
+
+		// 需要多次读取的大文件
+		StringBuilder sb = new StringBuilder((1 << 20) + 32);
+		while (sb.length() <= 1 << 20) {
+			sb.append("0123456789abcdef中\n");
+		}
+		Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+		assertEquals(sb.toString(), FileX.readContent(file, StandardCharsets.UTF_8));
+
+		assertThrows(NoSuchFileException.class, () -> FileX.readContent(tempDir.resolve("missing.txt").toFile(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void lineIterator() throws IOException {
+		File file = tempDir.resolve("lines.txt").toFile();
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			sb.append("line-").append(i).append(i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\n" : "\r");
+		}
+		sb.append("\n\nlast");
+		Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+		List<String> expected = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath())) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				expected.add(line);
+			}
+		}
+		List<String> actual = new ArrayList<>();
+		try (FileX.LineIterator it = FileX.lineIterator(file, StandardCharsets.UTF_8)) {
+			while (it.hasNext()) {
+				actual.add(it.next().toString());
+			}
+			assertThrows(NoSuchElementException.class, it::next);
+		}
+		assertEquals(expected, actual);
+
+		try (Stream<CharSequence> lines = FileX.lines(file, StandardCharsets.UTF_8)) {
+			assertEquals(expected.size(), lines.filter(line -> line.length() > 0).count() + 2);
+		}
+		assertEquals(String.join("\n", expected), FileX.readContent(file));
+	}
+
+	@Test
+	public void copyFileInParallel() throws Exception {
+		File src = tempDir.resolve("big.bin").toFile();
+		byte[] data = new byte[100_003];
+		new Random(1).nextBytes(data);
+		Files.write(src.toPath(), data);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			File dest = tempDir.resolve("copy/big.bin").toFile();
+			FileX.copyFileInParallel(src, dest, false, executor, 4096);
+			assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+
+			assertThrows(FileAlreadyExistsException.class, () -> FileX.copyFileInParallel(src, dest, false, executor));
+
+			Files.write(dest.toPath(), new byte[200_000]);
+			FileX.copyFileInParallel(src, dest, true, executor, 1 << 20); // 不足两个分块，直接复制
+			assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+		} finally {
+			executor.shutdown();
+		}
+
+		// 线程池拒绝执行部分分块任务时，等待已提交的任务结束后再删除目标文件
+		ExecutorService bounded = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+		try {
+			File dest = tempDir.resolve("rejected.bin").toFile();
+			assertThrows(RejectedExecutionException.class, () -> FileX.copyFileInParallel(src, dest, false, bounded, 4096));
+			assertFalse(dest.exists());
+		} finally {
+			bounded.shutdown();
+		}
+	}
+
+	@Test
+	public void copyAndMoveAsync() throws Exception {
+		File src = tempDir.resolve("async.txt").toFile();
+		Files.write(src.toPath(), "async".getBytes(StandardCharsets.UTF_8));
+		File dir = subdir("asyncDir").toFile();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			File copy = FileX.copyFileAsync(src, tempDir.resolve("async-copy.txt").toFile(), false, executor).get();
+			assertEquals("async", FileX.readContent(copy, StandardCharsets.UTF_8));
+
+			ExecutionException e = assertThrows(ExecutionException.class, () -> FileX.copyFileAsync(src, copy, false, executor).get());
+			assertInstanceOf(FileAlreadyExistsException.class, e.getCause());
+
+			File moved = FileX.moveFileToDirectoryAsync(copy, dir, false, executor).get();
+			assertEquals(new File(dir, copy.getName()), moved);
+			assertTrue(moved.exists());
+			assertFalse(copy.exists());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void writeContentAtomically() throws IOException {
+		File file = tempDir.resolve("atomic/config.txt").toFile();
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 20_000; i++) {
+			sb.append("配置项").append(i).append('\n');
+		}
+		FileX.writeContentAtomically(file, sb, StandardCharsets.UTF_8);
+		assertEquals(sb.toString(), FileX.readContent(file, StandardCharsets.UTF_8));
+
+		FileX.writeContentAtomically(file, "short", StandardCharsets.UTF_8);
+		assertEquals("short", FileX.readContent(file, StandardCharsets.UTF_8));
+
+		byte[] data = new byte[200_001];
+		new Random(2).nextBytes(data);
+		FileX.writeContentAtomically(file, data);
+		assertArrayEquals(data, Files.readAllBytes(file.toPath()));
+
+		FileX.writeContentAtomically(file, new ByteArrayInputStream(data, 1, 100_000));
+		assertArrayEquals(Arrays.copyOfRange(data, 1, 100_001), Files.readAllBytes(file.toPath()));
+
+		// 不应残留临时文件
+		assertArrayEquals(new String[] { "config.txt" }, file.getParentFile().list());
+
+		// 写入失败时，原文件保持不变
+		assertThrows(IOException.class, () -> FileX.writeContentAtomically(file, new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("broken");
+			}
+		}));
+		assertArrayEquals(Arrays.copyOfRange(data, 1, 100_001), Files.readAllBytes(file.toPath()));
+		assertEquals(1, file.getParentFile().list().length);
+	}
+
+	@Test
+	public void writeContentAtomically_KeepsPermissions() throws IOException {
+		Path path = tempDir.resolve("perm.txt");
+		assumeTrue(Files.getFileAttributeView(tempDir, PosixFileAttributeView.class) != null);
+		Files.write(path, "old".getBytes(StandardCharsets.UTF_8));
+		Set<PosixFilePermission> perms = PosixFilePermissions.fromString("rw-r--r--");
+		Files.setPosixFilePermissions(path, perms);
+
+		FileX.writeContentAtomically(path.toFile(), "new", StandardCharsets.UTF_8);
+		assertEquals("new", FileX.readContent(path.toFile(), StandardCharsets.UTF_8));
+		assertEquals(perms, Files.getPosixFilePermissions(path));
+
+		// 新文件以默认权限创建，而不是临时文件的 rw-------
+		Path created = tempDir.resolve("created.txt");
+		Path plain = Files.createFile(tempDir.resolve("plain.txt"));
+		FileX.writeContentAtomically(created.toFile(), "new", StandardCharsets.UTF_8);
+		assertEquals(Files.getPosixFilePermissions(plain), Files.getPosixFilePermissions(created));
+	}
+
+}
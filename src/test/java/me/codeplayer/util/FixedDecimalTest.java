@@ -0,0 +1,159 @@
+package me.codeplayer.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+public class FixedDecimalTest implements WithAssertions {
+
+	static final long[] VALUES = { 0, 1, -1, 5, -5, 15, -15, 25, -25, 1234, -1234, 999_999, 1L << 40, -(1L << 40), Long.MAX_VALUE / 100, Long.MAX_VALUE, Long.MIN_VALUE + 1, Long.MIN_VALUE };
+	static final RoundingMode[] MODES = { RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN };
+
+	static FixedDecimal[] randomValues(int count) {
+		final Random random = new Random(count);
+		final FixedDecimal[] values = new FixedDecimal[count];
+		for (int i = 0; i < count; i++) {
+			final int scale = random.nextInt(7);
+			final long unscaled = i < VALUES.length ? VALUES[i] : i % 3 == 0 ? random.nextLong() : random.nextInt(2_000_000) - 1_000_000;
+			values[i] = FixedDecimal.ofUnscaled(unscaled, scale);
+		}
+		return values;
+	}
+
+	void assertSame(FixedDecimal actual, BigDecimal expected) {
+		assertThat(actual.toBigDecimal()).isEqualTo(expected);
+		assertThat(actual.isCompact()).isEqualTo(expected.unscaledValue().bitLength() < 64);
+		assertThat(actual).isEqualTo(FixedDecimal.of(expected)).hasSameHashCodeAs(FixedDecimal.of(expected));
+		assertThat(actual.toString()).isEqualTo(expected.toPlainString());
+	}
+
+	@Test
+	public void valueOf() {
+		assertThat(FixedDecimal.valueOf("12.345", 2, RoundingMode.HALF_UP)).hasToString("12.35");
+		assertThat(FixedDecimal.valueOf("-12.345", 2, RoundingMode.HALF_EVEN)).hasToString("-12.34");
+		assertThat(FixedDecimal.valueOf(0.1, 3, RoundingMode.UNNECESSARY)).hasToString("0.100");
+		assertThat(FixedDecimal.valueOf(-0.05, 1, RoundingMode.HALF_UP)).hasToString("-0.1");
+		assertThat(FixedDecimal.valueOf(12, 2)).hasToString("12.00");
+		assertThat(FixedDecimal.valueOf(12.0, 2, RoundingMode.UNNECESSARY)).isEqualTo(FixedDecimal.ofUnscaled(1200, 2));
+		assertThat(FixedDecimal.ofUnscaled(-5, 4)).hasToString("-0.0005");
+		assertThat(FixedDecimal.ofUnscaled(Long.MIN_VALUE, 18)).hasToString("-9.223372036854775808");
+
+		final FixedDecimal big = FixedDecimal.valueOf(Long.MAX_VALUE, 2);
+		assertThat(big.isCompact()).isFalse();
+		assertThat(big).hasToString(Long.MAX_VALUE + ".00");
+		assertThatThrownBy(big::unscaledValue).isInstanceOf(ArithmeticException.class);
+
+		assertThatThrownBy(() -> FixedDecimal.ofUnscaled(1, 19)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> FixedDecimal.valueOf(1, -1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> FixedDecimal.valueOf("0.125", 2, RoundingMode.UNNECESSARY)).isInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	public void addAndSubtract() {
+		final FixedDecimal[] values = randomValues(200);
+		for (FixedDecimal a : values) {
+			for (FixedDecimal b : values) {
+				assertSame(a.add(b), a.toBigDecimal().add(b.toBigDecimal()));
+				assertSame(a.subtract(b), a.toBigDecimal().subtract(b.toBigDecimal()));
+				assertThat(a.compareTo(b)).isEqualTo(a.toBigDecimal().compareTo(b.toBigDecimal()));
+			}
+			assertSame(a.negate(), a.toBigDecimal().negate());
+			assertSame(a.abs(), a.toBigDecimal().abs());
+			assertSame(a.add(3), a.toBigDecimal().add(BigDecimal.valueOf(3)));
+			assertSame(a.subtract(3), a.toBigDecimal().subtract(BigDecimal.valueOf(3)));
+		}
+		// 溢出后恢复为 long 表示
+		final FixedDecimal max = FixedDecimal.ofUnscaled(Long.MAX_VALUE, 2);
+		final FixedDecimal overflow = max.add(FixedDecimal.ofUnscaled(1, 2));
+		assertThat(overflow.isCompact()).isFalse();
+		assertThat(overflow.subtract(FixedDecimal.ofUnscaled(1, 2))).isEqualTo(max);
+		assertThat(overflow.subtract(FixedDecimal.ofUnscaled(1, 2)).isCompact()).isTrue();
+	}
+
+	@Test
+	public void multiplyAndDivide() {
+		final FixedDecimal[] values = randomValues(120);
+		for (FixedDecimal a : values) {
+			for (FixedDecimal b : values) {
+				for (RoundingMode mode : MODES) {
+					assertSame(a.multiply(b, mode), a.toBigDecimal().multiply(b.toBigDecimal()).setScale(a.scale(), mode));
+					if (b.signum() != 0) {
+						assertSame(a.divide(b, mode), a.toBigDecimal().divide(b.toBigDecimal(), a.scale(), mode));
+					}
+				}
+			}
+			for (long n : VALUES) {
+				assertSame(a.multiply(n), a.toBigDecimal().multiply(BigDecimal.valueOf(n)));
+				if (n != 0) {
+					for (RoundingMode mode : MODES) {
+						assertSame(a.divide(n, mode), a.toBigDecimal().divide(BigDecimal.valueOf(n), a.scale(), mode));
+					}
+				}
+			}
+		}
+		final FixedDecimal price = FixedDecimal.valueOf("12.35", 2, RoundingMode.UNNECESSARY);
+		assertThat(price.multiply(FixedDecimal.valueOf("0.5", 1, RoundingMode.UNNECESSARY))).hasToString("6.18");
+		assertThat(price.divide(3, RoundingMode.DOWN)).hasToString("4.11");
+		assertThatThrownBy(() -> price.divide(FixedDecimal.valueOf(0, 2), RoundingMode.HALF_UP)).isInstanceOf(ArithmeticException.class);
+		assertThatThrownBy(() -> price.divide(0, RoundingMode.HALF_UP)).isInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	public void setScale() {
+		for (FixedDecimal a : randomValues(300)) {
+			for (int scale = 0; scale <= FixedDecimal.MAX_SCALE; scale += 3) {
+				for (RoundingMode mode : MODES) {
+					assertSame(a.setScale(scale, mode), a.toBigDecimal().setScale(scale, mode));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void divideAndRound() {
+		final long[] divisors = { 1, -1, 2, -2, 4, 12, -12, 1000, Long.MAX_VALUE, Long.MIN_VALUE };
+		for (long dividend : VALUES) {
+			for (long divisor : divisors) {
+				if (dividend == Long.MIN_VALUE && divisor == -1) {
+					continue;
+				}
+				for (RoundingMode mode : RoundingMode.values()) {
+					final long expected;
+					try {
+						expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, mode).longValueExact();
+					} catch (ArithmeticException e) {
+						assertThatThrownBy(() -> FixedDecimal.divideAndRound(dividend, divisor, mode)).isInstanceOf(ArithmeticException.class);
+						continue;
+					}
+					assertThat(FixedDecimal.divideAndRound(dividend, divisor, mode)).as("%s / %s, %s", dividend, divisor, mode).isEqualTo(expected);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void conversions() {
+		final FixedDecimal d = FixedDecimal.valueOf("-1234.5678", 4, RoundingMode.UNNECESSARY);
+		assertThat(d.unscaledValue()).isEqualTo(-12345678L);
+		assertThat(d.scale()).isEqualTo(4);
+		assertThat(d.longValue()).isEqualTo(-1234L);
+		assertThat(d.intValue()).isEqualTo(-1234);
+		assertThat(d.doubleValue()).isEqualTo(-1234.5678);
+		assertThat(d.floatValue()).isEqualTo(-1234.5678F);
+		assertThat(d.toArith().add(1).toString()).isEqualTo("-1233.5678");
+		assertThat(new Arith("0.125").toFixedDecimal(2, RoundingMode.HALF_EVEN)).hasToString("0.12");
+
+		// 与 BigDecimal 一致：标度不同时不相等，但比较结果为 0
+		final FixedDecimal a = FixedDecimal.ofUnscaled(10, 1), b = FixedDecimal.ofUnscaled(100, 2);
+		assertThat(a).isNotEqualTo(b).isEqualByComparingTo(b);
+
+		for (FixedDecimal v : randomValues(500)) {
+			assertThat(v.doubleValue()).isEqualTo(v.toBigDecimal().doubleValue());
+			assertThat(v.longValue()).isEqualTo(v.toBigDecimal().longValue());
+		}
+	}
+
+}
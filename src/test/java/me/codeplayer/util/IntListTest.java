@@ -0,0 +1,45 @@
+package me.codeplayer.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntListTest {
+
+	@Test
+	public void intList() {
+		IntList list = new IntList(0);
+		for (int i = 0; i < 100; i++) {
+			list.add(99 - i);
+		}
+		assertEquals(100, list.size());
+		assertEquals(99, list.get(0));
+		assertEquals(0, list.get(99));
+		assertEquals(99, list.set(0, -1));
+		assertEquals(-1, list.removeAt(0));
+		assertEquals(99, list.size());
+		assertEquals(97, list.indexOf(1));
+		assertFalse(list.contains(99));
+
+		list.sort();
+		assertEquals(0, list.get(0));
+		assertEquals(98 * 99 / 2, list.stream().sum());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(99));
+
+		assertEquals(IntList.of(1, 2, 3), new IntList().addAll(1, 2).add(3));
+		assertEquals("[1, 2, 3]", IntList.of(1, 2, 3).toString());
+		assertArrayEquals(new int[] { 1, 2, 3 }, IntList.of(1, 2, 3).trimToSize().toArray());
+	}
+
+	@Test
+	public void longList() {
+		LongList list = LongList.of(Long.MAX_VALUE, 1L);
+		list.addAll(LongList.of(2L, 3L));
+		assertEquals(4, list.size());
+		assertEquals(Long.MAX_VALUE, list.removeAt(0));
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, list.toArray());
+		assertEquals(LongList.of(1L, 2L, 3L).hashCode(), list.hashCode());
+		assertEquals(0, list.clear().toArray().length);
+	}
+
+}
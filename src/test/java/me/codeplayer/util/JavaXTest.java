@@ -1,6 +1,7 @@
 package me.codeplayer.util;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.jupiter.api.Test;
@@ -89,6 +90,34 @@ public class JavaXTest {
 		assertFalse(JavaX.isASCII("今日はピザを食べたい！한국 치킨도 맛있어요. Mas eu realmente adoro sushi!"));
 	}
 
+	@Test
+	public void scanKernels() {
+		final Random random = new Random(1);
+		final byte[] alphabet = " \t\n09a%_\\'\u00a0\u00ff".getBytes(StandardCharsets.ISO_8859_1);
+		for (int n = 0; n < 2000; n++) {
+			final byte[] bytes = new byte[random.nextInt(40)];
+			// 大部分字节相同，以便覆盖跳过整个 long 的情况
+			final byte fill = alphabet[random.nextInt(alphabet.length)];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = random.nextInt(8) == 0 ? alphabet[random.nextInt(alphabet.length)] : fill;
+			}
+			final int from = random.nextInt(bytes.length + 1), to = from + random.nextInt(bytes.length - from + 1);
+			int nonBlank = -1, blank = -1, any = -1, nonDigit = -1;
+			for (int i = to - 1; i >= from; i--) {
+				final int ch = bytes[i] & 0xFF;
+				nonBlank = ch > ' ' ? i : nonBlank;
+				blank = ch <= ' ' ? i : blank;
+				any = "\\'_%;".indexOf(ch) != -1 ? i : any;
+				nonDigit = ch < '0' || ch > '9' ? i : nonDigit;
+			}
+			assertEquals(nonBlank, JavaX.indexOfNonBlank(bytes, from, to));
+			assertEquals(blank, JavaX.indexOfBlank(bytes, from, to));
+			assertEquals(any, JavaX.indexOfAny(bytes, from, to, "\\'_%;"));
+			assertEquals(nonDigit, JavaX.indexOfNonDigit(bytes, from, to));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> JavaX.indexOfNonDigit(new byte[8], 1, 9));
+	}
+
 	@Test
 	@EnabledOnJre(JRE.JAVA_8)
 	public void getUtf8Bytes() {
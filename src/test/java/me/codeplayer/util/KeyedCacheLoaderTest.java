@@ -0,0 +1,206 @@
+package me.codeplayer.util;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyedCacheLoaderTest {
+
+	@Test
+	public void lru() {
+		final AtomicInteger loads = new AtomicInteger();
+		KeyedCacheLoader<Integer, String> cache = KeyedCacheLoader.<Integer, String>of(3, k -> {
+			loads.incrementAndGet();
+			return "v" + k;
+		}).eviction(KeyedCacheLoader.Eviction.LRU);
+
+		assertEquals("v1", cache.get(1));
+		assertEquals("v2", cache.get(2));
+		assertEquals("v3", cache.get(3));
+		assertEquals(3, loads.get());
+
+		assertEquals("v1", cache.get(1)); // 1 成为最近访问
+		cache.get(4); // 淘汰 2
+		cache.cleanUp();
+
+		assertEquals(3, cache.size());
+		assertNull(cache.getIfPresent(2));
+		assertEquals("v1", cache.getIfPresent(1));
+		assertEquals("v4", cache.getIfPresent(4));
+		assertEquals(4, loads.get());
+	}
+
+	@Test
+	public void tinyLfuKeepsHotKeys() {
+		KeyedCacheLoader<Integer, Integer> cache = KeyedCacheLoader.of(100, k -> k);
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 50; i++) {
+				cache.get(i);
+			}
+			cache.cleanUp();
+		}
+		// 大量只访问一次的 Key 不应冲刷掉热点数据
+		for (int i = 1000; i < 11000; i++) {
+			cache.get(i);
+		}
+		cache.cleanUp();
+
+		assertTrue(cache.size() <= 100);
+		int hits = 0;
+		for (int i = 0; i < 50; i++) {
+			if (cache.getIfPresent(i) != null) {
+				hits++;
+			}
+		}
+		assertTrue(hits >= 40, "hits = " + hits);
+	}
+
+	@Test
+	public void maximumWeight() {
+		KeyedCacheLoader<String, String> cache = KeyedCacheLoader.<String, String>of(10, k -> k)
+				.weigher((k, v) -> v.length());
+		cache.get("12345");
+		cache.get("1234");
+		assertEquals(9, cache.weightedSize());
+		cache.get("123");
+		cache.cleanUp();
+		assertTrue(cache.weightedSize() <= 10);
+	}
+
+	@Test
+	public void expireAfterWrite() {
+		final AtomicLong ticker = new AtomicLong();
+		final AtomicInteger loads = new AtomicInteger();
+		KeyedCacheLoader<String, Integer> cache = KeyedCacheLoader.<String, Integer>of(10, k -> loads.incrementAndGet())
+				.expireAfterWrite(10, TimeUnit.NANOSECONDS)
+				.ticker(ticker::get);
+
+		assertEquals(1, cache.get("a"));
+		ticker.set(5);
+		assertEquals(1, cache.get("a"));
+		assertFalse(cache.flushRequired("a"));
+
+		ticker.set(10);
+		assertTrue(cache.flushRequired("a"));
+		assertNull(cache.getIfPresent("a"));
+		assertEquals(2, cache.get("a"));
+	}
+
+	@Test
+	public void expireAfterAccess() {
+		final AtomicLong ticker = new AtomicLong();
+		final AtomicInteger loads = new AtomicInteger();
+		KeyedCacheLoader<String, Integer> cache = KeyedCacheLoader.<String, Integer>of(10, k -> loads.incrementAndGet())
+				.expireAfterAccess(10, TimeUnit.NANOSECONDS)
+				.ticker(ticker::get);
+
+		assertEquals(1, cache.get("a"));
+		ticker.set(8);
+		assertEquals(1, cache.get("a"));
+		ticker.set(16);
+		assertEquals(1, cache.get("a"));
+		ticker.set(30);
+		assertEquals(2, cache.get("a"));
+	}
+
+	@Test
+	public void flush() {
+		final AtomicInteger loads = new AtomicInteger();
+		KeyedCacheLoader<String, Integer> cache = KeyedCacheLoader.of(10, k -> loads.incrementAndGet());
+		CacheLoader<Integer> loader = cache.loaderOf("a");
+
+		assertTrue(loader.flushRequired());
+		assertEquals(1, loader.get());
+		assertFalse(loader.flushRequired());
+
+		assertNull(loader.flush(true));
+		assertTrue(loader.flushRequired());
+		assertEquals(2, loader.get());
+
+		assertEquals(3, loader.flush(false));
+		assertEquals(3, cache.get("a"));
+
+		cache.invalidateAll();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.weightedSize());
+	}
+
+	@Test
+	public void putWhileInvalidated() {
+		final AtomicReference<KeyedCacheLoader<String, String>> ref = new AtomicReference<>();
+		final AtomicInteger weighs = new AtomicInteger();
+		// 第一次计算权重时（即：正在写入时），并发地移除该缓存项
+		final KeyedCacheLoader<String, String> cache = KeyedCacheLoader.<String, String>of(10, k -> k).weigher((k, v) -> {
+			if (weighs.getAndIncrement() == 0) {
+				ref.get().invalidate(k);
+			}
+			return 1;
+		});
+		ref.set(cache);
+		cache.put("a", "put");
+		assertEquals("put", cache.getIfPresent("a"));
+		assertEquals(2, weighs.get());
+		assertEquals(1, cache.weightedSize());
+	}
+
+	@Test
+	public void loadFailure() {
+		KeyedCacheLoader<String, Integer> cache = KeyedCacheLoader.of(10, k -> {
+			throw new IllegalStateException(k);
+		});
+		assertThrows(IllegalStateException.class, () -> cache.get("a"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void concurrentLoadsOncePerKey() throws Exception {
+		final AtomicInteger loads = new AtomicInteger();
+		final KeyedCacheLoader<Integer, Integer> cache = KeyedCacheLoader.of(1000, k -> {
+			loads.incrementAndGet();
+			return k * 2;
+		});
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final CountDownLatch latch = new CountDownLatch(1);
+			final Future<?>[] futures = new Future[8];
+			for (int t = 0; t < futures.length; t++) {
+				futures[t] = executor.submit(() -> {
+					latch.await();
+					for (int i = 0; i < 500; i++) {
+						assertEquals(i * 2, cache.get(i));
+					}
+					return null;
+				});
+			}
+			latch.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(500, loads.get());
+		assertEquals(500, cache.weightedSize());
+	}
+
+	@Test
+	public void stats() {
+		KeyedCacheLoader<Integer, Integer> cache = KeyedCacheLoader.<Integer, Integer>of(10, k -> k).recordStats();
+		cache.get(1);
+		cache.get(1);
+		cache.get(2);
+		assertNull(cache.getIfPresent(3));
+
+		CacheStats stats = cache.loaderOf(1).stats();
+		assertEquals(1, stats.hitCount());
+		assertEquals(3, stats.missCount());
+		assertEquals(2, stats.loadSuccessCount());
+		assertEquals(0, stats.loadFailureCount());
+	}
+
+}
@@ -0,0 +1,81 @@
+package me.codeplayer.util;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongHashSetTest {
+
+	@Test
+	public void basic() {
+		LongHashSet set = LongHashSet.of(1, 2, 3, 0, 2);
+		assertEquals(4, set.size());
+		assertTrue(set.contains(0));
+		assertTrue(set.contains(3));
+		assertFalse(set.contains(4));
+
+		assertFalse(set.add(1));
+		assertTrue(set.add(Long.MIN_VALUE));
+		assertTrue(set.remove(0));
+		assertFalse(set.remove(0));
+		assertFalse(set.contains(0));
+		assertEquals(4, set.size());
+
+		long[] array = set.toArray();
+		Arrays.sort(array);
+		assertArrayEquals(new long[] { Long.MIN_VALUE, 1, 2, 3 }, array);
+		assertEquals(LongHashSet.of(3, 2, 1, Long.MIN_VALUE), set);
+
+		set.clear();
+		assertTrue(set.isEmpty());
+		assertEquals("[]", set.toString());
+		assertFalse(set.iterator().hasNext());
+	}
+
+	@Test
+	public void randomOperationsMatchHashSet() {
+		final Random random = new Random(42);
+		final LongHashSet set = new LongHashSet(4);
+		final Set<Long> expected = new HashSet<>();
+		for (int i = 0; i < 50_000; i++) {
+			final long key = random.nextInt(2000) - 1000L;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), set.remove(key));
+			} else {
+				assertEquals(expected.add(key), set.add(key));
+			}
+		}
+		assertEquals(expected.size(), set.size());
+		for (long key = -1000; key < 1000; key++) {
+			assertEquals(expected.contains(key), set.contains(key));
+		}
+		final Set<Long> iterated = new HashSet<>();
+		for (PrimitiveIterator.OfLong it = set.iterator(); it.hasNext(); ) {
+			iterated.add(it.nextLong());
+		}
+		assertEquals(expected, iterated);
+	}
+
+	@Test
+	public void intHashSet() {
+		final Random random = new Random(7);
+		final IntHashSet set = new IntHashSet();
+		final Set<Integer> expected = new HashSet<>();
+		for (int i = 0; i < 50_000; i++) {
+			final int key = random.nextInt(2000) - 1000;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), set.remove(key));
+			} else {
+				assertEquals(expected.add(key), set.add(key));
+			}
+		}
+		assertEquals(expected.size(), set.size());
+		final Set<Integer> iterated = new HashSet<>();
+		set.forEach(iterated::add);
+		assertEquals(expected, iterated);
+		assertEquals(3, IntHashSet.of(0, 5, 5, Integer.MAX_VALUE).size());
+	}
+
+}
@@ -0,0 +1,84 @@
+package me.codeplayer.util;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongObjectHashMapTest {
+
+	@Test
+	public void basic() {
+		LongObjectHashMap<String> map = new LongObjectHashMap<>();
+		assertNull(map.put(0, "zero"));
+		assertNull(map.put(1, "one"));
+		assertEquals("one", map.put(1, "ONE"));
+		assertEquals(2, map.size());
+		assertEquals("zero", map.get(0));
+		assertEquals("ONE", map.get(1));
+		assertNull(map.get(2));
+		assertEquals("x", map.getOrDefault(2, "x"));
+		assertTrue(map.containsKey(0));
+
+		assertEquals("ONE", map.putIfAbsent(1, "1"));
+		assertEquals("two", map.computeIfAbsent(2, k -> "two"));
+		assertNull(map.computeIfAbsent(3, k -> null));
+		assertFalse(map.containsKey(3));
+
+		assertEquals("zero", map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertEquals(LongHashSet.of(1, 2), map.keySet());
+		assertEquals(2, map.values().size());
+
+		assertThrows(NullPointerException.class, () -> map.put(5, null));
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals("{}", map.toString());
+	}
+
+	@Test
+	public void randomOperationsMatchHashMap() {
+		final Random random = new Random(42);
+		final LongObjectHashMap<Long> map = new LongObjectHashMap<>(2);
+		final Map<Long, Long> expected = new HashMap<>();
+		for (int i = 0; i < 50_000; i++) {
+			final long key = (random.nextInt(1000) - 500L) * 1_000_000_007L;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), map.remove(key));
+			} else {
+				assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		final Map<Long, Long> iterated = new HashMap<>();
+		map.forEach(iterated::put);
+		assertEquals(expected, iterated);
+	}
+
+	@Test
+	public void equalsAndHashCode() {
+		final LongObjectHashMap<String> a = new LongObjectHashMap<>(2), b = new LongObjectHashMap<>(64);
+		final Map<Long, String> expected = new HashMap<>();
+		for (long key = -50; key <= 50; key++) {
+			a.put(key, "v" + key);
+			expected.put(key, "v" + key);
+		}
+		for (long key = 50; key >= -50; key--) { // 插入顺序 和 容量 均不影响结果
+			b.put(key, "v" + key);
+		}
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertEquals(expected.hashCode(), a.hashCode());
+
+		b.put(0, "zero");
+		assertNotEquals(a, b);
+		b.put(0, "v0");
+		b.put(7, "x");
+		assertNotEquals(a, b);
+		b.remove(7);
+		assertNotEquals(a, b);
+		assertNotEquals(a, new LongHashSet());
+	}
+
+}
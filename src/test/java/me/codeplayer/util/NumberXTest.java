@@ -437,6 +437,11 @@ public class NumberXTest {
 		assertFalse(NumberX.isNumeric("123", 1, 1));
 		assertFalse(NumberX.isNumeric("123", 2, 1));
 		assertFalse(NumberX.isNumeric("123abc", 0, 6));
+		assertTrue(NumberX.isNumeric("12345678901234567890"));
+		assertTrue(NumberX.isNumeric("abc12345678901234567890", 3, 23));
+		assertFalse(NumberX.isNumeric("1234567890123456789/"));
+		assertFalse(NumberX.isNumeric("12345678:9012345678"));
+		assertFalse(NumberX.isNumber("12345678901234567890\u00b2"));
 		assertFalse(NumberX.isNumeric("123abc456", 0, 9));
 		assertFalse(NumberX.isNumeric("abc123", 0, 6));
 		assertFalse(NumberX.isNumeric("123abc", 0, 6));
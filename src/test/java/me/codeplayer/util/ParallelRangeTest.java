@@ -0,0 +1,52 @@
+package me.codeplayer.util;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelRangeTest {
+
+	static List<Integer> collect(int from, int to) {
+		final List<Integer> list = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	static List<Integer> concat(List<Integer> left, List<Integer> right) {
+		left.addAll(right);
+		return left;
+	}
+
+	@Test
+	public void reduce() {
+		assertEquals(Collections.emptyList(), ParallelRange.reduce(0, 10, ParallelRangeTest::collect, ParallelRangeTest::concat));
+		assertEquals(collect(0, 10_000), ParallelRange.reduce(10_000, 100, ParallelRangeTest::collect, ParallelRangeTest::concat));
+
+		assertFalse(ParallelRange.shouldSplit(100, 100));
+		assertFalse(ParallelRange.shouldSplit(1, 0));
+		assertEquals(ForkJoinPool.getCommonPoolParallelism() > 1, ParallelRange.shouldSplit(101, 100));
+	}
+
+	@Test
+	public void rangeTask() {
+		// 直接调用，以确保在单核环境下也能覆盖拆分与合并的逻辑
+		for (int leafSize : new int[] { 1, 7, 1024 }) {
+			final List<Integer> result = ForkJoinPool.commonPool().invoke(new ParallelRange.RangeTask<>(0, 5000, leafSize, ParallelRangeTest::collect, ParallelRangeTest::concat));
+			assertEquals(collect(0, 5000), result);
+		}
+	}
+
+	@Test
+	public void asRandomAccessList() {
+		final List<Integer> list = collect(0, 10);
+		assertSame(list, ParallelRange.asRandomAccessList(list));
+		assertEquals(list, ParallelRange.asRandomAccessList(new LinkedList<>(list)));
+		assertEquals(list, ParallelRange.asRandomAccessList(new LinkedHashSet<>(list)));
+	}
+
+}
@@ -0,0 +1,44 @@
+package me.codeplayer.util;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringBuilderRecyclerTest {
+
+	@Test
+	public void acquireAndRelease() {
+		StringBuilder sb = StringBuilderRecycler.acquire(32);
+		assertEquals(0, sb.length());
+		assertTrue(sb.capacity() >= 32);
+		sb.append("hello");
+		assertEquals("hello", StringBuilderRecycler.toStringAndRelease(sb));
+
+		StringBuilder reused = StringBuilderRecycler.acquire(8);
+		assertSame(sb, reused);
+		assertEquals(0, reused.length());
+		// 已借出的对象不会被重复借出
+		assertNotSame(reused, StringBuilderRecycler.acquire(8));
+		StringBuilderRecycler.release(reused);
+	}
+
+	@Test
+	public void oversizedBuilderIsDropped() {
+		StringBuilder huge = StringBuilderRecycler.acquire(StringBuilderRecycler.MAX_RETAINED_CAPACITY + 1);
+		StringBuilderRecycler.release(huge);
+		StringBuilder next = StringBuilderRecycler.acquire(0);
+		assertNotSame(huge, next);
+		StringBuilderRecycler.release(next);
+	}
+
+	@Test
+	public void nestedUsage() {
+		String joined = StringX.join(Arrays.asList("a", "b"), s -> StringX.join(new String[] { s, s }, "-"), ",");
+		assertEquals("a-a,b-b", joined);
+		assertEquals("a\\%b%", StringX.escapeSQLLike("a%b", false, true));
+		assertEquals("abc", StringX.escapeSQLLike("abc"));
+	}
+
+}
@@ -3,6 +3,7 @@ package me.codeplayer.util;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -142,6 +143,10 @@ public class StringXTest implements WithAssertions {
 		assertTrue(X.isBlank("\t"));
 		assertTrue(X.isBlank("\t\n"));
 		assertFalse(X.isBlank(" y  "));
+		// 较长的 Latin1 字符串
+		assertTrue(X.isBlank(" \t\r\n                        \u0000"));
+		assertFalse(X.isBlank("                        \u00a0  "));
+		assertFalse(X.isBlank("                      \u4e2d  "));
 	}
 
 	@Test
@@ -198,6 +203,9 @@ public class StringXTest implements WithAssertions {
 		assertEquals("codeplayer", StringX.trimAll("  code player"));
 		assertEquals("codeplayer", StringX.trimAll("code  player  "));
 		assertEquals("codeplayer", StringX.trimAll(" code player "));
+		final String noWhitespace = "code_player\u0000\u00a0code_player";
+		assertSame(noWhitespace, StringX.trimAll(noWhitespace));
+		assertEquals("code\u0000player,codeplayer", StringX.trimAll("code\u0000player, code\tplayer\u001f"));
 	}
 
 	@Test
@@ -264,6 +272,8 @@ public class StringXTest implements WithAssertions {
 		assertEquals("a\\'b\\_c\\%d\\;e", StringX.escapeSQLLike("a'b_c%d;e", false));
 		assertEquals("%a\\'b\\_c\\%d\\;e%", StringX.escapeSQLLike("a'b_c%d;e", true));
 		assertEquals("%abc", StringX.escapeSQLLike("abc", true, false));
+		assertEquals("%name\\_with\\%wildcards and \\'quotes\\'%", StringX.escapeSQLLike("name_with%wildcards and 'quotes'", true));
+		assertEquals("\\\\\\_prefix and a long suffix \\;", StringX.escapeSQLLike("\\_prefix and a long suffix ;"));
 		assertEquals("abc%", StringX.escapeSQLLike("abc", false, true));
 		assertEquals("%abc%", StringX.escapeSQLLike("abc", true));
 		assertEquals("%a\\'b\\_c\\%d\\;e%", StringX.escapeSQLLike("a'b_c%d;e", true, true));
@@ -509,6 +519,13 @@ public class StringXTest implements WithAssertions {
 			assertEquals((6 + 1) * 3 + 4, builder.capacity());
 			assertEquals("1,2,3", builder.toString());
 		}
+		{
+			// 外部回调持有的 StringBuilder 不能被回收复用
+			StringBuilder[] holder = new StringBuilder[1];
+			assertEquals("1,2,3", StringX.joinAppend(list, (sb, t) -> (holder[0] = sb).append(t.intValue()), ","));
+			assertEquals("a-b", StringX.joins(Arrays.asList("a", "b"), "-"));
+			assertEquals("1,2,3", holder[0].toString());
+		}
 	}
 
 	@Test
@@ -568,6 +585,45 @@ public class StringXTest implements WithAssertions {
 		assertEquals(expected, StringX.splitCount(values, sep));
 	}
 
+	@Test
+	void splitAsIntArray() {
+		assertSame(ArrayUtils.EMPTY_INT_ARRAY, StringX.splitAsIntArray(null));
+		assertSame(ArrayUtils.EMPTY_INT_ARRAY, StringX.splitAsIntArray(""));
+		assertSame(ArrayUtils.EMPTY_INT_ARRAY, StringX.splitAsIntArray(",,"));
+
+		assertArrayEquals(new int[] { 1, 22, 333 }, StringX.splitAsIntArray("1,22,333"));
+		assertArrayEquals(new int[] { 1, 22, 333 }, StringX.splitAsIntArray(",1,,22,333,"));
+		assertArrayEquals(new int[] { -5, 6, Integer.MIN_VALUE, Integer.MAX_VALUE }, StringX.splitAsIntArray("-5;+6;-2147483648;2147483647", ';'));
+
+		assertThrows(NumberFormatException.class, () -> StringX.splitAsIntArray("1,a"));
+		assertThrows(NumberFormatException.class, () -> StringX.splitAsIntArray("1,2147483648"));
+		assertThrows(NumberFormatException.class, () -> StringX.splitAsIntArray("1,-"));
+	}
+
+	@Test
+	void splitAsLongArray() {
+		assertSame(ArrayUtils.EMPTY_LONG_ARRAY, StringX.splitAsLongArray(null));
+		assertSame(ArrayUtils.EMPTY_LONG_ARRAY, StringX.splitAsLongArray(""));
+
+		assertArrayEquals(new long[] { 1L, 3000000000L }, StringX.splitAsLongArray("1,,3000000000"));
+		assertArrayEquals(new long[] { Long.MIN_VALUE, Long.MAX_VALUE }, StringX.splitAsLongArray("-9223372036854775808|9223372036854775807", '|'));
+
+		assertThrows(NumberFormatException.class, () -> StringX.splitAsLongArray("9223372036854775808"));
+		assertThrows(NumberFormatException.class, () -> StringX.splitAsLongArray("1, 2"));
+	}
+
+	@Test
+	void splitAsIntOrLongConsumer() {
+		final List<Integer> ints = new ArrayList<>();
+		assertEquals(3, StringX.splitAsInt("7,,8,9", ',', ints::add));
+		assertEquals(Arrays.asList(7, 8, 9), ints);
+		assertEquals(0, StringX.splitAsInt(null, ',', ints::add));
+
+		final List<Long> longs = new ArrayList<>();
+		assertEquals(2, StringX.splitAsLong("10000000000 -1", ' ', longs::add));
+		assertEquals(Arrays.asList(10000000000L, -1L), longs);
+	}
+
 	@Test
 	void split_withSlice() {
 		// 测试 null 输入
@@ -0,0 +1,89 @@
+package me.codeplayer.util;
+
+import java.util.*;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Calendar.*;
+
+public class TimeBucketsTest implements WithAssertions {
+
+	static final TimeZone GMT8 = TimeZone.getTimeZone("GMT+8");
+	static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+	@Test
+	public void boundaries() {
+		final long start = EpochDate.of(2020, 1, 31, 10, 30, 0, 0, GMT8).getTime(), end = EpochDate.of(2020, 4, 2, 0, 0, 0, 0, GMT8).getTime();
+		assertThat(toStrings(TimeBuckets.boundaries(start, end, MONTH, GMT8)))
+				.containsExactly("2020-01-01 00:00:00", "2020-02-01 00:00:00", "2020-03-01 00:00:00", "2020-04-01 00:00:00", "2020-05-01 00:00:00");
+		assertThat(toStrings(TimeBuckets.boundaries(start, start, Calendar.DATE, GMT8)))
+				.containsExactly("2020-01-31 00:00:00", "2020-02-01 00:00:00");
+		assertThat(toStrings(TimeBuckets.boundaries(start, start + 3 * EasyDate.MILLIS_OF_HOUR, HOUR_OF_DAY, GMT8)))
+				.containsExactly("2020-01-31 10:00:00", "2020-01-31 11:00:00", "2020-01-31 12:00:00", "2020-01-31 13:00:00", "2020-01-31 14:00:00");
+		// 2020-01-31 是星期五，每周从星期一开始
+		assertThat(toStrings(TimeBuckets.boundaries(start, start + 3 * EasyDate.MILLIS_OF_DAY, WEEK_OF_YEAR, GMT8)))
+				.containsExactly("2020-01-27 00:00:00", "2020-02-03 00:00:00", "2020-02-10 00:00:00");
+		assertThat(toStrings(TimeBuckets.boundaries(start, end, YEAR, GMT8)))
+				.containsExactly("2020-01-01 00:00:00", "2021-01-01 00:00:00");
+
+		assertThatThrownBy(() -> TimeBuckets.boundaries(end, start, Calendar.DATE, GMT8)).isInstanceOf(AssertException.class);
+		assertThatThrownBy(() -> TimeBuckets.boundaries(start, end, ERA, GMT8)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> TimeBuckets.boundaries(0, Long.MAX_VALUE, SECOND, GMT8)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	static String[] toStrings(long[] boundaries) {
+		final String[] strings = new String[boundaries.length];
+		for (int i = 0; i < boundaries.length; i++) {
+			strings[i] = DatePattern.of(EasyDate.DATETIME).format(boundaries[i], GMT8);
+		}
+		return strings;
+	}
+
+	@Test
+	public void daylightSavingTime() {
+		// 2020-03-08 夏令时开始，当天只有 23 个小时
+		final long start = EpochDate.of(2020, 3, 7, 12, 0, 0, 0, NEW_YORK).getTime(), end = EpochDate.of(2020, 3, 9, 12, 0, 0, 0, NEW_YORK).getTime();
+		final TimeBuckets buckets = TimeBuckets.of(start, end, Calendar.DATE, NEW_YORK);
+		assertThat(buckets.size()).isEqualTo(3);
+		assertThat(buckets.fixedStep).isZero();
+		assertThat(buckets.endOf(1) - buckets.startOf(1)).isEqualTo(23 * EasyDate.MILLIS_OF_HOUR);
+		assertThat(buckets.bucketIndex(EpochDate.of(2020, 3, 8, 23, 59, 59, 999, NEW_YORK).getTime())).isEqualTo(1);
+		assertThat(buckets.bucketIndex(EpochDate.of(2020, 3, 9, 0, 0, 0, 0, NEW_YORK).getTime())).isEqualTo(2);
+
+		assertThat(TimeBuckets.of(start, end, Calendar.DATE, GMT8).fixedStep).isEqualTo(EasyDate.MILLIS_OF_DAY);
+	}
+
+	@Test
+	public void bucketIndex() {
+		final Random random = new Random(1);
+		final int[] fields = { YEAR, MONTH, WEEK_OF_YEAR, Calendar.DATE, HOUR_OF_DAY, MINUTE };
+		for (TimeZone timeZone : new TimeZone[] { GMT8, NEW_YORK }) {
+			for (int field : fields) {
+				final long start = 1234567890000L, end = start + (field == MINUTE ? EasyDate.MILLIS_OF_DAY : 800 * EasyDate.MILLIS_OF_DAY);
+				final TimeBuckets buckets = TimeBuckets.of(start, end, field, timeZone);
+				assertThat(buckets.bucketIndex(buckets.startOf(0) - 1)).isEqualTo(-1);
+				assertThat(buckets.bucketIndex(buckets.endOf(buckets.size() - 1))).isEqualTo(-1);
+				for (int i = 0; i < 2000; i++) {
+					final long time = start + (long) (random.nextDouble() * (end - start));
+					final int index = buckets.bucketIndex(time);
+					assertThat(index).isBetween(0, buckets.size() - 1);
+					assertThat(buckets.startOf(index)).isEqualTo(EpochDate.of(time, timeZone).beginOf(field == WEEK_OF_YEAR ? DAY_OF_WEEK : field).getTime());
+					assertThat(buckets.endOf(index)).isGreaterThan(time);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void count() {
+		final long start = EpochDate.of(2020, 1, 1, 0, 0, 0, 0, GMT8).getTime();
+		final TimeBuckets buckets = TimeBuckets.of(start, start + 3 * EasyDate.MILLIS_OF_DAY - 1, Calendar.DATE, GMT8);
+		assertThat(buckets.size()).isEqualTo(3);
+		final long[] times = { start - 1, start, start + 1, start + EasyDate.MILLIS_OF_DAY, start + 3 * EasyDate.MILLIS_OF_DAY - 1, start + 3 * EasyDate.MILLIS_OF_DAY };
+		assertThat(buckets.count(times)).containsExactly(2, 1, 1);
+		assertThat(buckets.getBoundaries()).hasSize(4).isNotSameAs(buckets.boundaries);
+		assertThatThrownBy(() -> buckets.startOf(3)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+}
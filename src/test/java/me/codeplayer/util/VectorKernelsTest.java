@@ -0,0 +1,155 @@
+package me.codeplayer.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 将 {@link VectorKernels} 的各个内核与对应的标量实现进行对比。
+ * <p> 默认情况下测试的是 JDK 8 版本（标量循环）；在 jdk17above 构建配置中，还会将 <code>META-INF/versions/17</code> 置于 classpath 的前面，
+ * 并启用 <code>jdk.incubator.vector</code> 模块，再次运行本测试，以验证向量化版本的正确性。
+ */
+public class VectorKernelsTest {
+
+	static final int ROUNDS = 2000;
+	static final byte[] HEX_BYTES = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+	static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+	static final char[] CUSTOM_CHARS = "ghijklmnopqrstuv".toCharArray();
+
+	@Test
+	public void enabled() {
+		// 由 jdk17above 构建配置设置，确保运行的确实是向量化版本
+		if (Boolean.getBoolean("me.codeplayer.util.vector.required")) {
+			assertTrue(VectorKernels.ENABLED);
+		}
+	}
+
+	/**
+	 * 随机生成长度为 [0, 300) 的字节数组，每个元素的值都在 [0, bound) 范围内（强制转为 byte）
+	 */
+	static byte[] randomBytes(Random random, int bound) {
+		final byte[] bytes = new byte[random.nextInt(300)];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) random.nextInt(bound);
+		}
+		return bytes;
+	}
+
+	@Test
+	public void isASCII() {
+		final Random random = new Random(1);
+		for (int round = 0; round < ROUNDS; round++) {
+			final byte[] bytes = randomBytes(random, 128);
+			if (bytes.length > 0 && random.nextBoolean()) {
+				bytes[random.nextInt(bytes.length)] = (byte) (0x80 | random.nextInt(128));
+			}
+			final int start = random.nextInt(bytes.length + 1), end = start + random.nextInt(bytes.length - start + 1);
+			boolean expected = true;
+			for (int i = start; i < end; i++) {
+				if (bytes[i] < 0) {
+					expected = false;
+					break;
+				}
+			}
+			assertEquals(expected, VectorKernels.isASCII(bytes, start, end));
+		}
+	}
+
+	@Test
+	public void toHex() {
+		final Random random = new Random(2);
+		for (int round = 0; round < ROUNDS; round++) {
+			final byte[] bytes = randomBytes(random, 256);
+			final int start = random.nextInt(bytes.length + 1), end = start + random.nextInt(bytes.length - start + 1);
+			final byte[] expectedLower = new byte[(end - start) << 1], expectedUpper = new byte[expectedLower.length];
+			for (int i = start, pos = 0; i < end; i++, pos += 2) {
+				expectedLower[pos] = HEX_BYTES[(bytes[i] >> 4) & 0xF];
+				expectedLower[pos + 1] = HEX_BYTES[bytes[i] & 0xF];
+				expectedUpper[pos] = (byte) HEX_CHARS[(bytes[i] >> 4) & 0xF];
+				expectedUpper[pos + 1] = (byte) HEX_CHARS[bytes[i] & 0xF];
+			}
+			final byte[] dest = new byte[expectedLower.length];
+			VectorKernels.toHex(bytes, start, end, HEX_BYTES, dest);
+			assertArrayEquals(expectedLower, dest);
+			VectorKernels.toHex(bytes, start, end, HEX_CHARS, dest);
+			assertArrayEquals(expectedUpper, dest);
+			// 非十六进制的映射表
+			final byte[] expectedCustom = new byte[expectedLower.length];
+			for (int i = start, pos = 0; i < end; i++, pos += 2) {
+				expectedCustom[pos] = (byte) CUSTOM_CHARS[(bytes[i] >> 4) & 0xF];
+				expectedCustom[pos + 1] = (byte) CUSTOM_CHARS[bytes[i] & 0xF];
+			}
+			VectorKernels.toHex(bytes, start, end, CUSTOM_CHARS, dest);
+			assertArrayEquals(expectedCustom, dest);
+			VectorKernels.toHex(bytes, start, end, new String(CUSTOM_CHARS).getBytes(StandardCharsets.ISO_8859_1), dest);
+			assertArrayEquals(expectedCustom, dest);
+		}
+	}
+
+	@Test
+	public void indexOfRange() {
+		final Random random = new Random(3);
+		for (int round = 0; round < ROUNDS; round++) {
+			final byte[] bytes = randomBytes(random, 256);
+			final int start = random.nextInt(bytes.length + 1), end = start + random.nextInt(bytes.length - start + 1);
+			final int min = random.nextInt(256), max = min + random.nextInt(256 - min);
+			for (boolean inRange : new boolean[] { true, false }) {
+				int expected = -1;
+				for (int i = start; i < end; i++) {
+					final int b = bytes[i] & 0xFF;
+					if ((b >= min && b <= max) == inRange) {
+						expected = i;
+						break;
+					}
+				}
+				assertEquals(expected, VectorKernels.indexOfRange(bytes, start, end, min, max, inRange));
+			}
+		}
+		// 常用的 "空白字符" 和 "数字" 范围
+		final byte[] blanks = new byte[100];
+		Arrays.fill(blanks, (byte) ' ');
+		assertEquals(-1, VectorKernels.indexOfRange(blanks, 0, 100, 0, ' ', false));
+		blanks[77] = '9';
+		assertEquals(77, VectorKernels.indexOfRange(blanks, 0, 100, 0, ' ', false));
+		assertEquals(77, VectorKernels.indexOfRange(blanks, 0, 100, '0', '9', true));
+	}
+
+	@Test
+	public void indexOf() {
+		final Random random = new Random(4);
+		for (int round = 0; round < ROUNDS; round++) {
+			final int length = random.nextInt(300), bound = 1 + random.nextInt(Math.min(length, 127) + 1); // 确保所有的值都可以无损地转为 byte
+			final byte[] bytes = new byte[length];
+			final char[] chars = new char[length];
+			final int[] ints = new int[length];
+			final long[] longs = new long[length];
+			for (int i = 0; i < length; i++) {
+				final int v = random.nextInt(bound) - 1;
+				bytes[i] = (byte) v;
+				chars[i] = (char) v;
+				ints[i] = v;
+				longs[i] = v * 0x1_0000_0001L; // 高 32 位与低 32 位均参与比较
+			}
+			final int start = random.nextInt(length + 1), end = start + random.nextInt(length - start + 1);
+			final int value = random.nextInt(bound) - 1;
+			int expected = -1;
+			for (int i = start; i < end; i++) {
+				if (ints[i] == value) {
+					expected = i;
+					break;
+				}
+			}
+			assertEquals(expected, VectorKernels.indexOf(bytes, start, end, (byte) value));
+			assertEquals(expected, VectorKernels.indexOf(chars, start, end, (char) value));
+			assertEquals(expected, VectorKernels.indexOf(ints, start, end, value));
+			assertEquals(expected, VectorKernels.indexOf(longs, start, end, value * 0x1_0000_0001L));
+			// 只有低 32 位相同的 long 值不能匹配
+			assertEquals(-1, VectorKernels.indexOf(longs, start, end, value & 0xFFFF_FFFFL | 0x7F00_0000_0000_0000L));
+		}
+	}
+
+}